@@ -0,0 +1,16 @@
+-- LOAN_SCHEDULE 목록 조회용 인덱스 (PostgreSQL)
+-- 목록은 (REG_DATE, ID) 역순 키셋 페이징이므로 모든 인덱스의 끝을 (REG_DATE, ID) 로 맞춰
+-- 필터 조건과 함께 정렬 없이 인덱스 역방향 스캔으로 LIMIT 건만 읽도록 함.
+-- 월별 파티션 전환 후에는 부모 테이블 인덱스가 모든 파티션에 만들어짐 (partition_loan_schedule.sql).
+
+-- 전체 목록 (조건 없음 / 등록일 구간)
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_REG
+    ON LOAN_SCHEDULE (REG_DATE, ID);
+
+-- 상태별 목록 (DRAFT / APPROVED)
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_STATUS_REG
+    ON LOAN_SCHEDULE (STATUS, REG_DATE, ID);
+
+-- 연료 종류별 목록
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_FUEL_REG
+    ON LOAN_SCHEDULE (FUEL_TYPE, REG_DATE, ID);
@@ -0,0 +1,14 @@
+-- 승인 상환 스케줄 스냅샷 (PostgreSQL)
+-- 승인 시점 계산 결과를 LoanScheduleSnapshot 바이너리 형식으로 보관 (대출 1건당 1행, 최초 승인 값 유지)
+-- 대출 삭제 시 함께 삭제됨 (월별 파티션 전환 후에는 FK 가 제거되므로 LoanManageServiceImpl 에서 삭제, partition_loan_schedule.sql).
+CREATE TABLE IF NOT EXISTS LOAN_SCHEDULE_SNAPSHOT (
+    ID              VARCHAR(36)  NOT NULL,
+    FORMAT_VERSION  SMALLINT     NOT NULL,
+    RATE_VERSION    VARCHAR(32)  NOT NULL,
+    SNAPSHOT        BYTEA        NOT NULL,
+    CREATED_AT      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT PK_LOAN_SCHEDULE_SNAPSHOT PRIMARY KEY (ID),
+    CONSTRAINT FK_LOAN_SCHEDULE_SNAPSHOT_ID FOREIGN KEY (ID)
+        REFERENCES LOAN_SCHEDULE (ID) ON DELETE CASCADE
+);
@@ -0,0 +1,58 @@
+-- LOAN_SCHEDULE 월별 파티션 전환 + DRAFT 보관 테이블 (PostgreSQL 12 이상)
+-- 등록일(REG_DATE) 기준 월 범위 파티션(LOAN_SCHEDULE_yyyyMM)과 DEFAULT 파티션으로 나누고,
+-- 기존 행을 옮긴 뒤 기존 테이블을 삭제함. 한 트랜잭션으로 실행 (실행 중 LOAN_SCHEDULE 잠금).
+-- 이후 월 파티션은 애플리케이션(LoanSchedulePartitionServiceImpl)이 LoanCode.PARTITION_MONTHS_AHEAD 개월 앞까지 매일 생성하고,
+-- 등록 후 LoanCode.DRAFT_ARCHIVE_AFTER_DAYS 일이 지난 DRAFT 는 LOAN_SCHEDULE_ARCHIVE 로 옮김.
+BEGIN;
+
+-- 1. 스냅샷 FK 제거
+--    파티션 테이블의 PK/UNIQUE 는 파티션 키를 포함해야 하므로 ID 단독 참조가 불가함 (대출 삭제 시 서비스에서 함께 삭제)
+ALTER TABLE LOAN_SCHEDULE_SNAPSHOT DROP CONSTRAINT IF EXISTS FK_LOAN_SCHEDULE_SNAPSHOT_ID;
+
+-- 2. 기존 테이블/인덱스 이름 변경
+ALTER TABLE LOAN_SCHEDULE RENAME TO LOAN_SCHEDULE_LEGACY;
+ALTER INDEX IF EXISTS IDX_LOAN_SCHEDULE_REG RENAME TO IDX_LOAN_SCHEDULE_LEGACY_REG;
+ALTER INDEX IF EXISTS IDX_LOAN_SCHEDULE_STATUS_REG RENAME TO IDX_LOAN_SCHEDULE_LEGACY_STATUS_REG;
+ALTER INDEX IF EXISTS IDX_LOAN_SCHEDULE_FUEL_REG RENAME TO IDX_LOAN_SCHEDULE_LEGACY_FUEL_REG;
+
+-- 3. 파티션 테이블 (컬럼/NOT NULL/기본값은 기존 테이블과 같음, PK 는 (ID, REG_DATE))
+CREATE TABLE LOAN_SCHEDULE (LIKE LOAN_SCHEDULE_LEGACY INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (REG_DATE);
+ALTER TABLE LOAN_SCHEDULE ADD CONSTRAINT PK_LOAN_SCHEDULE PRIMARY KEY (ID, REG_DATE);
+
+-- 구간 밖 등록일 (파티션 생성 지연 등) 보관용
+CREATE TABLE LOAN_SCHEDULE_DEFAULT PARTITION OF LOAN_SCHEDULE DEFAULT;
+
+-- 4. 월 파티션 (가장 오래된 등록 월 ~ 이번 달 + 3개월)
+DO $$
+DECLARE
+    m      DATE;
+    last_m DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(REG_DATE), now()))::date INTO m FROM LOAN_SCHEDULE_LEGACY;
+    last_m := (date_trunc('month', now()) + interval '3 months')::date;
+    WHILE m <= last_m LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF LOAN_SCHEDULE FOR VALUES FROM (%L) TO (%L)',
+                       'loan_schedule_' || to_char(m, 'YYYYMM'), m, (m + interval '1 month')::date);
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+-- 5. 목록 인덱스 (부모 테이블에 만들면 모든 파티션에 생성됨, create_index_loan_schedule.sql 과 같음)
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_REG ON LOAN_SCHEDULE (REG_DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_STATUS_REG ON LOAN_SCHEDULE (STATUS, REG_DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_FUEL_REG ON LOAN_SCHEDULE (FUEL_TYPE, REG_DATE, ID);
+
+-- 6. 기존 행 이동
+INSERT INTO LOAN_SCHEDULE SELECT * FROM LOAN_SCHEDULE_LEGACY;
+
+-- 7. DRAFT 보관 테이블 (파티션 없음, 조회 대상 아님)
+CREATE TABLE IF NOT EXISTS LOAN_SCHEDULE_ARCHIVE (LIKE LOAN_SCHEDULE_LEGACY INCLUDING DEFAULTS INCLUDING CONSTRAINTS);
+ALTER TABLE LOAN_SCHEDULE_ARCHIVE ADD COLUMN IF NOT EXISTS ARCHIVED_AT TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE LOAN_SCHEDULE_ARCHIVE ADD CONSTRAINT PK_LOAN_SCHEDULE_ARCHIVE PRIMARY KEY (ID);
+
+DROP TABLE LOAN_SCHEDULE_LEGACY;
+
+COMMIT;
+
+ANALYZE LOAN_SCHEDULE;
@@ -0,0 +1,76 @@
+package egovframework.example.loan;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 벤치마크 공통 지원 (Spring 컨텍스트 없이 서비스 구성)
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 세율표/상환일 달력/지표 서비스가 주입된 계산기 서비스 생성
+     */
+    static LoanCalculatorServiceImpl newCalculator() throws Exception {
+        LoanRateTableServiceImpl rateTableService = new LoanRateTableServiceImpl();
+        rateTableService.reload();
+
+        LoanPaymentCalendarServiceImpl paymentCalendarService = new LoanPaymentCalendarServiceImpl();
+        paymentCalendarService.reload();
+
+        return newCalculator(rateTableService, paymentCalendarService);
+    }
+
+    /**
+     * 주어진 세율표/상환일 달력 서비스를 사용하는 계산기 서비스 생성 (다른 서비스와 같은 인스턴스 공유)
+     */
+    static LoanCalculatorServiceImpl newCalculator(LoanRateTableServiceImpl rateTableService,
+            LoanPaymentCalendarServiceImpl paymentCalendarService) throws Exception {
+        LoanCalculatorServiceImpl calculator = new LoanCalculatorServiceImpl();
+        inject(calculator, "loanRateTableService", rateTableService);
+        inject(calculator, "loanPaymentCalendarService", paymentCalendarService);
+        inject(calculator, "loanMetricsService", new LoanMetricsServiceImpl());
+        return calculator;
+    }
+
+    /**
+     * @Resource 필드 주입 (Spring 대신 직접 설정)
+     */
+    static void inject(Object target, String fieldName, Object value) throws Exception {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+
+    /**
+     * 벤치마크 입력 생성 (실행일 고정으로 결과 재현)
+     */
+    static LoanInputVO newInput(int termMonths, double interestRate, String fuelType) {
+        LoanInputVO input = new LoanInputVO();
+        input.setVehiclePrice(45000000);
+        input.setDownPayment(9000000);
+        input.setLoanAmount(36000000);
+        input.setInterestRate(interestRate);
+        input.setTermMonths(termMonths);
+        input.setEngineDisplacement(2199);
+        input.setFuelType(fuelType);
+        input.setEnvChargeSemiAnnual(LoanCode.FUEL_TYPE_DIESEL.equals(fuelType) ? 120000 : 0);
+        input.setStartDate(Date.from(LocalDate.of(2026, 1, 15).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        return input;
+    }
+}
@@ -0,0 +1,34 @@
+package egovframework.example.loan;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행기
+ * GC/할당 프로파일러(-prof gc)를 켜고 결과를 JSON 으로 저장하여 릴리스 간 비교에 사용함.
+ *
+ * 사용법: LoanBenchmarkRunner [결과 파일 경로] [벤치마크 이름 정규식]
+ *   기본값: target/jmh-result.json, egovframework.example.loan.*Benchmark
+ */
+public final class LoanBenchmarkRunner {
+
+    private LoanBenchmarkRunner() {
+        // 인스턴스화 방지
+    }
+
+    public static void main(String[] args) throws Exception {
+        String resultFile = args.length > 0 ? args[0] : "target/jmh-result.json";
+        String include = args.length > 1 ? args[1] : "egovframework.example.loan.*Benchmark";
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile)
+                .build();
+        new Runner(options).run();
+    }
+}
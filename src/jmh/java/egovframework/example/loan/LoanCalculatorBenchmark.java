@@ -0,0 +1,71 @@
+package egovframework.example.loan;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 대출 계산기 벤치마크
+ * 기간(12~120개월), 무이자/유이자, 디젤/가솔린 조합별로 계산 방식(VO 리스트, 요약, 컬럼형, 고정소수점)을 비교함.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanCalculatorBenchmark {
+
+    @Param({ "12", "36", "60", "84", "120" })
+    private int termMonths;
+
+    @Param({ "0", "5.9" })
+    private double interestRate;
+
+    @Param({ LoanCode.FUEL_TYPE_DIESEL, LoanCode.FUEL_TYPE_GASOLINE })
+    private String fuelType;
+
+    private LoanCalculatorServiceImpl calculator;
+    private LoanInputVO input;
+
+    @Setup
+    public void setUp() throws Exception {
+        calculator = BenchmarkSupport.newCalculator();
+        input = BenchmarkSupport.newInput(termMonths, interestRate, fuelType);
+    }
+
+    @TearDown
+    public void tearDown() {
+        calculator.shutdown();
+    }
+
+    @Benchmark
+    public LoanSummaryVO calculateEqualPrincipalAndInterest() {
+        return calculator.calculateEqualPrincipalAndInterest(input);
+    }
+
+    @Benchmark
+    public LoanSummaryVO calculateSummary() {
+        return calculator.calculateSummary(input);
+    }
+
+    @Benchmark
+    public LoanSummaryVO calculateCompact() {
+        return calculator.calculateCompact(input);
+    }
+
+    @Benchmark
+    public LoanSummaryVO calculateFixedPoint() {
+        return calculator.calculateFixedPoint(input);
+    }
+}
@@ -0,0 +1,62 @@
+package egovframework.example.loan;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이자율 × 기간 비교표 벤치마크
+ * 견적 화면 기준 10 × 8 비교표를 한 번에 계산하는 경우와 셀마다 요약 계산을 호출하는 경우를 비교함.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanGridBenchmark {
+
+    private static final double[] RATES = { 2.9, 3.5, 3.9, 4.5, 4.9, 5.5, 5.9, 6.5, 6.9, 7.5 };
+    private static final int[] TERMS = { 12, 24, 36, 48, 60, 72, 84, 96 };
+
+    private LoanCalculatorServiceImpl calculator;
+    private LoanInputVO input;
+
+    @Setup
+    public void setUp() throws Exception {
+        calculator = BenchmarkSupport.newCalculator();
+        input = BenchmarkSupport.newInput(60, 5.9, LoanCode.FUEL_TYPE_DIESEL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        calculator.shutdown();
+    }
+
+    @Benchmark
+    public LoanGridVO calculateGrid() {
+        return calculator.calculateGrid(input, RATES, TERMS);
+    }
+
+    @Benchmark
+    public double calculateSummaryPerCell() {
+        double sum = 0;
+        for (double rate : RATES) {
+            for (int term : TERMS) {
+                input.setInterestRate(rate);
+                input.setTermMonths(term);
+                sum += calculator.calculateSummary(input).getTotalInterest();
+            }
+        }
+        return sum;
+    }
+}
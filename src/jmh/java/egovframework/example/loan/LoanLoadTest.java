@@ -0,0 +1,332 @@
+package egovframework.example.loan;
+
+import java.io.File;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 대출 화면 요청 부하 테스트 (Open-loop)
+ * LoanLoadTestApp 을 기동하여 대출 N 건을 적재한 뒤, 계산/목록/저장/승인 요청을 설정한 비율로 섞어
+ * 고정 도착률(초당 rate 건)로 발생시킴. 요청 발생은 응답을 기다리지 않으므로(open-loop) 처리가 밀리면 대기 시간이 그대로 지연에 포함되고,
+ * 지연은 예정 도착 시각부터 측정함 (coordinated omission 보정). 실제 처리 시작 시각부터의 처리 시간은 별도로 기록함.
+ * 일정 주기로 같은 견적 요청을 한꺼번에 보내는 burst(calculateBurst)를 섞어 견적 캐시 동작을 확인함.
+ * 요청 순서/내용은 seed 로만 결정되므로 같은 설정이면 커밋 간 같은 부하를 재현함.
+ *
+ * 사용법: LoanLoadTest [key=value ...] (-Dloadtest.key=value 도 가능, 인자가 우선)
+ *   rate=200            초당 요청 수 (burst 제외)
+ *   duration=60         측정 시간 (초)
+ *   warmup=10           예열 시간 (초, 결과에서 제외)
+ *   seedLoans=10000     초기 적재 대출 건수 (1/3 승인)
+ *   mix=calculate:50,list:30,save:15,approve:5   요청 비율 (가중치)
+ *   burstEvery=5        같은 견적 burst 주기 (초, 0 이면 사용 안 함)
+ *   burstSize=50        burst 1회 요청 수
+ *   threads=32          요청 처리 스레드 수
+ *   poolSize=10         DB 커넥션 풀 크기
+ *   seed=42             난수 시드
+ *   out=target/loadtest/{yyyyMMdd-HHmmss}   결과 디렉터리 (LoanLoadTestReport)
+ */
+public final class LoanLoadTest {
+
+    static final String CALCULATE = "calculate";
+    static final String CALCULATE_BURST = "calculateBurst";
+    static final String LIST = "list";
+    static final String SAVE = "save";
+    static final String APPROVE = "approve";
+
+    // mix 로 지정 가능한 요청 (calculateBurst 는 burstEvery/burstSize 로 지정)
+    private static final String[] MIX_OPERATIONS = { CALCULATE, LIST, SAVE, APPROVE };
+
+    private static final String PROPERTY_PREFIX = "loadtest.";
+
+    // 견적 입력 후보 (캐시 적중률이 실제 화면 입력과 비슷하도록 값 종류를 제한)
+    private static final double[] VEHICLE_PRICES = { 25000000, 32000000, 38000000, 45000000, 52000000, 68000000, 85000000 };
+    private static final int[] TERMS = { 12, 24, 36, 48, 60, 72, 84 };
+    private static final double[] RATES = { 3.9, 4.5, 4.9, 5.5, 5.9, 6.5, 6.9 };
+    private static final int[] DISPLACEMENTS = { 999, 1598, 1999, 2497, 3342 };
+    private static final String[] FUEL_TYPES = { LoanCode.FUEL_TYPE_GASOLINE, LoanCode.FUEL_TYPE_DIESEL };
+    private static final String[] LIST_STATUSES = { null, LoanCode.STATUS_DRAFT, LoanCode.STATUS_APPROVED };
+
+    private final Properties config;
+    private final String[] mixOperations;
+    private final int[] mixWeights;
+    private final int mixTotal;
+    private final Date startDate = Date.from(LocalDate.of(2026, 1, 15).atStartOfDay(ZoneId.systemDefault()).toInstant());
+
+    private LoanLoadTest(Properties config) {
+        this.config = config;
+        String[] entries = config.getProperty("mix").split(",");
+        mixOperations = new String[entries.length];
+        mixWeights = new int[entries.length];
+        int total = 0;
+        for (int i = 0; i < entries.length; i++) {
+            String[] pair = entries[i].trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix entry must be operation:weight: " + entries[i]);
+            }
+            mixOperations[i] = operation(pair[0].trim());
+            mixWeights[i] = Integer.parseInt(pair[1].trim());
+            if (mixWeights[i] < 0) {
+                throw new IllegalArgumentException("mix weight must not be negative: " + entries[i]);
+            }
+            total += mixWeights[i];
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("mix weights must not all be zero");
+        }
+        mixTotal = total;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Properties config = defaults();
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PROPERTY_PREFIX)) {
+                config.setProperty(name.substring(PROPERTY_PREFIX.length()), System.getProperty(name));
+            }
+        }
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("argument must be key=value: " + arg);
+            }
+            config.setProperty(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        new LoanLoadTest(config).run();
+    }
+
+    private static Properties defaults() {
+        Properties config = new Properties();
+        config.setProperty("rate", "200");
+        config.setProperty("duration", "60");
+        config.setProperty("warmup", "10");
+        config.setProperty("seedLoans", "10000");
+        config.setProperty("mix", "calculate:50,list:30,save:15,approve:5");
+        config.setProperty("burstEvery", "5");
+        config.setProperty("burstSize", "50");
+        config.setProperty("threads", "32");
+        config.setProperty("poolSize", "10");
+        config.setProperty("seed", "42");
+        config.setProperty("out", "target/loadtest/" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        return config;
+    }
+
+    private void run() throws Exception {
+        double rate = Double.parseDouble(config.getProperty("rate"));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(config.getProperty("duration")));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(config.getProperty("warmup")));
+        long burstEveryNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(config.getProperty("burstEvery")));
+        int burstSize = Integer.parseInt(config.getProperty("burstSize"));
+        int threads = Integer.parseInt(config.getProperty("threads"));
+        if (rate <= 0 || durationNanos <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("rate, duration and threads must be positive");
+        }
+        SplittableRandom random = new SplittableRandom(Long.parseLong(config.getProperty("seed")));
+
+        LoanLoadTestReport report = new LoanLoadTestReport(new File(config.getProperty("out")));
+        try (LoanLoadTestApp app = LoanLoadTestApp.start(Integer.parseInt(config.getProperty("poolSize")))) {
+            // 초기 데이터 (요청 난수와 같은 스트림에서 먼저 생성하여 재현)
+            int seedLoans = Integer.parseInt(config.getProperty("seedLoans"));
+            List<LoanManageVO> loans = new ArrayList<>(seedLoans);
+            for (int i = 0; i < seedLoans; i++) {
+                loans.add(newLoan(random, i % 3 == 0 ? LoanCode.STATUS_APPROVED : LoanCode.STATUS_DRAFT));
+            }
+            long seedStarted = System.nanoTime();
+            List<String> draftIds = app.seed(loans);
+            System.out.printf("seeded %d loans in %d ms%n", seedLoans,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - seedStarted));
+
+            ExecutorService workers = Executors.newFixedThreadPool(threads, new WorkerFactory());
+            long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+            long measureFrom = start + warmupNanos;
+            long end = measureFrom + durationNanos;
+            long nextBurst = burstEveryNanos > 0 ? start + burstEveryNanos : Long.MAX_VALUE;
+            long scheduled = 0;
+
+            for (long i = 0; ; i++) {
+                long intended = start + (long) (i * 1e9 / rate);
+                if (intended >= end) {
+                    break;
+                }
+                while (nextBurst <= intended) {
+                    // 같은 견적 요청을 같은 예정 시각에 한꺼번에 발생
+                    LoanInputVO quote = newQuote(random);
+                    parkUntil(nextBurst);
+                    for (int b = 0; b < burstSize; b++) {
+                        submit(workers, report, app, CALCULATE_BURST, copyOf(quote), nextBurst, nextBurst >= measureFrom);
+                    }
+                    scheduled += burstSize;
+                    nextBurst += burstEveryNanos;
+                }
+                String operation = nextOperation(random);
+                Object payload = newPayload(operation, random, draftIds);
+                parkUntil(intended);
+                submit(workers, report, app, operation, payload, intended, intended >= measureFrom);
+                scheduled++;
+            }
+
+            workers.shutdown();
+            if (!workers.awaitTermination(5, TimeUnit.MINUTES)) {
+                workers.shutdownNow();
+                System.err.println("requests still running after 5 minutes, results are incomplete");
+            }
+            report.write(config, durationNanos, scheduled);
+        }
+    }
+
+    private void submit(ExecutorService workers, LoanLoadTestReport report, LoanLoadTestApp app,
+            String operation, Object payload, long intended, boolean measured) {
+        workers.execute(() -> {
+            long started = System.nanoTime();
+            boolean ok = true;
+            try {
+                execute(app, operation, payload);
+            } catch (Exception e) {
+                ok = false;
+                report.error(operation, e);
+            }
+            if (measured) {
+                long finished = System.nanoTime();
+                report.record(operation, finished - intended, finished - started, ok);
+            }
+        });
+    }
+
+    private static void execute(LoanLoadTestApp app, String operation, Object payload) throws Exception {
+        switch (operation) {
+            case CALCULATE:
+            case CALCULATE_BURST:
+                app.calculate((LoanInputVO) payload);
+                break;
+            case LIST:
+                app.list((LoanManageVO) payload);
+                break;
+            case SAVE:
+                app.save((LoanManageVO) payload);
+                break;
+            case APPROVE:
+                app.approve((String) payload);
+                break;
+            default:
+                throw new IllegalArgumentException("operation: " + operation);
+        }
+    }
+
+    private String nextOperation(SplittableRandom random) {
+        int pick = random.nextInt(mixTotal);
+        for (int i = 0; i < mixWeights.length; i++) {
+            pick -= mixWeights[i];
+            if (pick < 0) {
+                return mixOperations[i];
+            }
+        }
+        return mixOperations[mixOperations.length - 1];
+    }
+
+    private Object newPayload(String operation, SplittableRandom random, List<String> draftIds) {
+        switch (operation) {
+            case CALCULATE:
+                return newQuote(random);
+            case LIST:
+                LoanManageVO searchVO = new LoanManageVO();
+                searchVO.setSearchStatus(LIST_STATUSES[random.nextInt(LIST_STATUSES.length)]);
+                if (random.nextInt(4) == 0) {
+                    searchVO.setSearchFuelType(FUEL_TYPES[random.nextInt(FUEL_TYPES.length)]);
+                }
+                return searchVO;
+            case SAVE:
+                return newLoan(random, LoanCode.STATUS_DRAFT);
+            case APPROVE:
+                // 적재된 DRAFT 중 선택 (이미 승인된 건의 재승인도 실제 화면에서 발생 가능한 요청)
+                return draftIds.isEmpty() ? "" : draftIds.get(random.nextInt(draftIds.size()));
+            default:
+                throw new IllegalArgumentException("operation: " + operation);
+        }
+    }
+
+    private LoanInputVO newQuote(SplittableRandom random) {
+        LoanInputVO input = new LoanInputVO();
+        fill(input, random);
+        return input;
+    }
+
+    private LoanManageVO newLoan(SplittableRandom random, String status) {
+        LoanManageVO loan = new LoanManageVO();
+        fill(loan, random);
+        loan.setStatus(status);
+        return loan;
+    }
+
+    private void fill(LoanInputVO input, SplittableRandom random) {
+        double price = VEHICLE_PRICES[random.nextInt(VEHICLE_PRICES.length)];
+        double downPayment = price * (random.nextInt(4) * 10) / 100;
+        String fuelType = FUEL_TYPES[random.nextInt(FUEL_TYPES.length)];
+        input.setVehiclePrice(price);
+        input.setDownPayment(downPayment);
+        input.setLoanAmount(price - downPayment);
+        input.setInterestRate(RATES[random.nextInt(RATES.length)]);
+        input.setTermMonths(TERMS[random.nextInt(TERMS.length)]);
+        input.setEngineDisplacement(DISPLACEMENTS[random.nextInt(DISPLACEMENTS.length)]);
+        input.setFuelType(fuelType);
+        input.setEnvChargeSemiAnnual(LoanCode.FUEL_TYPE_DIESEL.equals(fuelType) ? 120000 : 0);
+        input.setStartDate(startDate);
+    }
+
+    /**
+     * burst 요청별 입력 복사 (요청 처리 중 입력 객체가 변경되어도 서로 영향 없도록)
+     */
+    private static LoanInputVO copyOf(LoanInputVO source) {
+        LoanInputVO input = new LoanInputVO();
+        input.setVehiclePrice(source.getVehiclePrice());
+        input.setDownPayment(source.getDownPayment());
+        input.setLoanAmount(source.getLoanAmount());
+        input.setInterestRate(source.getInterestRate());
+        input.setTermMonths(source.getTermMonths());
+        input.setEngineDisplacement(source.getEngineDisplacement());
+        input.setFuelType(source.getFuelType());
+        input.setEnvChargeSemiAnnual(source.getEnvChargeSemiAnnual());
+        input.setStartDate(source.getStartDate());
+        return input;
+    }
+
+    private static String operation(String name) {
+        for (String operation : MIX_OPERATIONS) {
+            if (operation.equalsIgnoreCase(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("unknown operation: " + name + " (expected " + String.join(", ", MIX_OPERATIONS) + ")");
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * 요청 처리 스레드 (데몬, 이름 순번)
+     */
+    private static final class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, "loan-loadtest-" + sequence.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package egovframework.example.loan;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.springframework.ui.ModelMap;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 부하 테스트용 애플리케이션 (프로세스 내 실행)
+ * 운영 SQL(LoanManage_SQL.xml)과 로컬 스키마(loan_schedule_h2.sql)로 H2 (PostgreSQL 호환 모드) 메모리 DB 를 만들고,
+ * 운영 서비스/컨트롤러 클래스를 직접 연결하여 요청 1건을 컨트롤러 메서드 호출 1회로 처리함 (JSP 렌더링 제외).
+ * 매퍼는 호출마다 세션을 열고 커밋하는 SqlSessionManager 를 사용하므로 여러 스레드에서 동시에 호출 가능.
+ * 읽기/쓰기 분리 없이 DB 1개(HikariCP 풀 1개)를 사용하며, @Transactional 은 적용되지 않음 (구문 단위 커밋).
+ * 이 제한은 결과에도 남김 (LIMITATIONS - 콘솔 출력, run.properties 의 harness.limitations).
+ */
+final class LoanLoadTestApp implements AutoCloseable {
+
+    // 운영 구성과 다른 점 (결과 해석 시 참고)
+    static final String LIMITATIONS = "no Spring proxies: @Transactional is not applied, every statement commits on its own"
+            + " (approve and its snapshot insert are not atomic, after-commit portfolio updates run immediately);"
+            + " single H2 database in PostgreSQL mode (no primary/replica routing)";
+
+    private static final String MAPPER_RESOURCE = "egovframework/sqlmap/example/mappers/LoanManage_SQL.xml";
+    private static final String SCHEMA_RESOURCE = "classpath:/egovframework/loan/local/loan_schedule_h2.sql";
+
+    private final HikariDataSource dataSource;
+    private final LoanManageServiceImpl loanManageService;
+    private final LoanController loanController;
+    private final LoanManageController loanManageController;
+
+    private LoanLoadTestApp(HikariDataSource dataSource, LoanManageServiceImpl loanManageService,
+            LoanController loanController, LoanManageController loanManageController) {
+        this.dataSource = dataSource;
+        this.loanManageService = loanManageService;
+        this.loanController = loanController;
+        this.loanManageController = loanManageController;
+    }
+
+    /**
+     * 메모리 DB 생성 및 서비스/컨트롤러 연결
+     * @param poolSize 커넥션 풀 크기
+     */
+    static LoanLoadTestApp start(int poolSize) throws Exception {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("loadtest");
+        config.setJdbcUrl("jdbc:h2:mem:loanload;MODE=PostgreSQL;DATABASE_TO_UPPER=TRUE;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("RUNSCRIPT FROM '" + SCHEMA_RESOURCE + "' CHARSET 'UTF-8'");
+        }
+
+        Configuration configuration = new Configuration(new Environment("loadtest", new JdbcTransactionFactory(), dataSource));
+        configuration.setDatabaseId("h2"); // LoanManage_SQL.xml 의 H2 분기 (ON CONFLICT 대상 생략)
+        try (InputStream in = Resources.getResourceAsStream(MAPPER_RESOURCE)) {
+            new XMLMapperBuilder(in, configuration, MAPPER_RESOURCE, configuration.getSqlFragments()).parse();
+        }
+        LoanManageMapper mapper = SqlSessionManager.newInstance(new SqlSessionFactoryBuilder().build(configuration))
+                .getMapper(LoanManageMapper.class);
+
+        LoanRateTableServiceImpl rateTableService = new LoanRateTableServiceImpl();
+        rateTableService.reload();
+        LoanPaymentCalendarServiceImpl paymentCalendarService = new LoanPaymentCalendarServiceImpl();
+        paymentCalendarService.reload();
+        LoanCalculatorServiceImpl calculator = BenchmarkSupport.newCalculator(rateTableService, paymentCalendarService);
+
+        LoanPortfolioServiceImpl portfolioService = new LoanPortfolioServiceImpl();
+        BenchmarkSupport.inject(portfolioService, "loanManageMapper", mapper);
+        BenchmarkSupport.inject(portfolioService, "loanCalculatorService", calculator);
+        BenchmarkSupport.inject(portfolioService, "loanPaymentCalendarService", paymentCalendarService);
+
+        LoanManageServiceImpl manageService = new LoanManageServiceImpl();
+        BenchmarkSupport.inject(manageService, "loanManageMapper", mapper);
+        BenchmarkSupport.inject(manageService, "loanCalculatorService", calculator);
+        BenchmarkSupport.inject(manageService, "loanPortfolioService", portfolioService);
+        BenchmarkSupport.inject(manageService, "loanRateTableService", rateTableService);
+        BenchmarkSupport.inject(manageService, "loanPaymentCalendarService", paymentCalendarService);
+
+        LoanController loanController = new LoanController();
+        BenchmarkSupport.inject(loanController, "loanCalculatorService", calculator);
+        BenchmarkSupport.inject(loanController, "loanMetricsService", new LoanMetricsServiceImpl());
+
+        LoanManageController manageController = new LoanManageController();
+        BenchmarkSupport.inject(manageController, "loanManageService", manageService);
+        BenchmarkSupport.inject(manageController, "loanCalculatorService", calculator);
+        BenchmarkSupport.inject(manageController, "loanPortfolioService", portfolioService);
+
+        return new LoanLoadTestApp(dataSource, manageService, loanController, manageController);
+    }
+
+    /**
+     * 초기 데이터 적재 (다건 저장 경로 사용)
+     * @return 저장된 DRAFT 대출 ID (승인 요청 대상)
+     */
+    List<String> seed(List<LoanManageVO> loans) throws Exception {
+        List<String> draftIds = new ArrayList<>();
+        for (LoanBulkResultVO result : loanManageService.saveLoanSchedules(loans)) {
+            if (!LoanBulkResultVO.RESULT_SUCCESS.equals(result.getResult())) {
+                throw new IllegalStateException("seed failed at " + result.getIndex() + ": " + result.getErrorMessage());
+            }
+            if (LoanCode.STATUS_DRAFT.equals(loans.get(result.getIndex()).getStatus())) {
+                draftIds.add(result.getId());
+            }
+        }
+        return draftIds;
+    }
+
+    /** /loan/calculate.do */
+    String calculate(LoanInputVO input) throws Exception {
+        return loanController.calculateLoan(input, new ModelMap());
+    }
+
+    /** /loan/list.do */
+    String list(LoanManageVO searchVO) throws Exception {
+        return loanManageController.selectLoanList(searchVO, new ModelMap());
+    }
+
+    /** /loan/save.do */
+    String save(LoanManageVO loanVO) throws Exception {
+        return loanManageController.saveLoan(loanVO, new ModelMap());
+    }
+
+    /** /loan/approve.do */
+    String approve(String id) throws Exception {
+        return loanManageController.approveLoan(id, new ModelMap());
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+}
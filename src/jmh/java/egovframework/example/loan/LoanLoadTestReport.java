@@ -0,0 +1,150 @@
+package egovframework.example.loan;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+/**
+ * 부하 테스트 결과 (HdrHistogram)
+ * 요청 종류별로 지연(예정 도착 시각 기준)과 처리 시간(처리 시작 시각 기준)을 나노초 단위 HDR 히스토그램에 기록하고,
+ * 종료 시 결과 디렉터리에 다음 파일을 만듦 (커밋 간 비교용).
+ *   {요청}.hgrm, {요청}-service.hgrm - 백분위 분포 (ms, HdrHistogram Plotter 형식)
+ *   latency.hlog                     - 요청별 태그를 붙인 히스토그램 로그 (HistogramLogProcessor 로 합산/비교)
+ *   summary.csv                      - 요청별 건수, 오류, 처리량, p50/p90/p99/p99.9/최대 지연 (ms)
+ *   run.properties                   - 실행 설정 (seed 포함, 같은 설정으로 재실행 가능), 하네스 제한 (harness.limitations)
+ */
+final class LoanLoadTestReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final File outputDir;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final long startedMillis = System.currentTimeMillis();
+
+    LoanLoadTestReport(File outputDir) {
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * 요청 1건 기록 (측정 구간 요청만)
+     * @param latencyNanos 예정 도착 시각 → 완료
+     * @param serviceNanos 처리 시작 → 완료
+     */
+    void record(String operation, long latencyNanos, long serviceNanos, boolean ok) {
+        Stats s = stats(operation);
+        s.latency.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        s.service.recordValue(Math.min(serviceNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!ok) {
+            s.errors.increment();
+        }
+    }
+
+    /**
+     * 요청 오류 (요청 종류별 첫 오류만 출력)
+     */
+    void error(String operation, Exception e) {
+        if (stats(operation).errorLogged.compareAndSet(false, true)) {
+            System.err.println(operation + " failed: " + e);
+        }
+    }
+
+    /**
+     * 결과 파일 작성 및 요약 출력
+     * @param durationNanos 측정 시간
+     * @param scheduled 예열 포함 발생 요청 수
+     */
+    void write(Properties config, long durationNanos, long scheduled) throws IOException {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("cannot create " + outputDir);
+        }
+        Map<String, Stats> sorted = new TreeMap<>(stats);
+        double seconds = durationNanos / 1e9;
+
+        try (PrintStream hlog = new PrintStream(new FileOutputStream(new File(outputDir, "latency.hlog")), false, "UTF-8")) {
+            HistogramLogWriter logWriter = new HistogramLogWriter(hlog);
+            logWriter.outputComment("loan load test, seed=" + config.getProperty("seed"));
+            logWriter.outputLogFormatVersion();
+            logWriter.outputStartTime(startedMillis);
+            logWriter.outputLegend();
+            for (Map.Entry<String, Stats> entry : sorted.entrySet()) {
+                Histogram latency = entry.getValue().latency.copy();
+                latency.setTag(entry.getKey());
+                latency.setStartTimeStamp(startedMillis);
+                latency.setEndTimeStamp(System.currentTimeMillis());
+                logWriter.outputIntervalHistogram(latency);
+            }
+        }
+
+        try (Writer csv = new OutputStreamWriter(new FileOutputStream(new File(outputDir, "summary.csv")), StandardCharsets.UTF_8)) {
+            csv.write("operation,count,errors,throughput_per_sec,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,service_p99_ms\n");
+            System.out.println("harness limitations: " + LoanLoadTestApp.LIMITATIONS);
+            System.out.printf("%-15s %8s %7s %10s %9s %9s %9s %9s %9s %12s%n", "operation", "count", "errors",
+                    "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "svc p99(ms)");
+            for (Map.Entry<String, Stats> entry : sorted.entrySet()) {
+                String operation = entry.getKey();
+                Stats s = entry.getValue();
+                writePercentiles(new File(outputDir, operation + ".hgrm"), s.latency);
+                writePercentiles(new File(outputDir, operation + "-service.hgrm"), s.service);
+
+                long count = s.latency.getTotalCount();
+                csv.write(String.format("%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n", operation, count, s.errors.sum(),
+                        count / seconds, millis(s.latency, 50), millis(s.latency, 90), millis(s.latency, 99),
+                        millis(s.latency, 99.9), s.latency.getMaxValue() / NANOS_PER_MILLI, millis(s.service, 99)));
+                System.out.printf("%-15s %8d %7d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f %12.3f%n", operation, count,
+                        s.errors.sum(), count / seconds, millis(s.latency, 50), millis(s.latency, 90), millis(s.latency, 99),
+                        millis(s.latency, 99.9), s.latency.getMaxValue() / NANOS_PER_MILLI, millis(s.service, 99));
+            }
+        }
+
+        Properties run = new Properties();
+        run.putAll(config);
+        run.setProperty("scheduledRequests", Long.toString(scheduled));
+        run.setProperty("java.version", System.getProperty("java.version"));
+        run.setProperty("availableProcessors", Integer.toString(Runtime.getRuntime().availableProcessors()));
+        run.setProperty("harness.limitations", LoanLoadTestApp.LIMITATIONS);
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(new File(outputDir, "run.properties")), StandardCharsets.UTF_8)) {
+            run.store(out, "loan load test");
+        }
+        System.out.println("results: " + outputDir.getAbsolutePath());
+    }
+
+    private Stats stats(String operation) {
+        return stats.computeIfAbsent(operation, k -> new Stats());
+    }
+
+    private static void writePercentiles(File file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file), false, "UTF-8")) {
+            histogram.outputPercentileDistribution(out, 5, NANOS_PER_MILLI);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * 요청 종류별 기록 (여러 처리 스레드에서 동시에 기록)
+     */
+    private static final class Stats {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final ConcurrentHistogram service = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+        private final AtomicBoolean errorLogged = new AtomicBoolean();
+    }
+}
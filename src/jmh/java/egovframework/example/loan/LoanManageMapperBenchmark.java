@@ -0,0 +1,155 @@
+package egovframework.example.loan;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * LoanManageMapper 왕복 벤치마크
+ * 운영 SQL(LoanManage_SQL.xml)을 그대로 읽어 H2 (PostgreSQL 호환 모드) 메모리 DB 에 대해 실행함.
+ * RETURNING 을 쓰는 updateLoanStatusList 는 H2 미지원으로 제외함.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanManageMapperBenchmark {
+
+    private static final String MAPPER_RESOURCE = "egovframework/sqlmap/example/mappers/LoanManage_SQL.xml";
+    private static final String SCHEMA_RESOURCE = "loan_schedule_h2.sql";
+
+    @Param({ "10000" })
+    private int seedRows;
+
+    private SqlSession session;
+    private LoanManageMapper mapper;
+    private List<String> ids;
+
+    @Setup
+    public void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:loanbench;MODE=PostgreSQL;DATABASE_TO_UPPER=TRUE;DB_CLOSE_DELAY=-1");
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute(readResource(SCHEMA_RESOURCE));
+        }
+
+        Configuration configuration = new Configuration(new Environment("bench", new JdbcTransactionFactory(), dataSource));
+        try (InputStream in = Resources.getResourceAsStream(MAPPER_RESOURCE)) {
+            new XMLMapperBuilder(in, configuration, MAPPER_RESOURCE, configuration.getSqlFragments()).parse();
+        }
+        SqlSessionFactory factory = new SqlSessionFactoryBuilder().build(configuration);
+        session = factory.openSession(true); // autocommit
+        mapper = session.getMapper(LoanManageMapper.class);
+
+        // 초기 데이터 적재
+        ids = new ArrayList<>(seedRows);
+        List<LoanManageVO> chunk = new ArrayList<>(LoanCode.BULK_CHUNK_SIZE);
+        for (int i = 0; i < seedRows; i++) {
+            LoanManageVO vo = newLoan(i % 3 == 0 ? LoanCode.STATUS_APPROVED : LoanCode.STATUS_DRAFT);
+            ids.add(vo.getId());
+            chunk.add(vo);
+            if (chunk.size() == LoanCode.BULK_CHUNK_SIZE) {
+                mapper.insertLoanScheduleList(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            mapper.insertLoanScheduleList(chunk);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        try (Statement stmt = session.getConnection().createStatement()) {
+            stmt.execute("DROP ALL OBJECTS");
+        }
+        session.close();
+    }
+
+    @Benchmark
+    public void insertLoanSchedule() throws Exception {
+        mapper.insertLoanSchedule(newLoan(LoanCode.STATUS_DRAFT));
+    }
+
+    @Benchmark
+    public LoanManageVO selectLoanSchedule() throws Exception {
+        return mapper.selectLoanSchedule(LoanScheduleIds.key(ids.get(ThreadLocalRandom.current().nextInt(ids.size()))));
+    }
+
+    @Benchmark
+    public List<LoanManageVO> selectLoanScheduleListFirstPage() throws Exception {
+        LoanManageVO searchVO = new LoanManageVO();
+        searchVO.setPageSize(LoanCode.LIST_PAGE_SIZE_DEFAULT);
+        return mapper.selectLoanScheduleList(searchVO);
+    }
+
+    @Benchmark
+    public List<LoanManageVO> selectLoanScheduleListApproved() throws Exception {
+        LoanManageVO searchVO = new LoanManageVO();
+        searchVO.setSearchStatus(LoanCode.STATUS_APPROVED);
+        searchVO.setPageSize(LoanCode.LIST_PAGE_SIZE_DEFAULT);
+        return mapper.selectLoanScheduleList(searchVO);
+    }
+
+    private static LoanManageVO newLoan(String status) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LoanManageVO vo = new LoanManageVO();
+        long now = System.currentTimeMillis();
+        vo.setId(LoanScheduleIds.newId(now));
+        vo.setVehiclePrice(30000000 + random.nextInt(50000000));
+        vo.setDownPayment(5000000);
+        vo.setLoanAmount(vo.getVehiclePrice() - vo.getDownPayment());
+        vo.setEngineDisplacement(1598 + random.nextInt(2000));
+        vo.setFuelType(random.nextBoolean() ? LoanCode.FUEL_TYPE_DIESEL : LoanCode.FUEL_TYPE_GASOLINE);
+        vo.setEnvChargeSemiAnnual(LoanCode.FUEL_TYPE_DIESEL.equals(vo.getFuelType()) ? 120000 : 0);
+        vo.setInterestRate(3.9 + random.nextInt(40) / 10.0);
+        vo.setTermMonths(12 * (1 + random.nextInt(7)));
+        vo.setStartDate(new Date());
+        vo.setRegDate(new Date(now));
+        vo.setStatus(status);
+        return vo;
+    }
+
+    private static String readResource(String name) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        try (Reader reader = new InputStreamReader(Resources.getResourceAsStream(name), StandardCharsets.UTF_8)) {
+            char[] buf = new char[4096];
+            int n;
+            while ((n = reader.read(buf)) > 0) {
+                sb.append(buf, 0, n);
+            }
+        }
+        return sb.toString();
+    }
+}
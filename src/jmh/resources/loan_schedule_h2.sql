@@ -0,0 +1,17 @@
+-- 벤치마크용 LOAN_SCHEDULE 테이블 (H2, PostgreSQL 호환 모드)
+CREATE TABLE LOAN_SCHEDULE (
+    ID                  VARCHAR(36)      NOT NULL PRIMARY KEY,
+    VEHICLE_PRICE       DOUBLE PRECISION NOT NULL,
+    DOWN_PAYMENT        DOUBLE PRECISION NOT NULL,
+    ENGINE_DISPLACEMENT INTEGER          NOT NULL,
+    FUEL_TYPE           VARCHAR(20)      NOT NULL,
+    ENV_CHARGE          DOUBLE PRECISION NOT NULL,
+    LOAN_AMOUNT         DOUBLE PRECISION NOT NULL,
+    INTEREST_RATE       DOUBLE PRECISION NOT NULL,
+    TERM_MONTHS         INTEGER          NOT NULL,
+    START_DATE          TIMESTAMP        NOT NULL,
+    REG_DATE            TIMESTAMP        NOT NULL,
+    STATUS              VARCHAR(20)      NOT NULL
+);
+CREATE INDEX IDX_LOAN_SCHEDULE_REG ON LOAN_SCHEDULE (REG_DATE, ID);
+CREATE INDEX IDX_LOAN_SCHEDULE_STATUS_REG ON LOAN_SCHEDULE (STATUS, REG_DATE, ID);
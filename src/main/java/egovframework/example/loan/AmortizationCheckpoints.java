@@ -0,0 +1,136 @@
+package egovframework.example.loan;
+
+import java.time.LocalDate;
+
+/**
+ * 상환 스케줄 체크포인트 (Sparse Checkpoints)
+ * 회차별 이자 절사 때문에 닫힌 공식(annuity balance)으로는 원 단위까지 일치시킬 수 없으므로,
+ * 순차 계산 중 CHECKPOINT_INTERVAL 회차마다 잔액과 상환일만 보관해 두고
+ * 임의 회차 조회 시 가장 가까운 체크포인트부터 같은 double 연산을 재실행함.
+ * 따라서 조회 비용은 회차 위치와 무관하게 최대 CHECKPOINT_INTERVAL 회 반복으로 제한되며 결과는 순차 계산과 동일함.
+ */
+public final class AmortizationCheckpoints {
+
+    private final int termMonths;          // 대출 기간 (개월)
+    private final double monthlyRate;      // 월 이자율
+    private final double monthlyPayment;   // 월 납입금 (마지막 회차 보정 전)
+    private final double monthlyTax;       // 월 자동차세
+    private final double monthlyEnvCharge; // 월 환경개선부담금
+    private final int interval;            // 체크포인트 간격 (회차)
+    private final double[] balance;        // 체크포인트 j: (j * interval + 1) 회차 직전 잔액
+    private final int[] epochDay;          // 체크포인트 j: (j * interval) 회차 상환일 (j = 0 은 대출 실행일)
+    private final double[] interestPaid;   // 체크포인트 j: (j * interval) 회차까지 누적 이자
+
+    private AmortizationCheckpoints(int termMonths, double monthlyRate, double monthlyPayment,
+            double monthlyTax, double monthlyEnvCharge, int interval) {
+        this.termMonths = termMonths;
+        this.monthlyRate = monthlyRate;
+        this.monthlyPayment = monthlyPayment;
+        this.monthlyTax = monthlyTax;
+        this.monthlyEnvCharge = monthlyEnvCharge;
+        this.interval = interval;
+        int count = (termMonths - 1) / interval + 1;
+        this.balance = new double[count];
+        this.epochDay = new int[count];
+        this.interestPaid = new double[count];
+    }
+
+    /**
+     * 체크포인트 생성 (전체 회차를 1회 순차 계산, 회차별 객체 생성 없음)
+     */
+    static AmortizationCheckpoints build(double loanAmount, double monthlyRate, double monthlyPayment, int termMonths,
+            long startEpochDay, double monthlyTax, double monthlyEnvCharge, int interval) {
+        AmortizationCheckpoints cp = new AmortizationCheckpoints(termMonths, monthlyRate, monthlyPayment,
+                monthlyTax, monthlyEnvCharge, interval);
+        double currentBalance = loanAmount;
+        double totalInterest = 0;
+        LocalDate day = LocalDate.ofEpochDay(startEpochDay);
+        for (int i = 1; i <= termMonths; i++) {
+            if ((i - 1) % interval == 0) {
+                int j = (i - 1) / interval;
+                cp.balance[j] = currentBalance;
+                cp.epochDay[j] = (int) day.toEpochDay();
+                cp.interestPaid[j] = totalInterest;
+            }
+            if (i == termMonths) {
+                break; // 마지막 회차 이후 상태는 보관하지 않음
+            }
+            double interestPayment = Math.floor(currentBalance * monthlyRate);
+            currentBalance -= monthlyPayment - interestPayment;
+            totalInterest += interestPayment;
+            day = day.plusMonths(1);
+        }
+        return cp;
+    }
+
+    /**
+     * 회차 구간 계산 (fromRound ~ toRound, 1부터 시작, 양 끝 포함)
+     * @return 컬럼형 스케줄 (구간이 유효하지 않으면 빈 스케줄)
+     */
+    public CompactAmortizationSchedule rounds(int fromRound, int toRound) {
+        int from = Math.max(1, fromRound);
+        int to = Math.min(termMonths, toRound);
+        if (from > to) {
+            return new CompactAmortizationSchedule(0);
+        }
+        CompactAmortizationSchedule schedule = new CompactAmortizationSchedule(to - from + 1);
+
+        // 구간 시작 회차 이전의 가장 가까운 체크포인트에서 재계산
+        int j = (from - 1) / interval;
+        double currentBalance = balance[j];
+        LocalDate day = LocalDate.ofEpochDay(epochDay[j]);
+        for (int i = j * interval + 1; i <= to; i++) {
+            double interestPayment = Math.floor(currentBalance * monthlyRate);
+            double principalPayment = monthlyPayment - interestPayment;
+            if (i == termMonths) {
+                principalPayment = currentBalance; // 마지막 달 보정
+            }
+            currentBalance -= principalPayment;
+            day = day.plusMonths(1);
+            if (i >= from) {
+                schedule.add(i, day.toEpochDay(), (long) principalPayment, (long) interestPayment,
+                        (long) Math.max(0, currentBalance), (long) monthlyTax, (long) monthlyEnvCharge);
+            }
+        }
+        return schedule;
+    }
+
+    /**
+     * 지정 회차 직전 상태 (round - 1 회차 상환 후 잔액, 상환일, 누적 이자)
+     * @param round 회차 (1 ~ termMonths)
+     */
+    State stateBefore(int round) {
+        int j = (round - 1) / interval;
+        double currentBalance = balance[j];
+        double totalInterest = interestPaid[j];
+        LocalDate day = LocalDate.ofEpochDay(epochDay[j]);
+        for (int i = j * interval + 1; i < round; i++) {
+            double interestPayment = Math.floor(currentBalance * monthlyRate);
+            currentBalance -= monthlyPayment - interestPayment;
+            totalInterest += interestPayment;
+            day = day.plusMonths(1);
+        }
+        return new State(currentBalance, day, totalInterest);
+    }
+
+    public int getTermMonths() { return termMonths; }
+    public double getMonthlyRate() { return monthlyRate; }
+    public double getMonthlyPayment() { return monthlyPayment; }
+    public double getMonthlyTax() { return monthlyTax; }
+    public double getMonthlyEnvCharge() { return monthlyEnvCharge; }
+
+    /**
+     * 회차 직전 상태 (불변)
+     */
+    static final class State {
+        final double balance;       // 잔액
+        final LocalDate day;        // 직전 회차 상환일 (1회차 이전은 대출 실행일)
+        final double interestPaid;  // 누적 이자
+
+        State(double balance, LocalDate day, double interestPaid) {
+            this.balance = balance;
+            this.day = day;
+            this.interestPaid = interestPaid;
+        }
+    }
+}
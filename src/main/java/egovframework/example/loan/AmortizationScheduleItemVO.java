@@ -7,7 +7,8 @@ import java.util.Date;
  */
 public class AmortizationScheduleItemVO {
     private int round;                 // 회차
-    private Date paymentDate;          // 상환일
+    private Date paymentDate;          // 상환일 (약정일)
+    private Date adjustedPaymentDate;  // 실제 상환일 (주말/공휴일 조정)
     private double monthlyPayment;     // 월 납입금 (원금 + 이자)
     private double principalPayment;   // 월 납입 원금
     private double interestPayment;    // 월 납입 이자
@@ -23,6 +24,9 @@ public class AmortizationScheduleItemVO {
     public Date getPaymentDate() { return paymentDate; }
     public void setPaymentDate(Date paymentDate) { this.paymentDate = paymentDate; }
 
+    public Date getAdjustedPaymentDate() { return adjustedPaymentDate; }
+    public void setAdjustedPaymentDate(Date adjustedPaymentDate) { this.adjustedPaymentDate = adjustedPaymentDate; }
+
     public double getMonthlyPayment() { return monthlyPayment; }
     public void setMonthlyPayment(double monthlyPayment) { this.monthlyPayment = monthlyPayment; }
 
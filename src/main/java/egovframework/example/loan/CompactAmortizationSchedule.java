@@ -0,0 +1,146 @@
+package egovframework.example.loan;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.AbstractList;
+import java.util.Date;
+import java.util.RandomAccess;
+
+/**
+ * 컬럼형 상환 스케줄 (Columnar Amortization Schedule)
+ * 회차별 값을 원시 타입 배열(컬럼)에 보관하여 행 객체 생성 없이 스케줄을 유지함.
+ * 금액은 원 단위 정수(long), 상환일은 시스템 기본 시간대 기준 epoch day 로 저장함.
+ * 영업일 조정 상환일은 저장하지 않고 연결된 영업일 달력으로 조회 시점에 계산함.
+ * List 로 사용하면 get(i) 호출 시점에 AmortizationScheduleItemVO 행을 만들어 반환함 (JSP/JSON 호환).
+ */
+public class CompactAmortizationSchedule extends AbstractList<AmortizationScheduleItemVO> implements RandomAccess {
+
+    private final int[] round;          // 회차
+    private final int[] paymentDay;     // 상환일 (epoch day)
+    private final long[] principal;     // 월 납입 원금
+    private final long[] interest;      // 월 납입 이자
+    private final long[] balance;       // 남은 대출 원금 잔액
+    private final long[] tax;           // 월 자동차세
+    private final long[] envCharge;     // 월 환경개선부담금
+    private int size;                   // 저장된 회차 수
+    private LoanHolidayCalendar businessDays; // 영업일 달력 (null 이면 조정 없음)
+    private String paymentDayRule;      // 영업일 조정 규칙 (정규화된 값)
+
+    public CompactAmortizationSchedule(int capacity) {
+        this.round = new int[capacity];
+        this.paymentDay = new int[capacity];
+        this.principal = new long[capacity];
+        this.interest = new long[capacity];
+        this.balance = new long[capacity];
+        this.tax = new long[capacity];
+        this.envCharge = new long[capacity];
+    }
+
+    /**
+     * 회차 추가 (계산기 내부 전용)
+     */
+    void add(int roundNo, long epochDay, long principalWon, long interestWon, long balanceWon, long taxWon, long envChargeWon) {
+        int i = size++;
+        round[i] = roundNo;
+        paymentDay[i] = (int) epochDay;
+        principal[i] = principalWon;
+        interest[i] = interestWon;
+        balance[i] = balanceWon;
+        tax[i] = taxWon;
+        envCharge[i] = envChargeWon;
+    }
+
+    /**
+     * 다른 스케줄의 회차를 모두 이어 붙임 (계산기 내부 전용, 영업일 달력은 이 스케줄 것을 사용)
+     */
+    void addAll(CompactAmortizationSchedule rows) {
+        int n = rows.size;
+        System.arraycopy(rows.round, 0, round, size, n);
+        System.arraycopy(rows.paymentDay, 0, paymentDay, size, n);
+        System.arraycopy(rows.principal, 0, principal, size, n);
+        System.arraycopy(rows.interest, 0, interest, size, n);
+        System.arraycopy(rows.balance, 0, balance, size, n);
+        System.arraycopy(rows.tax, 0, tax, size, n);
+        System.arraycopy(rows.envCharge, 0, envCharge, size, n);
+        size += n;
+    }
+
+    /**
+     * 영업일 달력 연결 (계산기 내부 전용)
+     * @throws IllegalArgumentException 알 수 없는 규칙인 경우
+     */
+    void setBusinessDays(LoanHolidayCalendar calendar, String rule) {
+        this.paymentDayRule = LoanHolidayCalendar.normalizeRule(rule);
+        this.businessDays = calendar;
+    }
+
+    // 컬럼 접근 (행 객체 생성 없음)
+    public int getRound(int index) { return round[checkIndex(index)]; }
+    public int getPaymentEpochDay(int index) { return paymentDay[checkIndex(index)]; }
+    public long getPrincipalPayment(int index) { return principal[checkIndex(index)]; }
+    public long getInterestPayment(int index) { return interest[checkIndex(index)]; }
+    public long getRemainingBalance(int index) { return balance[checkIndex(index)]; }
+    public long getMonthlyTax(int index) { return tax[checkIndex(index)]; }
+    public long getMonthlyEnvCharge(int index) { return envCharge[checkIndex(index)]; }
+
+    /**
+     * 실제 상환일 (주말/공휴일 조정, 달력 미연결 시 약정 상환일)
+     */
+    public int getAdjustedPaymentEpochDay(int index) {
+        int day = paymentDay[checkIndex(index)];
+        return businessDays == null ? day : (int) businessDays.adjust(day, paymentDayRule);
+    }
+
+    /**
+     * 월 납입금 (원금 + 이자)
+     */
+    public long getMonthlyPayment(int index) {
+        return principal[checkIndex(index)] + interest[index];
+    }
+
+    /**
+     * 월 총 지출액 (납입금 + 세금 + 부담금)
+     */
+    public long getTotalMonthlyOutflow(int index) {
+        return getMonthlyPayment(index) + tax[index] + envCharge[index];
+    }
+
+    /**
+     * 회차 행 생성 (지연 생성 - 호출 시마다 새 VO 반환)
+     */
+    @Override
+    public AmortizationScheduleItemVO get(int index) {
+        checkIndex(index);
+        AmortizationScheduleItemVO item = new AmortizationScheduleItemVO();
+        item.setRound(round[index]);
+        item.setPaymentDate(toDate(paymentDay[index]));
+        item.setAdjustedPaymentDate(toDate(getAdjustedPaymentEpochDay(index)));
+        item.setMonthlyPayment(getMonthlyPayment(index));
+        item.setPrincipalPayment(principal[index]);
+        item.setInterestPayment(interest[index]);
+        item.setRemainingBalance(balance[index]);
+        item.setMonthlyTax(tax[index]);
+        item.setMonthlyEnvCharge(envCharge[index]);
+        item.setTotalMonthlyOutflow(getTotalMonthlyOutflow(index));
+        return item;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+        }
+        return index;
+    }
+
+    /**
+     * epoch day 를 해당 일자 0시 Date 로 변환 (시스템 기본 시간대)
+     */
+    static Date toDate(long epochDay) {
+        return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
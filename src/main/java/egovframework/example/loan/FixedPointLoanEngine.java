@@ -0,0 +1,153 @@
+package egovframework.example.loan;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 고정소수점 대출 계산 엔진 (Fixed-point Loan Engine)
+ * 금액은 원 단위 long, 연 이자율은 RATE_SCALE 배 정수로 표현하여 double 오차 없이 계산함.
+ *
+ * 반올림 규칙:
+ * - 입력 금액: 원 미만 절사 (floor)
+ * - 입력 이자율: 소수점 6자리(%)까지 반올림 (HALF_UP, 10진 표기 기준)
+ * - 월 납입금(PMT): 정확한 유리수 값을 BigInteger 로 계산 후 절사 (대출 1건당 1회)
+ * - 월 이자, 월 환산액: 정수 나눗셈 절사 (floor)
+ * - 자동차세, 지방교육세: 세율표(LoanRateTable)의 정수 계산 값
+ * 모든 연산이 정수 연산이므로 JVM/플랫폼과 무관하게 결과가 동일함.
+ */
+public final class FixedPointLoanEngine {
+
+    // 월 이자 분모 = 100(%) * 12(개월) * RATE_SCALE
+    private static final long MONTHLY_RATE_DENOMINATOR = 100L * 12L * LoanCode.RATE_SCALE;
+
+    private FixedPointLoanEngine() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 원리금균등분할상환 계산 (고정소수점)
+     * @param input 대출 입력 정보
+     * @param rates 적용 세율표
+     * @return 대출 결과 요약 정보 (schedule 은 CompactAmortizationSchedule)
+     * @throws ArithmeticException 금액 범위 초과 시
+     */
+    public static LoanSummaryVO calculate(LoanInputVO input, LoanRateTable rates) {
+        LoanSummaryVO summary = new LoanSummaryVO(); // 결과 요약 객체 생성
+        summary.setVehiclePrice(input.getVehiclePrice());
+        summary.setDownPayment(input.getDownPayment());
+
+        // 자동차세 (연간 → 월 환산 절사)
+        long monthlyTax = 0;
+        int cc = input.getEngineDisplacement();
+        if (cc > 0) {
+            long annualTax = rates.getAnnualAutoTax(cc);
+            monthlyTax = rates.getMonthlyAutoTax(cc);
+            summary.setAutoTaxAnnual(annualTax);
+            summary.setAutoTaxMonthly(monthlyTax);
+        }
+
+        // 환경개선부담금 (세율표의 부과 대상 연료만 해당, 반기 → 월 환산 절사)
+        long monthlyEnvCharge = 0;
+        long semiAnnualEnvCharge = toWon(input.getEnvChargeSemiAnnual());
+        if (rates.isEnvChargeApplicable(input.getFuelType()) && semiAnnualEnvCharge > 0) {
+            monthlyEnvCharge = semiAnnualEnvCharge / rates.getEnvChargeMonths();
+            summary.setEnvChargeSemiAnnual(semiAnnualEnvCharge);
+            summary.setEnvChargeMonthly(monthlyEnvCharge);
+        }
+
+        long loanAmount = toWon(input.getLoanAmount());
+        int termMonths = input.getTermMonths();
+        if (loanAmount <= 0 || termMonths <= 0) {
+            summary.setSchedule(new CompactAmortizationSchedule(0)); // 빈 스케줄
+            return summary;
+        }
+
+        long scaledRate = toScaledRate(input.getInterestRate());
+        long monthlyPayment = monthlyPayment(loanAmount, scaledRate, termMonths);
+        summary.setMonthlyPayment(monthlyPayment);
+
+        CompactAmortizationSchedule schedule = new CompactAmortizationSchedule(termMonths);
+        Date start = input.getStartDate() != null ? input.getStartDate() : new Date();
+        LocalDate day = start.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+
+        long balance = loanAmount;
+        long totalInterest = 0;
+        for (int i = 1; i <= termMonths; i++) {
+            long interest = monthlyInterest(balance, scaledRate);
+            // 마지막 회차는 남은 잔액 전액 상환
+            long principal = (i == termMonths) ? balance : monthlyPayment - interest;
+            balance -= principal;
+            totalInterest += interest;
+            day = day.plusMonths(1);
+            schedule.add(i, day.toEpochDay(), principal, interest, Math.max(0, balance), monthlyTax, monthlyEnvCharge);
+        }
+
+        summary.setSchedule(schedule);
+        summary.setTotalInterest(totalInterest);
+        summary.setTotalPayment(Math.addExact(loanAmount, totalInterest));
+        return summary;
+    }
+
+    /**
+     * 월 납입금 (PMT) = floor(P * r * (1+r)^n / ((1+r)^n - 1))
+     * r = scaledRate / MONTHLY_RATE_DENOMINATOR 를 약분한 유리수로 두고 정확히 계산함.
+     */
+    public static long monthlyPayment(long principal, long scaledRate, int termMonths) {
+        if (scaledRate == 0) {
+            return principal / termMonths; // 무이자: 원금 / 기간 (절사)
+        }
+        BigInteger r = BigInteger.valueOf(scaledRate);
+        BigInteger d = BigInteger.valueOf(MONTHLY_RATE_DENOMINATOR);
+        BigInteger g = r.gcd(d);
+        r = r.divide(g);
+        d = d.divide(g);
+
+        BigInteger growth = d.add(r).pow(termMonths); // (d + r)^n
+        BigInteger base = d.pow(termMonths);          // d^n
+        BigInteger numerator = BigInteger.valueOf(principal).multiply(r).multiply(growth);
+        BigInteger denominator = d.multiply(growth.subtract(base));
+        return floorDiv(numerator, denominator).longValueExact();
+    }
+
+    /**
+     * 월 이자 = floor(잔액 * 연이율 / 1200)
+     */
+    public static long monthlyInterest(long balance, long scaledRate) {
+        return Math.floorDiv(Math.multiplyExact(balance, scaledRate), MONTHLY_RATE_DENOMINATOR);
+    }
+
+    /**
+     * 금액(double) → 원 단위 long (원 미만 절사)
+     */
+    public static long toWon(double amount) {
+        if (Double.isNaN(amount) || Math.abs(amount) >= 0x1p53) {
+            throw new ArithmeticException("amount out of range: " + amount);
+        }
+        return (long) Math.floor(amount);
+    }
+
+    /**
+     * 연 이자율(%, double) → RATE_SCALE 배 정수 (소수점 6자리 HALF_UP)
+     */
+    public static long toScaledRate(double percent) {
+        if (Double.isNaN(percent) || Double.isInfinite(percent)) {
+            throw new ArithmeticException("interest rate out of range: " + percent);
+        }
+        return BigDecimal.valueOf(percent)
+                .multiply(BigDecimal.valueOf(LoanCode.RATE_SCALE))
+                .setScale(0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    private static BigInteger floorDiv(BigInteger a, BigInteger b) {
+        BigInteger[] qr = a.divideAndRemainder(b);
+        if (qr[1].signum() != 0 && (qr[1].signum() != b.signum())) {
+            return qr[0].subtract(BigInteger.ONE);
+        }
+        return qr[0];
+    }
+}
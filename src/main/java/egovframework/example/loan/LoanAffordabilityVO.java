@@ -0,0 +1,49 @@
+package egovframework.example.loan;
+
+/**
+ * 최대 대출 가능 금액 산정 결과 VO (Value Object)
+ * 목표 월 총 지출액(납입금 + 자동차세 + 환경부담금) 이내에서 가능한 최대 대출 원금과 차량 가격을 보관함.
+ */
+public class LoanAffordabilityVO {
+    private int index;                   // 입력 목록 내 순번 (대량 산정 시, 0부터 시작)
+    private double targetMonthlyOutflow; // 목표 월 총 지출액
+    private double monthlyTax;           // 월 자동차세
+    private double monthlyEnvCharge;     // 월 환경부담금
+    private double maxLoanAmount;        // 최대 대출 원금 (원 단위)
+    private double maxVehiclePrice;      // 최대 차량 가격 (최대 대출 원금 + 선수금)
+    private double monthlyPayment;       // 최대 대출 원금 기준 월 납입금
+    private double totalMonthlyOutflow;  // 최대 대출 원금 기준 최대 월 총 지출액 (마지막 회차 포함)
+    private boolean feasible;            // 산정 가능 여부 (세금/부담금만으로 목표 초과 시 false)
+    private String errorMessage;         // 오류 메시지 (정상 처리 시 null)
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public double getTargetMonthlyOutflow() { return targetMonthlyOutflow; }
+    public void setTargetMonthlyOutflow(double targetMonthlyOutflow) { this.targetMonthlyOutflow = targetMonthlyOutflow; }
+
+    public double getMonthlyTax() { return monthlyTax; }
+    public void setMonthlyTax(double monthlyTax) { this.monthlyTax = monthlyTax; }
+
+    public double getMonthlyEnvCharge() { return monthlyEnvCharge; }
+    public void setMonthlyEnvCharge(double monthlyEnvCharge) { this.monthlyEnvCharge = monthlyEnvCharge; }
+
+    public double getMaxLoanAmount() { return maxLoanAmount; }
+    public void setMaxLoanAmount(double maxLoanAmount) { this.maxLoanAmount = maxLoanAmount; }
+
+    public double getMaxVehiclePrice() { return maxVehiclePrice; }
+    public void setMaxVehiclePrice(double maxVehiclePrice) { this.maxVehiclePrice = maxVehiclePrice; }
+
+    public double getMonthlyPayment() { return monthlyPayment; }
+    public void setMonthlyPayment(double monthlyPayment) { this.monthlyPayment = monthlyPayment; }
+
+    public double getTotalMonthlyOutflow() { return totalMonthlyOutflow; }
+    public void setTotalMonthlyOutflow(double totalMonthlyOutflow) { this.totalMonthlyOutflow = totalMonthlyOutflow; }
+
+    public boolean isFeasible() { return feasible; }
+    public void setFeasible(boolean feasible) { this.feasible = feasible; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+}
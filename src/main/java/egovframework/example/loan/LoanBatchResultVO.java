@@ -0,0 +1,33 @@
+package egovframework.example.loan;
+
+/**
+ * 대량 계산 결과 항목 VO (Value Object)
+ * 입력 목록의 순번과 계산 결과 또는 오류 메시지를 함께 보관함.
+ */
+public class LoanBatchResultVO {
+    private int index;                 // 입력 목록 내 순번 (0부터 시작)
+    private LoanSummaryVO result;      // 계산 결과 (오류 시 null)
+    private String errorMessage;       // 오류 메시지 (정상 처리 시 null)
+
+    public LoanBatchResultVO() {
+    }
+
+    public LoanBatchResultVO(int index) {
+        this.index = index;
+    }
+
+    /**
+     * 정상 처리 여부
+     */
+    public boolean isSuccess() { return errorMessage == null; }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public LoanSummaryVO getResult() { return result; }
+    public void setResult(LoanSummaryVO result) { this.result = result; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+}
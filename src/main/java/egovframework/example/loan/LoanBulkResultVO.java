@@ -0,0 +1,39 @@
+package egovframework.example.loan;
+
+/**
+ * 대량 저장/승인 결과 항목 VO (Value Object)
+ */
+public class LoanBulkResultVO {
+    
+    // 처리 결과 코드
+    public static final String RESULT_SUCCESS = "SUCCESS";
+    public static final String RESULT_NOT_FOUND = "NOT_FOUND";
+    public static final String RESULT_FAILED = "FAILED";
+    
+    private int index;                 // 요청 목록 내 순번 (0부터 시작)
+    private String id;                 // 대출 ID (신규 저장 시 생성된 ID)
+    private String result;             // 처리 결과 (SUCCESS, NOT_FOUND, FAILED)
+    private String errorMessage;       // 오류 메시지 (FAILED 인 경우)
+
+    public LoanBulkResultVO() {
+    }
+
+    public LoanBulkResultVO(int index, String id, String result) {
+        this.index = index;
+        this.id = id;
+        this.result = result;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getResult() { return result; }
+    public void setResult(String result) { this.result = result; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+}
@@ -0,0 +1,36 @@
+package egovframework.example.loan;
+
+/**
+ * 캐시 통계 VO (Value Object)
+ */
+public class LoanCacheStatsVO {
+    private int size;                  // 현재 보관 건수
+    private int maxSize;               // 최대 보관 건수
+    private long hitCount;             // 적중 횟수
+    private long missCount;            // 미적중 횟수
+    private long evictionCount;        // 제거 횟수 (크기 초과 + 만료)
+
+    /**
+     * 적중률 (0 ~ 1)
+     */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    // Getters and Setters
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public int getMaxSize() { return maxSize; }
+    public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+
+    public long getHitCount() { return hitCount; }
+    public void setHitCount(long hitCount) { this.hitCount = hitCount; }
+
+    public long getMissCount() { return missCount; }
+    public void setMissCount(long missCount) { this.missCount = missCount; }
+
+    public long getEvictionCount() { return evictionCount; }
+    public void setEvictionCount(long evictionCount) { this.evictionCount = evictionCount; }
+}
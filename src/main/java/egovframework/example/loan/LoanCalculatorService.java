@@ -1,5 +1,7 @@
 package egovframework.example.loan;
 
+import java.util.List;
+
 /**
  * 대출 계산기 서비스 인터페이스
  */
@@ -11,4 +13,143 @@ public interface LoanCalculatorService {
      * @return 대출 결과 요약 정보 (LoanSummaryVO)
      */
     LoanSummaryVO calculateEqualPrincipalAndInterest(LoanInputVO input);
+    
+    /**
+     * 원리금균등분할상환 요약 계산 (회차별 스케줄 미생성)
+     * 총 이자, 총 상환 금액, 월 납입금만 계산하며 결과는 전체 계산과 동일함.
+     * @param input 대출 입력 정보 (LoanInputVO)
+     * @return 대출 결과 요약 정보 (schedule 은 빈 리스트)
+     */
+    LoanSummaryVO calculateSummary(LoanInputVO input);
+    
+    /**
+     * 원리금균등분할상환 계산 (컬럼형 스케줄)
+     * 결과의 schedule 은 CompactAmortizationSchedule 로, 회차 행은 조회 시점에 생성됨.
+     * 금액은 원 단위 정수, 상환일은 일 단위(0시)로 보관함.
+     * @param input 대출 입력 정보 (LoanInputVO)
+     * @return 대출 결과 요약 정보 (컬럼형 스케줄 포함)
+     */
+    LoanSummaryVO calculateCompact(LoanInputVO input);
+    
+    /**
+     * 견적 계산 (캐시 사용)
+     * 동일한 입력(정규화 기준)은 재계산 없이 캐시된 컬럼형 결과를 반환함.
+     * 요약 필드는 호출마다 복사본을 반환하며, 컬럼형 스케줄은 읽기 전용으로 공유함.
+     * @param input 대출 입력 정보 (LoanInputVO)
+     * @return 대출 결과 요약 정보 (컬럼형 스케줄 포함)
+     */
+    LoanSummaryVO calculateQuote(LoanInputVO input);
+    
+    /**
+     * 견적 지문 (계산 없음)
+     * calculateQuote 캐시 키와 같은 정규화 규칙을 따르되, 세대 번호 대신 세율표/공휴일 내용 해시를 사용하여
+     * 재기동 후에도 같은 입력은 같은 값을 가짐 (JSON 응답 ETag 용).
+     * @param input 대출 입력 정보
+     * @return 64비트 지문
+     */
+    long getQuoteFingerprint(LoanInputVO input);
+    
+    /**
+     * 차량 트림/옵션 기준 견적 계산 (캐시 사용)
+     * 차량 가격, 배기량, 연료 종류를 차량 카탈로그 스냅샷에서 채운 뒤 calculateQuote 와 동일하게 계산함.
+     * @param input 대출 입력 정보 (선수금, 이자율, 기간 등)
+     * @param trimId 트림 ID
+     * @param optionIds 선택 옵션 ID 목록 (null 가능)
+     * @return 대출 결과 요약 정보 (컬럼형 스케줄 포함)
+     * @throws IllegalArgumentException 카탈로그에 없는 트림/옵션인 경우
+     */
+    LoanSummaryVO calculateVehicleQuote(LoanInputVO input, int trimId, List<Integer> optionIds);
+    
+    /**
+     * 견적 캐시 통계 조회
+     * @return 캐시 통계 (LoanCacheStatsVO)
+     */
+    LoanCacheStatsVO getQuoteCacheStats();
+    
+    /**
+     * 회차 구간 조회 (임의 접근)
+     * 대출별 체크포인트를 한 번 계산해 캐시하고, 이후 조회는 가장 가까운 체크포인트부터
+     * 최대 CHECKPOINT_INTERVAL 회차만 재계산함. 결과는 전체 계산의 같은 회차와 동일함.
+     * @param input 대출 입력 정보 (LoanInputVO)
+     * @param fromRound 시작 회차 (1부터, 포함)
+     * @param toRound 종료 회차 (포함)
+     * @return 회차 목록 (대출 기간으로 잘라냄, 유효 구간이 없으면 빈 리스트)
+     */
+    List<AmortizationScheduleItemVO> calculateRounds(LoanInputVO input, int fromRound, int toRound);
+    
+    /**
+     * 단일 회차 조회 (임의 접근)
+     * @param input 대출 입력 정보 (LoanInputVO)
+     * @param round 회차 (1부터)
+     * @return 회차 정보 (범위를 벗어나면 null)
+     */
+    AmortizationScheduleItemVO calculateRound(LoanInputVO input, int round);
+    
+    /**
+     * 재상환계획 산정 (중도상환, 금리 변경, 기간 변경)
+     * 첫 이벤트 회차 이전은 기존 스케줄 그대로 두고, 이벤트 회차부터 남은 기간만 다시 계산함.
+     * 이벤트는 해당 회차 이자 계산 전에 적용되며, 적용 후 남은 잔액과 남은 기간으로 월 납입금을 재산정함.
+     * @param input 대출 입력 정보 (기존 대출 조건)
+     * @param events 변경 이벤트 목록 (회차 순 정렬 불필요, 회차는 앞선 기간 변경을 반영한 기간 이내)
+     * @return 대출 결과 요약 정보 (schedule 은 1회차부터의 전체 컬럼형 스케줄 - 첫 이벤트 회차 이전은 기존 스케줄과 같음,
+     *         합계는 전체 기간 기준, prepaidPrincipal 은 스케줄에 나타나지 않는 중도상환 원금 합계)
+     * @throws IllegalArgumentException 이벤트 종류/회차/값이 유효하지 않거나 단축된 기간 이후 회차인 경우
+     */
+    LoanSummaryVO reamortize(LoanInputVO input, List<LoanEventVO> events);
+    
+    /**
+     * 이자율 × 기간 비교표 계산
+     * 세금/부담금은 한 번만 계산하여 모든 셀에 공유하고, 전체 셀을 한 번의 회차 반복으로 계산함.
+     * 각 셀은 같은 입력의 이자율/기간만 바꾼 calculateSummary 결과와 동일함.
+     * @param input 대출 입력 정보 (이자율, 기간 제외)
+     * @param interestRates 연 이자율 목록 (%)
+     * @param termMonths 대출 기간 목록 (개월)
+     * @return 비교표 (LoanGridVO)
+     * @throws IllegalArgumentException 목록이 비었거나 최대 크기를 넘는 경우, 기간이 0 이하인 경우
+     */
+    LoanGridVO calculateGrid(LoanInputVO input, double[] interestRates, int[] termMonths);
+    
+    /**
+     * 최대 대출 가능 금액 역산 (목표 월 총 지출액 기준)
+     * 월 총 지출액 = 월 납입금(절사) + 월 자동차세 + 월 환경부담금 이 목표액 이하가 되는 최대 원금(원 단위)을 구함.
+     * 마지막 회차(남은 잔액 전액 상환)의 월 총 지출액도 목표액 이하가 되도록 잔액 진행으로 확인하며, 스케줄을 생성하지 않음.
+     * @param input 대출 입력 정보 (이자율, 기간, 배기량, 연료, 환경부담금, 선수금 - 대출 원금 제외)
+     * @param targetMonthlyOutflow 목표 월 총 지출액
+     * @return 산정 결과 (최대 대출 원금, 최대 차량 가격 = 최대 대출 원금 + 선수금)
+     * @throws IllegalArgumentException 기간이 0 이하이거나 목표액이 유효하지 않은 경우
+     */
+    LoanAffordabilityVO solveMaxLoanAmount(LoanInputVO input, double targetMonthlyOutflow);
+    
+    /**
+     * 최대 대출 가능 금액 대량 역산 (재고 차량 목록 등)
+     * 입력 순서대로 결과를 반환하며, 개별 건의 오류는 해당 항목의 errorMessage 에만 기록함.
+     * @param inputs 대출 입력 정보 목록
+     * @param targetMonthlyOutflow 목표 월 총 지출액 (모든 건 공통)
+     * @return 건별 산정 결과 목록 (입력 순서 유지)
+     */
+    List<LoanAffordabilityVO> solveMaxLoanAmountBatch(List<LoanInputVO> inputs, double targetMonthlyOutflow);
+    
+    /**
+     * 원리금균등분할상환 계산 (고정소수점 엔진)
+     * 금액은 원 단위 long, 이자율은 정수 배율로 계산하여 JVM 과 무관하게 동일한 결과를 보장함.
+     * @param input 대출 입력 정보 (LoanInputVO)
+     * @return 대출 결과 요약 정보 (컬럼형 스케줄 포함)
+     */
+    LoanSummaryVO calculateFixedPoint(LoanInputVO input);
+    
+    /**
+     * double 엔진과 고정소수점 엔진 결과 비교 (검증 모드)
+     * double 엔진은 원 단위 절사 전 회차별 값과 비교하며, 차이가 있는 회차는 항목별 차이를 함께 반환함.
+     * @param input 대출 입력 정보 (LoanInputVO)
+     * @return 엔진 간 차이 요약 (LoanEngineDiffVO, 회차별 차이 포함)
+     */
+    LoanEngineDiffVO verifyFixedPoint(LoanInputVO input);
+    
+    /**
+     * 원리금균등분할상환 대량 계산 (배치)
+     * 입력 순서대로 결과를 반환하며, 개별 건의 오류는 해당 항목에만 기록하고 나머지는 계속 처리함.
+     * @param inputs 대출 입력 정보 목록
+     * @return 건별 계산 결과 목록 (입력 순서 유지)
+     */
+    List<LoanBatchResultVO> calculateBatch(List<LoanInputVO> inputs);
 }
@@ -1,10 +1,17 @@
 package egovframework.example.loan;
 
 import org.springframework.stereotype.Service;
+import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Calendar;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
 
 /**
  * 대출 계산기 서비스 구현체
@@ -12,8 +19,173 @@ import java.util.List;
 @Service("loanCalculatorService")
 public class LoanCalculatorServiceImpl implements LoanCalculatorService {
 
+    @Resource(name = "loanRateTableService")
+    private LoanRateTableService loanRateTableService;
+    
+    @Resource(name = "loanPaymentCalendarService")
+    private LoanPaymentCalendarService loanPaymentCalendarService;
+    
+    @Resource(name = "loanMetricsService")
+    private LoanMetricsService loanMetricsService;
+    
+    @Resource(name = "loanVehicleCatalogService")
+    private LoanVehicleCatalogService loanVehicleCatalogService;
+
+    // 대량 계산 전용 Fork/Join 풀 (CPU 코어 수로 병렬도 제한)
+    private final ForkJoinPool batchPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    
+    // 견적 결과 캐시 (크기/TTL 제한)
+    private final LoanQuoteCache<LoanSummaryVO> quoteCache = new LoanQuoteCache<>(
+            LoanCode.QUOTE_CACHE_MAX_SIZE, LoanCode.QUOTE_CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+    
+    // 회차 임의 조회용 체크포인트 캐시 (견적 캐시와 같은 키 규칙)
+    private final LoanQuoteCache<AmortizationCheckpoints> checkpointCache = new LoanQuoteCache<>(
+            LoanCode.QUOTE_CACHE_MAX_SIZE, LoanCode.QUOTE_CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+
     @Override
     public LoanSummaryVO calculateEqualPrincipalAndInterest(LoanInputVO input) {
+        return calculate(input, ScheduleMode.ROWS);
+    }
+    
+    @Override
+    public LoanSummaryVO calculateSummary(LoanInputVO input) {
+        return calculate(input, ScheduleMode.NONE);
+    }
+    
+    @Override
+    public LoanSummaryVO calculateCompact(LoanInputVO input) {
+        return calculate(input, ScheduleMode.COMPACT);
+    }
+    
+    @Override
+    public LoanSummaryVO calculateQuote(LoanInputVO input) {
+        // 세율표/공휴일 세대 번호를 키에 포함하여 교체 후에는 이전 결과를 사용하지 않음
+        long generation = loanRateTableService.getGeneration();
+        LoanRateTable rates = loanRateTableService.getRateTable(input.getStartDate());
+        LoanQuoteCache.Key key = LoanQuoteCache.keyOf(input, rates, generation, loanPaymentCalendarService.getGeneration());
+        LoanSummaryVO cached = quoteCache.get(key);
+        if (cached != null) {
+            return copyOf(cached); // 캐시 적중: 재계산 없음 (요약 필드만 복사)
+        }
+        LoanSummaryVO summary = calculate(input, ScheduleMode.COMPACT, rates);
+        quoteCache.put(key, summary);
+        return copyOf(summary);
+    }
+    
+    /**
+     * 캐시 값 복사 (호출 측/화면에서 요약 필드를 바꿔도 캐시 값은 유지)
+     * 컬럼형 스케줄은 외부에서 변경할 수 없고 회차 VO 를 조회 시마다 새로 만들므로 그대로 공유함.
+     */
+    private static LoanSummaryVO copyOf(LoanSummaryVO source) {
+        LoanSummaryVO copy = new LoanSummaryVO();
+        copy.setVehiclePrice(source.getVehiclePrice());
+        copy.setDownPayment(source.getDownPayment());
+        copy.setAutoTaxAnnual(source.getAutoTaxAnnual());
+        copy.setAutoTaxMonthly(source.getAutoTaxMonthly());
+        copy.setEnvChargeSemiAnnual(source.getEnvChargeSemiAnnual());
+        copy.setEnvChargeMonthly(source.getEnvChargeMonthly());
+        copy.setMonthlyPayment(source.getMonthlyPayment());
+        copy.setTotalInterest(source.getTotalInterest());
+        copy.setTotalPayment(source.getTotalPayment());
+        copy.setPrepaidPrincipal(source.getPrepaidPrincipal());
+        copy.setSchedule(source.getSchedule());
+        return copy;
+    }
+    
+    @Override
+    public long getQuoteFingerprint(LoanInputVO input) {
+        LoanRateTable rates = loanRateTableService.getRateTable(input.getStartDate());
+        return LoanQuoteCache.keyOf(input, rates, rates.contentHash(),
+                loanPaymentCalendarService.getHolidayCalendar().contentHash()).fingerprint();
+    }
+    
+    @Override
+    public LoanSummaryVO calculateVehicleQuote(LoanInputVO input, int trimId, List<Integer> optionIds) {
+        // 차량 값은 메모리 카탈로그에서 채움 (견적마다 DB 조회 없음)
+        return calculateQuote(loanVehicleCatalogService.applyVehicle(input, trimId, optionIds));
+    }
+    
+    @Override
+    public LoanCacheStatsVO getQuoteCacheStats() {
+        return quoteCache.getStats();
+    }
+    
+    @Override
+    public LoanSummaryVO calculateFixedPoint(LoanInputVO input) {
+        LoanSummaryVO summary = FixedPointLoanEngine.calculate(input, loanRateTableService.getRateTable(input.getStartDate()));
+        ((CompactAmortizationSchedule) summary.getSchedule()).setBusinessDays(
+                loanPaymentCalendarService.getHolidayCalendar(), input.getPaymentDayRule());
+        return summary;
+    }
+    
+    @Override
+    public LoanEngineDiffVO verifyFixedPoint(LoanInputVO input) {
+        LoanRateTable rates = loanRateTableService.getRateTable(input.getStartDate());
+        LoanSummaryVO expected = calculate(input, ScheduleMode.ROWS, rates);    // 기존 double 엔진 (절사 전 double 행)
+        LoanSummaryVO actual = FixedPointLoanEngine.calculate(input, rates);    // 고정소수점 엔진
+        
+        LoanEngineDiffVO diff = new LoanEngineDiffVO();
+        diff.setFirstMismatchRound(-1);
+        compare(diff, 0, "autoTaxAnnual", expected.getAutoTaxAnnual(), actual.getAutoTaxAnnual());
+        compare(diff, 0, "autoTaxMonthly", expected.getAutoTaxMonthly(), actual.getAutoTaxMonthly());
+        compare(diff, 0, "envChargeMonthly", expected.getEnvChargeMonthly(), actual.getEnvChargeMonthly());
+        compare(diff, 0, "monthlyPayment", expected.getMonthlyPayment(), actual.getMonthlyPayment());
+        compare(diff, 0, "totalInterest", expected.getTotalInterest(), actual.getTotalInterest());
+        compare(diff, 0, "totalPayment", expected.getTotalPayment(), actual.getTotalPayment());
+        
+        // 회차별 비교 (double 엔진은 원 단위 절사 전 행 값, 고정소수점 엔진은 컬럼형 스케줄)
+        List<AmortizationScheduleItemVO> e = expected.getSchedule();
+        CompactAmortizationSchedule a = (CompactAmortizationSchedule) actual.getSchedule();
+        int rounds = Math.min(e.size(), a.size());
+        for (int i = 0; i < rounds; i++) {
+            AmortizationScheduleItemVO row = e.get(i);
+            int round = row.getRound();
+            compare(diff, round, "principalPayment", row.getPrincipalPayment(), a.getPrincipalPayment(i));
+            compare(diff, round, "interestPayment", row.getInterestPayment(), a.getInterestPayment(i));
+            compare(diff, round, "remainingBalance", row.getRemainingBalance(), a.getRemainingBalance(i));
+            double principalDiff = a.getPrincipalPayment(i) - row.getPrincipalPayment();
+            double interestDiff = a.getInterestPayment(i) - row.getInterestPayment();
+            double balanceDiff = a.getRemainingBalance(i) - row.getRemainingBalance();
+            if (principalDiff != 0 || interestDiff != 0 || balanceDiff != 0) {
+                diff.addRoundDiff(new LoanEngineRoundDiffVO(round, principalDiff, interestDiff, balanceDiff));
+            }
+        }
+        compare(diff, 0, "scheduleSize", e.size(), a.size());
+        
+        diff.setTotalInterestDiff(actual.getTotalInterest() - expected.getTotalInterest());
+        diff.setIdentical(diff.getMismatchCount() == 0);
+        return diff;
+    }
+    
+    private static void compare(LoanEngineDiffVO diff, int round, String field, double doubleValue, double fixedValue) {
+        if (doubleValue != fixedValue) {
+            diff.addMismatch(round, field, doubleValue, (long) fixedValue);
+        }
+    }
+    
+    /**
+     * 스케줄 생성 방식
+     */
+    private enum ScheduleMode {
+        NONE,    // 스케줄 미생성 (합계만 계산)
+        ROWS,    // 회차별 VO 리스트
+        COMPACT  // 컬럼형 스케줄 (CompactAmortizationSchedule)
+    }
+    
+    /**
+     * 원리금균등분할상환 계산 공통 로직 (대출 실행일 기준 세율표 적용)
+     */
+    private LoanSummaryVO calculate(LoanInputVO input, ScheduleMode mode) {
+        return calculate(input, mode, loanRateTableService.getRateTable(input.getStartDate()));
+    }
+    
+    /**
+     * 원리금균등분할상환 계산 공통 로직
+     * @param input 대출 입력 정보
+     * @param mode 스케줄 생성 방식
+     * @param rates 적용 세율표
+     */
+    private LoanSummaryVO calculate(LoanInputVO input, ScheduleMode mode, LoanRateTable rates) {
         LoanSummaryVO summary = new LoanSummaryVO(); // 결과 요약 객체 생성
         
         // 1. 기본 정보 설정
@@ -26,21 +198,21 @@ public class LoanCalculatorServiceImpl implements LoanCalculatorService {
         double monthlyTax = 0;  // 월 자동차세 초기화
         
         if (cc > 0) {
-            annualTax = calculateAutoTax(cc); // 배기량에 따른 연간 자동차세 계산
-            // 월 자동차세 = 연간 자동차세 / 12 (소수점 버림)
-            monthlyTax = Math.floor(annualTax / 12); // 월 환산액 계산 (원단위 절사)
+            annualTax = rates.getAnnualAutoTax(cc); // 세율표에서 배기량별 연간 자동차세 조회
+            // 월 자동차세 = 연간 자동차세 / 12 (소수점 버림, 세율표에 미리 계산됨)
+            monthlyTax = rates.getMonthlyAutoTax(cc); // 월 환산액 조회 (원단위 절사)
             summary.setAutoTaxAnnual(annualTax);   // 연간 자동차세 결과 설정
             summary.setAutoTaxMonthly(monthlyTax); // 월 자동차세 결과 설정
         }
         
-        // 3. 환경개선부담금 계산 (디젤 차량만 해당)
+        // 3. 환경개선부담금 계산 (세율표의 부과 대상 연료 - 디젤 차량만 해당)
         double semiAnnualEnvCharge = input.getEnvChargeSemiAnnual(); // 반기 납부 환경부담금 입력값
         double monthlyEnvCharge = 0; // 월 환경부담금 (반기/6) 초기화
         
-        // 연료 타입이 디젤이고, 환경부담금이 0보다 큰 경우에만 계산
-        if (LoanCode.FUEL_TYPE_DIESEL.equals(input.getFuelType()) && semiAnnualEnvCharge > 0) {
-            // 월 환경부담금 = 반기 납부액 / 6 (소수점 버림)
-            monthlyEnvCharge = Math.floor(semiAnnualEnvCharge / 6); // 월 환산액 계산
+        // 부과 대상 연료이고, 환경부담금이 0보다 큰 경우에만 계산
+        if (rates.isEnvChargeApplicable(input.getFuelType()) && semiAnnualEnvCharge > 0) {
+            // 월 환경부담금 = 반기 납부액 / 납부 주기(6개월) (소수점 버림)
+            monthlyEnvCharge = Math.floor(semiAnnualEnvCharge / rates.getEnvChargeMonths()); // 월 환산액 계산
             summary.setEnvChargeSemiAnnual(semiAnnualEnvCharge); // 반기 부담금 결과 설정
             summary.setEnvChargeMonthly(monthlyEnvCharge);       // 월 부담금 결과 설정
         }
@@ -51,36 +223,38 @@ public class LoanCalculatorServiceImpl implements LoanCalculatorService {
         
         // 대출 금액이나 기간이 유효하지 않은 경우 빈 스케줄 반환
         if (loanAmount <= 0 || termMonths <= 0) {
-            summary.setSchedule(new ArrayList<AmortizationScheduleItemVO>()); // 빈 리스트 설정
+            if (mode == ScheduleMode.NONE) {
+                summary.setSchedule(Collections.<AmortizationScheduleItemVO>emptyList()); // 요약 모드는 공유 빈 리스트
+            } else if (mode == ScheduleMode.COMPACT) {
+                summary.setSchedule(new CompactAmortizationSchedule(0)); // 컬럼형 빈 스케줄
+            } else {
+                summary.setSchedule(new ArrayList<AmortizationScheduleItemVO>()); // 빈 리스트 설정
+            }
             return summary; // 결과 반환 후 종료
         }
         
         // 5. 월 납입금 계산 (PMT)
-        // 월 이자율 = (연이율 / 100) / 12개월
-        double monthlyRate = (input.getInterestRate() / 100.0) / 12.0; // 월 이자율 계산
-        double monthlyPayment = 0; // 월 상환금 (원금 + 이자) 변수 선언
-        
-        if (monthlyRate == 0) {
-            // 이자율이 0일 경우: 원금 / 기간 (단순 나눗셈)
-            monthlyPayment = loanAmount / termMonths;
-        } else {
-            // 원리금균등상환 공식: P * r * (1 + r)^n / ((1 + r)^n - 1)
-            // P: 대출원금, r: 월이자율, n: 대출기간
-            double pow = Math.pow(1 + monthlyRate, termMonths); // (1+r)^n 제곱값 계산
-            monthlyPayment = (loanAmount * monthlyRate * pow) / (pow - 1); // 공식 적용하여 월 납입금 계산
-        }
-        
-        // 원 단위 절사 (한국 원화 표준)
-        monthlyPayment = Math.floor(monthlyPayment); // 소수점 이하 버림 처리
+        double monthlyRate = monthlyRate(input); // 월 이자율 계산
+        double monthlyPayment = monthlyPayment(loanAmount, monthlyRate, termMonths); // 월 상환금 (원금 + 이자)
+        summary.setMonthlyPayment(monthlyPayment);    // 월 납입금 (마지막 회차 보정 전) 설정
         
         // 6. 상환 스케줄 생성
-        List<AmortizationScheduleItemVO> schedule = new ArrayList<>(); // 상환 스케줄 리스트 생성
         double currentBalance = loanAmount; // 현재 잔액 초기화 (대출 원금부터 시작)
         double totalInterest = 0; // 총 누적 이자 초기화
         
-        Calendar cal = Calendar.getInstance(); // 날짜 계산을 위한 Calendar 인스턴스 생성
-        if (input.getStartDate() != null) {
-            cal.setTime(input.getStartDate()); // 입력받은 대출 실행일로 날짜 설정
+        // 요약 모드는 회차별 객체/날짜를 만들지 않고 동일한 절사 규칙으로 합계만 누적
+        List<AmortizationScheduleItemVO> schedule = null;    // 회차별 VO 리스트 (ROWS)
+        CompactAmortizationSchedule compact = null;          // 컬럼형 스케줄 (COMPACT)
+        LoanPaymentDates dates = null;                       // 회차별 약정/조정 상환일 (실행일·기간·규칙별 공유)
+        
+        if (mode != ScheduleMode.NONE) {
+            dates = loanPaymentCalendarService.getPaymentDates(startEpochDay(input), termMonths, input.getPaymentDayRule());
+        }
+        if (mode == ScheduleMode.ROWS) {
+            schedule = new ArrayList<>(termMonths); // 상환 스케줄 리스트 생성
+        } else if (mode == ScheduleMode.COMPACT) {
+            compact = new CompactAmortizationSchedule(termMonths); // 컬럼형 스케줄 생성
+            compact.setBusinessDays(loanPaymentCalendarService.getHolidayCalendar(), input.getPaymentDayRule());
         }
         
         // 대출 기간(개월 수)만큼 반복하여 회차별 스케줄 생성
@@ -100,14 +274,20 @@ public class LoanCalculatorServiceImpl implements LoanCalculatorService {
             currentBalance -= principalPayment; // 잔액 차감
             totalInterest += interestPayment;   // 총 이자 누적
             
-            // 날짜 계산 (다음 달로 이동)
-            cal.add(Calendar.MONTH, 1);
-            Date paymentDate = cal.getTime(); // 계산된 날짜 가져오기
+            if (compact != null) {
+                compact.add(i, dates.getScheduledDay(i), (long) principalPayment, (long) interestPayment,
+                        (long) Math.max(0, currentBalance), (long) monthlyTax, (long) monthlyEnvCharge);
+                continue;
+            }
+            if (schedule == null) {
+                continue; // 요약 모드
+            }
             
             // 스케줄 항목 VO 생성 및 데이터 설정
             AmortizationScheduleItemVO item = new AmortizationScheduleItemVO(); // VO 객체 생성
             item.setRound(i); // 회차 설정
-            item.setPaymentDate(paymentDate); // 납입일 설정
+            item.setPaymentDate(CompactAmortizationSchedule.toDate(dates.getScheduledDay(i))); // 납입일 (약정일) 설정
+            item.setAdjustedPaymentDate(CompactAmortizationSchedule.toDate(dates.getAdjustedDay(i))); // 실제 납입일 (영업일 조정) 설정
             item.setMonthlyPayment(monthlyPayment); // 월 납입금 설정
             item.setPrincipalPayment(principalPayment); // 월 원금 설정
             item.setInterestPayment(interestPayment);   // 월 이자 설정
@@ -119,31 +299,553 @@ public class LoanCalculatorServiceImpl implements LoanCalculatorService {
             schedule.add(item); // 리스트에 추가
         }
         
-        summary.setSchedule(schedule); // 생성된 스케줄 리스트를 요약 객체에 설정
+        // 생성된 스케줄 리스트를 요약 객체에 설정
+        if (compact != null) {
+            summary.setSchedule(compact);
+        } else if (schedule != null) {
+            summary.setSchedule(schedule);
+        } else {
+            summary.setSchedule(Collections.<AmortizationScheduleItemVO>emptyList());
+        }
         summary.setTotalInterest(totalInterest); // 총 이자 설정
         summary.setTotalPayment(loanAmount + totalInterest); // 총 상환 금액(원금+이자) 설정
         
+        // 스케줄 크기/할당 지표 (컬럼형은 int 2개 + long 5개 컬럼)
+        loanMetricsService.recordSchedule(mode.name(), termMonths, schedule != null ? termMonths : 0,
+                compact != null ? termMonths * (2L * Integer.BYTES + 5L * Long.BYTES) : 0);
+        
         return summary; // 최종 결과 반환
     }
     
     /**
-     * 자동차세 계산 로직
+     * 대출 실행일 (시스템 기본 시간대 기준 epoch day, 미입력 시 오늘)
+     */
+    private static long startEpochDay(LoanInputVO input) {
+        Date start = input.getStartDate() != null ? input.getStartDate() : new Date();
+        return start.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+    
+    /**
+     * 월 이자율 = (연이율 / 100) / 12개월
+     */
+    private static double monthlyRate(LoanInputVO input) {
+        return (input.getInterestRate() / 100.0) / 12.0;
+    }
+    
+    /**
+     * 월 납입금 (PMT, 원 단위 절사)
+     */
+    static double monthlyPayment(double loanAmount, double monthlyRate, int termMonths) {
+        // (1+r)^n 제곱값 계산 (무이자는 사용하지 않음)
+        double pow = monthlyRate == 0 ? 1 : Math.pow(1 + monthlyRate, termMonths);
+        return monthlyPayment(loanAmount, monthlyRate, termMonths, pow);
+    }
+    
+    /**
+     * 월 납입금 (PMT, 원 단위 절사) - (1+r)^n 을 미리 계산해 둔 경우 (역산 탐색용)
      */
-    private double calculateAutoTax(int cc) {
-        if (cc <= 0) return 0; // 배기량이 0 이하면 0원 반환
-        
-        int taxPerCc = 0; // cc당 세액 변수
-        if (cc <= LoanCode.TAX_CC_LIMIT_SMALL) {
-            taxPerCc = LoanCode.TAX_PER_CC_SMALL; // 1000cc 이하
-        } else if (cc <= LoanCode.TAX_CC_LIMIT_MEDIUM) {
-            taxPerCc = LoanCode.TAX_PER_CC_MEDIUM; // 1600cc 이하
+    private static double monthlyPayment(double loanAmount, double monthlyRate, int termMonths, double pow) {
+        double monthlyPayment;
+        if (monthlyRate == 0) {
+            // 이자율이 0일 경우: 원금 / 기간 (단순 나눗셈)
+            monthlyPayment = loanAmount / termMonths;
         } else {
-            taxPerCc = LoanCode.TAX_PER_CC_LARGE; // 1600cc 초과
+            // 원리금균등상환 공식: P * r * (1 + r)^n / ((1 + r)^n - 1)
+            // P: 대출원금, r: 월이자율, n: 대출기간
+            monthlyPayment = (loanAmount * monthlyRate * pow) / (pow - 1); // 공식 적용하여 월 납입금 계산
+        }
+        // 원 단위 절사 (한국 원화 표준)
+        return Math.floor(monthlyPayment);
+    }
+    
+    @Override
+    public List<AmortizationScheduleItemVO> calculateRounds(LoanInputVO input, int fromRound, int toRound) {
+        AmortizationCheckpoints checkpoints = getCheckpoints(input);
+        if (checkpoints == null) {
+            return new ArrayList<AmortizationScheduleItemVO>(); // 대출 금액/기간 미입력
+        }
+        CompactAmortizationSchedule rounds = checkpoints.rounds(fromRound, toRound);
+        rounds.setBusinessDays(loanPaymentCalendarService.getHolidayCalendar(), input.getPaymentDayRule());
+        return rounds;
+    }
+    
+    @Override
+    public AmortizationScheduleItemVO calculateRound(LoanInputVO input, int round) {
+        List<AmortizationScheduleItemVO> rounds = calculateRounds(input, round, round);
+        return rounds.isEmpty() ? null : rounds.get(0);
+    }
+    
+    @Override
+    public LoanSummaryVO reamortize(LoanInputVO input, List<LoanEventVO> events) {
+        AmortizationCheckpoints checkpoints = getCheckpoints(input);
+        if (checkpoints == null) {
+            return calculate(input, ScheduleMode.COMPACT); // 대출 금액/기간 미입력: 빈 스케줄
+        }
+        
+        // 회차 순 정렬 (같은 회차는 입력 순서 유지) 후, 앞선 기간 변경을 반영한 그 시점의 기간으로 이벤트 검증
+        List<LoanEventVO> sorted = new ArrayList<>(events != null ? events : Collections.<LoanEventVO>emptyList());
+        for (LoanEventVO event : sorted) {
+            if (event == null || event.getType() == null) {
+                throw new IllegalArgumentException("event type is required");
+            }
+        }
+        sorted.sort((a, b) -> Integer.compare(a.getRound(), b.getRound()));
+        int effectiveTerm = checkpoints.getTermMonths();
+        int maxTerm = effectiveTerm;
+        for (LoanEventVO event : sorted) {
+            validateEvent(event, effectiveTerm); // 기간 단축 이후 회차의 이벤트는 거부
+            if (LoanCode.EVENT_TYPE_TERM_CHANGE.equals(event.getType())) {
+                effectiveTerm = event.getTermMonths();
+                maxTerm = Math.max(maxTerm, effectiveTerm);
+            }
+        }
+        int fromRound = sorted.isEmpty() ? 1 : sorted.get(0).getRound();
+        
+        LoanRateTable rates = loanRateTableService.getRateTable(input.getStartDate());
+        LoanSummaryVO summary = new LoanSummaryVO();
+        summary.setVehiclePrice(input.getVehiclePrice());
+        summary.setDownPayment(input.getDownPayment());
+        if (input.getEngineDisplacement() > 0) {
+            summary.setAutoTaxAnnual(rates.getAnnualAutoTax(input.getEngineDisplacement()));
+            summary.setAutoTaxMonthly(checkpoints.getMonthlyTax());
+        }
+        if (checkpoints.getMonthlyEnvCharge() > 0) {
+            summary.setEnvChargeSemiAnnual(input.getEnvChargeSemiAnnual());
+            summary.setEnvChargeMonthly(checkpoints.getMonthlyEnvCharge());
         }
         
-        double baseTax = cc * taxPerCc; // 기본 자동차세 계산
-        double educationTax = baseTax * LoanCode.EDUCATION_TAX_RATE; // 지방교육세 (30%) 계산
+        // 첫 이벤트 회차 직전 상태 (체크포인트부터 최대 CHECKPOINT_INTERVAL 회차만 재계산)
+        AmortizationCheckpoints.State state = checkpoints.stateBefore(fromRound);
+        double currentBalance = state.balance;
+        double totalInterest = state.interestPaid;
+        double prepaidPrincipal = 0;
+        long day = state.day.toEpochDay();
+        double monthlyRate = checkpoints.getMonthlyRate();
+        double monthlyPayment = checkpoints.getMonthlyPayment();
+        int termMonths = checkpoints.getTermMonths();
+        long monthlyTax = (long) checkpoints.getMonthlyTax();
+        long monthlyEnvCharge = (long) checkpoints.getMonthlyEnvCharge();
         
-        return Math.floor(baseTax + educationTax); // 총 자동차세 반환 (소수점 버림)
+        // 첫 이벤트 회차 이전 (1 ~ fromRound - 1 회차)은 기존 스케줄 그대로, 이후 남은 기간 재계산
+        CompactAmortizationSchedule schedule = new CompactAmortizationSchedule(maxTerm);
+        schedule.setBusinessDays(loanPaymentCalendarService.getHolidayCalendar(), input.getPaymentDayRule());
+        schedule.addAll(checkpoints.rounds(1, fromRound - 1));
+        // 기간 연장 시 늘어난 회차까지 같은 말일 보정 규칙으로 상환일 조회 (state.day 는 fromRound - 1 회차 상환일)
+        LoanPaymentDates dates = loanPaymentCalendarService.getPaymentDates(day, maxTerm - fromRound + 1,
+                input.getPaymentDayRule());
+        int next = 0; // 다음 적용 이벤트 위치
+        for (int i = fromRound; i <= termMonths && currentBalance > 0; i++) {
+            if (next < sorted.size() && sorted.get(next).getRound() == i) {
+                // 같은 회차 이벤트를 모두 적용한 뒤 월 납입금을 한 번만 재산정
+                while (next < sorted.size() && sorted.get(next).getRound() == i) {
+                    LoanEventVO event = sorted.get(next++);
+                    if (LoanCode.EVENT_TYPE_PREPAYMENT.equals(event.getType())) {
+                        double prepaid = Math.min(Math.floor(event.getAmount()), currentBalance); // 잔액 초과분은 무시
+                        currentBalance -= prepaid;
+                        prepaidPrincipal += prepaid;
+                    } else if (LoanCode.EVENT_TYPE_RATE_CHANGE.equals(event.getType())) {
+                        monthlyRate = (event.getInterestRate() / 100.0) / 12.0;
+                    } else {
+                        termMonths = event.getTermMonths();
+                    }
+                }
+                if (currentBalance <= 0) {
+                    break; // 전액 중도상환
+                }
+                monthlyPayment = monthlyPayment(currentBalance, monthlyRate, termMonths - i + 1);
+            }
+            
+            double interestPayment = Math.floor(currentBalance * monthlyRate);
+            double principalPayment = monthlyPayment - interestPayment;
+            if (i == termMonths) {
+                principalPayment = currentBalance; // 마지막 달 보정
+            }
+            currentBalance -= principalPayment;
+            totalInterest += interestPayment;
+            schedule.add(i, dates.getScheduledDay(i - fromRound + 1), (long) principalPayment, (long) interestPayment,
+                    (long) Math.max(0, currentBalance), monthlyTax, monthlyEnvCharge);
+        }
+        
+        summary.setMonthlyPayment(monthlyPayment); // 마지막으로 재산정된 월 납입금
+        summary.setSchedule(schedule);
+        summary.setTotalInterest(totalInterest);
+        // 상환 원금 = 스케줄 상환분 + 중도상환분 (대출 원금과 같음)
+        summary.setTotalPayment(input.getLoanAmount() + totalInterest);
+        summary.setPrepaidPrincipal(prepaidPrincipal);
+        return summary;
+    }
+    
+    /**
+     * 변경 이벤트 검증
+     * @param termMonths 이벤트 회차 시점의 대출 기간 (앞선 기간 변경 반영)
+     */
+    private static void validateEvent(LoanEventVO event, int termMonths) {
+        if (event == null || event.getType() == null) {
+            throw new IllegalArgumentException("event type is required");
+        }
+        if (event.getRound() < 1 || event.getRound() > termMonths) {
+            throw new IllegalArgumentException("event round out of range: " + event.getRound());
+        }
+        if (LoanCode.EVENT_TYPE_PREPAYMENT.equals(event.getType())) {
+            if (!(event.getAmount() > 0)) {
+                throw new IllegalArgumentException("prepayment amount must be positive: " + event.getAmount());
+            }
+        } else if (LoanCode.EVENT_TYPE_RATE_CHANGE.equals(event.getType())) {
+            if (!(event.getInterestRate() >= 0) || Double.isInfinite(event.getInterestRate())) {
+                throw new IllegalArgumentException("invalid interest rate: " + event.getInterestRate());
+            }
+        } else if (LoanCode.EVENT_TYPE_TERM_CHANGE.equals(event.getType())) {
+            if (event.getTermMonths() < event.getRound()) {
+                throw new IllegalArgumentException("term must cover event round: " + event.getTermMonths());
+            }
+        } else {
+            throw new IllegalArgumentException("unknown event type: " + event.getType());
+        }
+    }
+    
+    @Override
+    public LoanGridVO calculateGrid(LoanInputVO input, double[] interestRates, int[] termMonths) {
+        if (interestRates == null || interestRates.length == 0 || interestRates.length > LoanCode.GRID_MAX_RATES) {
+            throw new IllegalArgumentException("interest rate count must be 1.." + LoanCode.GRID_MAX_RATES);
+        }
+        if (termMonths == null || termMonths.length == 0 || termMonths.length > LoanCode.GRID_MAX_TERMS) {
+            throw new IllegalArgumentException("term count must be 1.." + LoanCode.GRID_MAX_TERMS);
+        }
+        for (int term : termMonths) {
+            if (term <= 0) {
+                throw new IllegalArgumentException("term must be positive: " + term);
+            }
+        }
+        
+        // 세금/부담금은 이자율/기간과 무관하므로 1회만 계산
+        LoanSummaryVO charges = calculateCharges(input);
+        double monthlyCharges = charges.getAutoTaxMonthly() + charges.getEnvChargeMonthly();
+        
+        int rows = interestRates.length;
+        int cols = termMonths.length;
+        double loanAmount = input.getLoanAmount();
+        double[][] monthlyPayment = new double[rows][cols];
+        double[][] totalInterest = new double[rows][cols];
+        double[][] totalPayment = new double[rows][cols];
+        double[][] totalMonthlyOutflow = new double[rows][cols];
+        
+        if (loanAmount > 0) {
+            // 셀을 기간 내림차순으로 펼쳐 원시 배열에 배치 (커널 입력)
+            Integer[] colOrder = new Integer[cols];
+            for (int c = 0; c < cols; c++) {
+                colOrder[c] = c;
+            }
+            Arrays.sort(colOrder, (a, b) -> Integer.compare(termMonths[b], termMonths[a]));
+            
+            int cells = rows * cols;
+            double[] cellRate = new double[cells];
+            double[] cellPayment = new double[cells];
+            int[] cellTerm = new int[cells];
+            double[] cellInterest = new double[cells];
+            double[] rowRate = new double[rows];
+            for (int r = 0; r < rows; r++) {
+                rowRate[r] = (interestRates[r] / 100.0) / 12.0; // 행별 월 이자율 (공유)
+            }
+            // (1+r)^n 은 (이자율, 기간) 조합마다 1회만 계산 (정렬 후 같은 기간이 이어지면 직전 열 값 재사용)
+            double[] rowPow = new double[rows];
+            for (int k = 0; k < cols; k++) {
+                int c = colOrder[k];
+                boolean sameTerm = k > 0 && termMonths[colOrder[k - 1]] == termMonths[c];
+                for (int r = 0; r < rows; r++) {
+                    int cell = k * rows + r;
+                    if (!sameTerm) {
+                        rowPow[r] = rowRate[r] == 0 ? 1 : Math.pow(1 + rowRate[r], termMonths[c]);
+                    }
+                    cellRate[cell] = rowRate[r];
+                    cellTerm[cell] = termMonths[c];
+                    cellPayment[cell] = monthlyPayment(loanAmount, rowRate[r], termMonths[c], rowPow[r]);
+                }
+            }
+            LoanGridKernel.totalInterest(loanAmount, cellRate, cellPayment, cellTerm, cellInterest);
+            
+            for (int k = 0; k < cols; k++) {
+                int c = colOrder[k];
+                for (int r = 0; r < rows; r++) {
+                    int cell = k * rows + r;
+                    monthlyPayment[r][c] = cellPayment[cell];
+                    totalInterest[r][c] = cellInterest[cell];
+                    totalPayment[r][c] = loanAmount + cellInterest[cell];
+                    totalMonthlyOutflow[r][c] = cellPayment[cell] + monthlyCharges;
+                }
+            }
+        }
+        
+        LoanGridVO grid = new LoanGridVO();
+        grid.setLoanAmount(loanAmount);
+        grid.setAutoTaxMonthly(charges.getAutoTaxMonthly());
+        grid.setEnvChargeMonthly(charges.getEnvChargeMonthly());
+        grid.setInterestRates(interestRates.clone());
+        grid.setTermMonths(termMonths.clone());
+        grid.setMonthlyPayment(monthlyPayment);
+        grid.setTotalInterest(totalInterest);
+        grid.setTotalPayment(totalPayment);
+        grid.setTotalMonthlyOutflow(totalMonthlyOutflow);
+        return grid;
+    }
+    
+    @Override
+    public LoanAffordabilityVO solveMaxLoanAmount(LoanInputVO input, double targetMonthlyOutflow) {
+        if (Double.isNaN(targetMonthlyOutflow) || Double.isInfinite(targetMonthlyOutflow)) {
+            throw new IllegalArgumentException("invalid target monthly outflow: " + targetMonthlyOutflow);
+        }
+        int termMonths = input.getTermMonths();
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("term must be positive: " + termMonths);
+        }
+        
+        // 세금/부담금은 대출 원금과 무관하므로 목표액에서 먼저 차감 (월 납입금은 원 단위 정수)
+        LoanSummaryVO charges = calculateCharges(input);
+        double monthlyCharges = charges.getAutoTaxMonthly() + charges.getEnvChargeMonthly();
+        double budget = Math.floor(targetMonthlyOutflow - monthlyCharges); // 허용 월 납입금 상한
+        
+        LoanAffordabilityVO result = new LoanAffordabilityVO();
+        result.setTargetMonthlyOutflow(targetMonthlyOutflow);
+        result.setMonthlyTax(charges.getAutoTaxMonthly());
+        result.setMonthlyEnvCharge(charges.getEnvChargeMonthly());
+        if (budget < 0) {
+            result.setFeasible(false); // 세금/부담금만으로 목표 초과
+            return result;
+        }
+        
+        double monthlyRate = monthlyRate(input);
+        double pow = monthlyRate == 0 ? 1 : Math.pow(1 + monthlyRate, termMonths); // 탐색 중 공유
+        
+        // 1) 초기값: 절사 전 PMT 계수로 역산 (Newton 1단계)
+        double factor = monthlyRate == 0 ? 1.0 / termMonths : (monthlyRate * pow) / (pow - 1);
+        long guess = (long) Math.floor((budget + 1) / factor);
+        
+        // 2) 구간 확장: payment(lo) <= budget < payment(hi)
+        long lo;
+        long hi;
+        long step = 1;
+        if (monthlyPayment(guess, monthlyRate, termMonths, pow) <= budget) {
+            lo = guess;
+            hi = guess + step;
+            while (monthlyPayment(hi, monthlyRate, termMonths, pow) <= budget) {
+                lo = hi;
+                step <<= 1;
+                hi = lo + step;
+            }
+        } else {
+            hi = guess;
+            lo = Math.max(0, guess - step);
+            while (lo > 0 && monthlyPayment(lo, monthlyRate, termMonths, pow) > budget) {
+                hi = lo;
+                step <<= 1;
+                lo = Math.max(0, lo - step);
+            }
+        }
+        
+        // 3) 이분 탐색 (월 납입금은 원금에 대해 단조 증가하므로 최대 원금이 유일하게 결정됨)
+        lo = maxAmountWithin(lo, hi, budget, monthlyRate, termMonths, pow);
+        
+        // 4) 마지막 회차 보정 확인
+        //    절사된 월 납입금으로 상환하면 마지막 회차에 남은 잔액이 월 납입금보다 클 수 있으므로 회차 반복으로 확인함.
+        //    같은 월 납입금 구간 안에서는 마지막 회차 납입금이 원금에 대해 단조 증가하므로 구간별로 이분 탐색하고,
+        //    구간 내에 목표를 만족하는 원금이 없으면 월 납입금이 1원 낮은 구간으로 내려감.
+        while (lo > 0 && finalPayment(lo, monthlyRate, termMonths, monthlyPayment(lo, monthlyRate, termMonths, pow)) > budget) {
+            double payment = monthlyPayment(lo, monthlyRate, termMonths, pow);
+            long below = maxAmountWithin(0, lo, payment - 1, monthlyRate, termMonths, pow); // 아래 구간 최대 원금
+            long bottom = below + 1;                                                         // 현재 구간 최소 원금
+            if (finalPayment(bottom, monthlyRate, termMonths, payment) > budget) {
+                lo = below;
+                continue;
+            }
+            long top = lo;
+            lo = bottom;
+            while (top - lo > 1) {
+                long mid = (lo + top) >>> 1;
+                if (finalPayment(mid, monthlyRate, termMonths, payment) <= budget) {
+                    lo = mid;
+                } else {
+                    top = mid;
+                }
+            }
+        }
+        
+        double monthlyPayment = monthlyPayment(lo, monthlyRate, termMonths, pow);
+        double finalPayment = lo > 0 ? finalPayment(lo, monthlyRate, termMonths, monthlyPayment) : 0;
+        result.setFeasible(true);
+        result.setMaxLoanAmount(lo);
+        result.setMaxVehiclePrice(lo + input.getDownPayment());
+        result.setMonthlyPayment(monthlyPayment);
+        result.setTotalMonthlyOutflow(Math.max(monthlyPayment, finalPayment) + monthlyCharges);
+        return result;
+    }
+    
+    /**
+     * 월 납입금이 상한 이하인 최대 원금 (이분 탐색, payment(lo) <= limit 이고 hi 는 상한 초과 또는 탐색 상한)
+     */
+    private static long maxAmountWithin(long lo, long hi, double limit, double monthlyRate, int termMonths, double pow) {
+        while (hi - lo > 1) {
+            long mid = (lo + hi) >>> 1;
+            if (monthlyPayment(mid, monthlyRate, termMonths, pow) <= limit) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+    
+    /**
+     * 마지막 회차 납입금 (계산기와 같은 절사 규칙으로 잔액만 진행, 스케줄 생성 없음)
+     * 마지막 회차는 남은 잔액 전액 + 이자이므로 월 납입금보다 클 수 있음.
+     */
+    static double finalPayment(double loanAmount, double monthlyRate, int termMonths, double monthlyPayment) {
+        double balance = loanAmount;
+        for (int i = 1; i < termMonths; i++) {
+            double interestPayment = Math.floor(balance * monthlyRate);
+            balance -= monthlyPayment - interestPayment;
+        }
+        return balance + Math.floor(balance * monthlyRate);
+    }
+    
+    @Override
+    public List<LoanAffordabilityVO> solveMaxLoanAmountBatch(List<LoanInputVO> inputs, double targetMonthlyOutflow) {
+        if (inputs == null || inputs.isEmpty()) {
+            return new ArrayList<LoanAffordabilityVO>(); // 빈 요청은 빈 결과 반환
+        }
+        if (inputs.size() > LoanCode.BATCH_MAX_SIZE) {
+            throw new IllegalArgumentException("batch size exceeds " + LoanCode.BATCH_MAX_SIZE + ": " + inputs.size());
+        }
+        List<LoanAffordabilityVO> results = new ArrayList<>(inputs.size());
+        for (int i = 0; i < inputs.size(); i++) {
+            LoanAffordabilityVO item;
+            try {
+                if (inputs.get(i) == null) {
+                    throw new IllegalArgumentException("input is null");
+                }
+                item = solveMaxLoanAmount(inputs.get(i), targetMonthlyOutflow);
+            } catch (RuntimeException e) {
+                // 건별 오류는 결과 항목에 기록하고 나머지는 계속 처리
+                item = new LoanAffordabilityVO();
+                item.setTargetMonthlyOutflow(targetMonthlyOutflow);
+                item.setErrorMessage(e.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+            item.setIndex(i);
+            results.add(item);
+        }
+        return results;
+    }
+    
+    /**
+     * 세금/부담금만 계산 (대출 원금/기간 없이 요약 계산 - 회차 반복 없음)
+     */
+    private LoanSummaryVO calculateCharges(LoanInputVO input) {
+        LoanInputVO base = new LoanInputVO();
+        base.setEngineDisplacement(input.getEngineDisplacement());
+        base.setFuelType(input.getFuelType());
+        base.setEnvChargeSemiAnnual(input.getEnvChargeSemiAnnual());
+        base.setStartDate(input.getStartDate());
+        return calculate(base, ScheduleMode.NONE);
+    }
+    
+    /**
+     * 체크포인트 조회 (캐시 미적중 시 생성)
+     * @return 체크포인트 (대출 금액이나 기간이 유효하지 않으면 null)
+     */
+    private AmortizationCheckpoints getCheckpoints(LoanInputVO input) {
+        double loanAmount = input.getLoanAmount();
+        int termMonths = input.getTermMonths();
+        if (loanAmount <= 0 || termMonths <= 0) {
+            return null;
+        }
+        long generation = loanRateTableService.getGeneration();
+        LoanRateTable rates = loanRateTableService.getRateTable(input.getStartDate());
+        LoanQuoteCache.Key key = LoanQuoteCache.keyOf(input, rates, generation, loanPaymentCalendarService.getGeneration());
+        AmortizationCheckpoints checkpoints = checkpointCache.get(key);
+        if (checkpoints != null) {
+            return checkpoints;
+        }
+        
+        // 세금/부담금은 calculate() 와 같은 규칙으로 월 환산
+        int cc = input.getEngineDisplacement();
+        double monthlyTax = cc > 0 ? rates.getMonthlyAutoTax(cc) : 0;
+        double semiAnnualEnvCharge = input.getEnvChargeSemiAnnual();
+        double monthlyEnvCharge = 0;
+        if (rates.isEnvChargeApplicable(input.getFuelType()) && semiAnnualEnvCharge > 0) {
+            monthlyEnvCharge = Math.floor(semiAnnualEnvCharge / rates.getEnvChargeMonths());
+        }
+        
+        double monthlyRate = monthlyRate(input);
+        checkpoints = AmortizationCheckpoints.build(loanAmount, monthlyRate,
+                monthlyPayment(loanAmount, monthlyRate, termMonths), termMonths, startEpochDay(input),
+                monthlyTax, monthlyEnvCharge, LoanCode.CHECKPOINT_INTERVAL);
+        checkpointCache.put(key, checkpoints);
+        return checkpoints;
+    }
+    
+    @Override
+    public List<LoanBatchResultVO> calculateBatch(List<LoanInputVO> inputs) {
+        if (inputs == null || inputs.isEmpty()) {
+            return new ArrayList<LoanBatchResultVO>(); // 빈 요청은 빈 결과 반환
+        }
+        if (inputs.size() > LoanCode.BATCH_MAX_SIZE) {
+            throw new IllegalArgumentException("batch size exceeds " + LoanCode.BATCH_MAX_SIZE + ": " + inputs.size());
+        }
+        
+        // 입력과 같은 위치에 결과를 기록하여 순서를 보장
+        LoanInputVO[] source = inputs.toArray(new LoanInputVO[inputs.size()]);
+        LoanBatchResultVO[] results = new LoanBatchResultVO[source.length];
+        batchPool.invoke(new BatchTask(source, results, 0, source.length));
+        
+        return Arrays.asList(results);
+    }
+    
+    /**
+     * 단건 계산 (대량 계산용) - 오류는 예외 대신 결과 항목에 기록
+     */
+    private LoanBatchResultVO calculateBatchItem(LoanInputVO input, int index) {
+        LoanBatchResultVO item = new LoanBatchResultVO(index);
+        if (input == null) {
+            item.setErrorMessage("input is null");
+            return item;
+        }
+        try {
+            item.setResult(calculateEqualPrincipalAndInterest(input));
+        } catch (RuntimeException e) {
+            item.setErrorMessage(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+        return item;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        batchPool.shutdown(); // 컨텍스트 종료 시 풀 정리
+    }
+    
+    /**
+     * 대량 계산 분할 작업 (구간을 반으로 나누어 병렬 처리)
+     */
+    private class BatchTask extends RecursiveAction {
+        private final LoanInputVO[] source;
+        private final LoanBatchResultVO[] results;
+        private final int from;
+        private final int to;
+        
+        BatchTask(LoanInputVO[] source, LoanBatchResultVO[] results, int from, int to) {
+            this.source = source;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= LoanCode.BATCH_SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = calculateBatchItem(source[i], i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BatchTask(source, results, from, mid), new BatchTask(source, results, mid, to));
+        }
     }
 }
@@ -0,0 +1,38 @@
+package egovframework.example.loan;
+
+/**
+ * 포트폴리오 월별 예상 현금흐름 VO (Value Object)
+ * 승인된 전체 대출의 해당 월 상환 예정 원금/이자와 세금/부담금(대납분) 합계.
+ */
+public class LoanCashFlowVO {
+    private String month;              // 상환 월 (yyyy-MM)
+    private long principal;            // 원금 합계
+    private long interest;             // 이자 합계
+    private long tax;                  // 자동차세 합계
+    private long envCharge;            // 환경부담금 합계
+    private long paymentCount;         // 상환 건수
+
+    /**
+     * 월 총 유입액 (원금 + 이자 + 세금 + 부담금)
+     */
+    public long getTotal() { return principal + interest + tax + envCharge; }
+
+    // Getters and Setters
+    public String getMonth() { return month; }
+    public void setMonth(String month) { this.month = month; }
+
+    public long getPrincipal() { return principal; }
+    public void setPrincipal(long principal) { this.principal = principal; }
+
+    public long getInterest() { return interest; }
+    public void setInterest(long interest) { this.interest = interest; }
+
+    public long getTax() { return tax; }
+    public void setTax(long tax) { this.tax = tax; }
+
+    public long getEnvCharge() { return envCharge; }
+    public void setEnvCharge(long envCharge) { this.envCharge = envCharge; }
+
+    public long getPaymentCount() { return paymentCount; }
+    public void setPaymentCount(long paymentCount) { this.paymentCount = paymentCount; }
+}
@@ -11,6 +11,24 @@ public class LoanCode {
     public static final String FUEL_TYPE_HYBRID = "hybrid";
     public static final String FUEL_TYPE_ELECTRIC = "electric";
     
+    // 대출 상태 코드
+    public static final String STATUS_DRAFT = "DRAFT";
+    public static final String STATUS_APPROVED = "APPROVED";
+    
+    // 대출 변경 이벤트 종류 (재상환계획 산정)
+    public static final String EVENT_TYPE_PREPAYMENT = "PREPAYMENT";   // 중도상환
+    public static final String EVENT_TYPE_RATE_CHANGE = "RATE_CHANGE"; // 금리 변경
+    public static final String EVENT_TYPE_TERM_CHANGE = "TERM_CHANGE"; // 기간 변경
+    
+    // 목록 페이징 설정
+    public static final int LIST_PAGE_SIZE_DEFAULT = 20;
+    public static final int LIST_PAGE_SIZE_MAX = 200;
+    
+    // 대량 저장/승인 설정
+    public static final int BULK_CHUNK_SIZE = 1000;        // 1회 SQL 처리 건수 (청크 단위 커밋)
+    public static final int BULK_INSERT_PARAMS_PER_ROW = 12; // insertLoanScheduleList 행당 바인드 파라미터 수
+    public static final int BULK_CHUNK_MAX_SIZE = 32767 / BULK_INSERT_PARAMS_PER_ROW; // PostgreSQL JDBC 문장당 파라미터 한도 기준 (2730)
+    
     // 자동차세 기준 (cc당 세액)
     public static final int TAX_CC_LIMIT_SMALL = 1000;
     public static final int TAX_CC_LIMIT_MEDIUM = 1600;
@@ -21,6 +39,83 @@ public class LoanCode {
     
     // 지방교육세율
     public static final double EDUCATION_TAX_RATE = 0.3; // 30%
+    public static final int EDUCATION_TAX_PERCENT = 30;   // 30% (고정소수점 엔진용)
+    
+    // 고정소수점 엔진 연이율 배율 (% 소수점 6자리)
+    public static final long RATE_SCALE = 1000000L;
+    
+    // 대량 계산 (배치) 설정
+    public static final int BATCH_MAX_SIZE = 100000;      // 1회 요청 최대 건수
+    public static final int BATCH_SPLIT_THRESHOLD = 256;  // 작업 분할 기준 건수
+    
+    // 견적 캐시 설정
+    public static final int QUOTE_CACHE_MAX_SIZE = 10000;     // 최대 보관 건수
+    public static final long QUOTE_CACHE_TTL_SECONDS = 600;   // 항목 유효 시간 (10분)
+    public static final int QUOTE_CACHE_STRIPES = 16;         // 잠금 분할 수 (2의 거듭제곱, 분할마다 LRU)
+    
+    // 세율표 설정 (classpath 기준 경로, 변경 확인 주기)
+    public static final String RATE_TABLE_RESOURCE = "egovframework/loan/loan-rate-table.properties";
+    public static final long RATE_TABLE_RELOAD_SECONDS = 60;
+    
+    // 이자율 × 기간 비교표 최대 크기
+    public static final int GRID_MAX_RATES = 50;
+    public static final int GRID_MAX_TERMS = 50;
+    
+    // 금리 스트레스 시뮬레이션 (Monte Carlo) 설정
+    public static final int STRESS_DEFAULT_PATHS = 1000;             // 기본 금리 경로 수
+    public static final int STRESS_MAX_PATHS = 100000;               // 1회 요청 최대 경로 수
+    public static final int STRESS_SPLIT_PATHS = 8;                  // 작업 분할 기준 경로 수
+    public static final int STRESS_MAX_LOANS = 2000000;              // 1회 요청 최대 적재 대출 수 (대출당 약 44바이트)
+    public static final double STRESS_DEFAULT_VOLATILITY = 1.0;      // 금리 변동성 (연 %p)
+    public static final double STRESS_DEFAULT_MEAN_REVERSION = 0.2; // 평균 회귀 속도 (연)
+    public static final int STRESS_DEFAULT_RESET_MONTHS = 3;         // 금리 재산정 주기 (개월)
+    
+    // LOAN_SCHEDULE 월별 파티션 / DRAFT 보관 이전 설정
+    public static final int PARTITION_MONTHS_AHEAD = 3;           // 미리 만들어 둘 파티션 개월 수 (이번 달 제외)
+    public static final int DRAFT_ARCHIVE_AFTER_DAYS = 180;       // 보관 이전 대상 DRAFT (등록 후 경과 일수)
+    public static final int DRAFT_ARCHIVE_BATCH_SIZE = 1000;      // 1회 이전 건수 (1문장 = 1배치)
+    public static final long PARTITION_MAINTENANCE_HOURS = 24;    // 파티션 생성/보관 이전 주기 (시간)
+    
+    // 차량 카탈로그 재적재 주기 (초)
+    public static final long VEHICLE_CATALOG_RELOAD_SECONDS = 300;
+    
+    // 포트폴리오 현금흐름 최대 조회 개월 수
+    public static final int PORTFOLIO_MAX_MONTHS = 600;
+    
+    // 상환일 영업일 조정 규칙 (주말/공휴일)
+    public static final String PAYMENT_DAY_RULE_NONE = "NONE";                             // 조정 없음
+    public static final String PAYMENT_DAY_RULE_FOLLOWING = "FOLLOWING";                   // 다음 영업일
+    public static final String PAYMENT_DAY_RULE_MODIFIED_FOLLOWING = "MODIFIED_FOLLOWING"; // 다음 영업일 (월이 바뀌면 이전 영업일)
+    public static final String PAYMENT_DAY_RULE_PRECEDING = "PRECEDING";                   // 이전 영업일
+    public static final String PAYMENT_DAY_RULE_DEFAULT = PAYMENT_DAY_RULE_MODIFIED_FOLLOWING;
+    
+    // 공휴일 파일 (classpath 기준 경로, 변경 확인 주기), 상환일 목록 캐시 최대 건수
+    public static final String HOLIDAY_RESOURCE = "egovframework/loan/loan-holidays.txt";
+    public static final long HOLIDAY_RELOAD_SECONDS = 300;
+    public static final int PAYMENT_CALENDAR_CACHE_MAX_SIZE = 10000;
+    
+    // 회차 임의 조회 체크포인트 간격 (회차) - 조회 1건당 최대 재계산 회차 수
+    public static final int CHECKPOINT_INTERVAL = 12;
+    
+    // 읽기/쓰기 분리 DataSource 라우팅 키
+    public static final String DATASOURCE_PRIMARY = "PRIMARY";  // 쓰기 (기본)
+    public static final String DATASOURCE_REPLICA = "REPLICA";  // 읽기 전용 복제본
+    
+    // 운영 지표 이름 (Prometheus)
+    public static final String METRIC_HTTP_HANDLER_SECONDS = "loan_http_handler_seconds";       // 컨트롤러 처리 시간 (화면 렌더링 제외)
+    public static final String METRIC_HTTP_RENDER_SECONDS = "loan_http_render_seconds";         // 화면(JSP) 렌더링 시간
+    public static final String METRIC_HTTP_ERRORS = "loan_http_errors_total";                   // 컨트롤러 예외 건수
+    public static final String METRIC_SERVICE_SECONDS = "loan_service_seconds";                 // 서비스 메서드 처리 시간
+    public static final String METRIC_SERVICE_ERRORS = "loan_service_errors_total";             // 서비스 메서드 예외 건수
+    public static final String METRIC_MAPPER_SECONDS = "loan_mapper_seconds";                   // Mapper 구문 실행 시간
+    public static final String METRIC_DB_ACQUIRE_SECONDS = "loan_db_connection_acquire_seconds"; // 커넥션 획득 대기 시간 (풀별)
+    public static final String METRIC_DB_POOL_ACTIVE = "loan_db_pool_active_connections";       // 사용 중 커넥션 수 (풀별)
+    public static final String METRIC_DB_POOL_IDLE = "loan_db_pool_idle_connections";           // 유휴 커넥션 수 (풀별)
+    public static final String METRIC_DB_POOL_WAITING = "loan_db_pool_waiting_threads";         // 커넥션 획득 대기 스레드 수 (풀별)
+    public static final String METRIC_DB_POOL_MAX = "loan_db_pool_max_connections";             // 최대 커넥션 수 (풀별)
+    public static final String METRIC_SCHEDULE_ROUNDS = "loan_schedule_rounds";                 // 계산한 스케줄 회차 수
+    public static final String METRIC_SCHEDULE_ROWS = "loan_schedule_rows_allocated_total";     // 생성한 회차 행 VO 수
+    public static final String METRIC_SCHEDULE_COLUMN_BYTES = "loan_schedule_column_bytes_total"; // 컬럼형 스케줄 배열 크기 (바이트)
     
     private LoanCode() {
         // 인스턴스화 방지
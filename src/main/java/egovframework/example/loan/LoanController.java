@@ -3,8 +3,15 @@ package egovframework.example.loan;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
+import java.util.List;
 import javax.annotation.Resource;
+import javax.servlet.http.HttpServletResponse;
 import egovframework.rte.fdl.property.EgovPropertyService;
 
 /**
@@ -15,6 +22,9 @@ public class LoanController {
 
     @Resource(name = "loanCalculatorService")
     private LoanCalculatorService loanCalculatorService;
+    
+    @Resource(name = "loanMetricsService")
+    private LoanMetricsService loanMetricsService;
 
     /**
      * 대출 계산 메인 요청 처리 (Main Calculation Endpoint)
@@ -26,8 +36,8 @@ public class LoanController {
     @RequestMapping(value = "/loan/calculate.do")
     public String calculateLoan(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO, ModelMap model) throws Exception {
         
-        // 1. 서비스 호출 (계산 로직 수행)
-        LoanSummaryVO result = loanCalculatorService.calculateEqualPrincipalAndInterest(loanInputVO);
+        // 1. 서비스 호출 (계산 로직 수행 - 동일 입력은 캐시 결과 사용)
+        LoanSummaryVO result = loanCalculatorService.calculateQuote(loanInputVO);
         
         // 2. 결과를 모델에 저장
         model.addAttribute("result", result);
@@ -35,4 +45,173 @@ public class LoanController {
         // 3. 결과 페이지로 이동 ( /WEB-INF/jsp/loan/loanResult.jsp 매핑)
         return "loan/loanResult";
     }
+    
+    /**
+     * 대출 계산 JSON 요청 처리 (JSON Quote Endpoint)
+     * 정규화된 입력 기준 ETag 를 붙이고, If-None-Match 가 같으면 계산 없이 304 반환
+     * @param loanInputVO - 대출 입력 데이터
+     * @param layout - 스케줄 형식 (rows: 회차별 객체, columns: 컬럼별 배열)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/api/calculate.do")
+    public void calculateLoanJson(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO,
+            @RequestParam(value = "layout", defaultValue = LoanJsonWriter.LAYOUT_ROWS) String layout,
+            WebRequest webRequest, HttpServletResponse response) throws Exception {
+        if (!LoanJsonWriter.isSupportedLayout(layout)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        String etag = LoanETags.header(LoanETags.quote(loanCalculatorService.getQuoteFingerprint(loanInputVO)), layout);
+        if (webRequest.checkNotModified(etag)) {
+            return; // 304 (계산 없음)
+        }
+        LoanSummaryVO result = loanCalculatorService.calculateQuote(loanInputVO);
+        
+        response.setContentType(LoanJsonWriter.CONTENT_TYPE);
+        LoanJsonWriter writer = LoanJsonWriter.of(response.getOutputStream(), layout);
+        writer.writeSummary(result);
+        writer.flush();
+    }
+    
+    /**
+     * 차량 트림/옵션 기준 대출 계산 요청 처리
+     * 차량 가격, 배기량, 연료 종류는 차량 카탈로그 값으로 채움 (대출 원금 미입력 시 차량 가격 - 선수금)
+     * @param loanInputVO - 대출 입력 데이터 (선수금, 이자율, 기간 등)
+     * @param trimId - 트림 ID
+     * @param optionIds - 선택 옵션 ID 목록
+     * @return JSP 뷰 이름
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/calculateVehicle.do")
+    public String calculateVehicleLoan(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO,
+            @RequestParam("trimId") int trimId,
+            @RequestParam(value = "optionIds", required = false) List<Integer> optionIds,
+            ModelMap model) throws Exception {
+        
+        LoanSummaryVO result = loanCalculatorService.calculateVehicleQuote(loanInputVO, trimId, optionIds);
+        model.addAttribute("result", result);
+        return "loan/loanResult";
+    }
+    
+    /**
+     * 대출 요약 계산 요청 처리 (Summary-only Endpoint)
+     * 회차별 스케줄 없이 월 납입금, 총 이자, 총 상환 금액만 반환 (비교 위젯용)
+     * @param loanInputVO - 대출 입력 데이터
+     * @return 대출 결과 요약 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/calculateSummary.do")
+    @ResponseBody
+    public LoanSummaryVO calculateLoanSummary(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO) throws Exception {
+        return loanCalculatorService.calculateSummary(loanInputVO);
+    }
+    
+    /**
+     * 견적 캐시 통계 조회 (적중/미적중/제거 건수)
+     * @return 캐시 통계 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/cacheStats.do")
+    @ResponseBody
+    public LoanCacheStatsVO selectCacheStats() throws Exception {
+        return loanCalculatorService.getQuoteCacheStats();
+    }
+    
+    /**
+     * 운영 지표 수집 (Prometheus scrape endpoint)
+     * @param response - 지표를 text exposition format 으로 기록
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/metrics.do")
+    public void selectMetrics(HttpServletResponse response) throws Exception {
+        response.setContentType("text/plain; version=0.0.4; charset=UTF-8");
+        loanMetricsService.writePrometheus(response.getWriter());
+    }
+    
+    /**
+     * 회차 구간 조회 요청 처리 (Round Range Endpoint)
+     * 지정한 회차 구간만 계산하여 반환 (잔액 조회 등 특정 회차만 필요한 경우)
+     * @param loanInputVO - 대출 입력 데이터
+     * @param from - 시작 회차 (기본 1)
+     * @param to - 종료 회차 (기본 시작 회차)
+     * @return 회차 목록 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/rounds.do")
+    @ResponseBody
+    public List<AmortizationScheduleItemVO> calculateLoanRounds(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO,
+            @RequestParam(value = "from", defaultValue = "1") int from,
+            @RequestParam(value = "to", required = false) Integer to) throws Exception {
+        return loanCalculatorService.calculateRounds(loanInputVO, from, to != null ? to : from);
+    }
+    
+    /**
+     * 이자율 × 기간 비교표 요청 처리 (Grid Endpoint)
+     * 견적 화면의 월 납입금/총 이자 비교표를 한 번에 계산 (rates, terms 는 쉼표 구분)
+     * @param loanInputVO - 대출 입력 데이터 (이자율, 기간 제외)
+     * @param rates - 연 이자율 목록 (%)
+     * @param terms - 대출 기간 목록 (개월)
+     * @return 비교표 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/calculateGrid.do")
+    @ResponseBody
+    public LoanGridVO calculateLoanGrid(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO,
+            @RequestParam("rates") double[] rates, @RequestParam("terms") int[] terms) throws Exception {
+        return loanCalculatorService.calculateGrid(loanInputVO, rates, terms);
+    }
+    
+    /**
+     * 최대 대출 가능 금액 역산 요청 처리 (Affordability Endpoint)
+     * 목표 월 총 지출액 이내에서 가능한 최대 대출 원금과 차량 가격(선수금 포함)을 반환
+     * @param loanInputVO - 대출 입력 데이터 (대출 원금 제외)
+     * @param targetMonthlyOutflow - 목표 월 총 지출액
+     * @return 산정 결과 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/solveLoanAmount.do")
+    @ResponseBody
+    public LoanAffordabilityVO solveLoanAmount(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO,
+            @RequestParam("targetMonthlyOutflow") double targetMonthlyOutflow) throws Exception {
+        return loanCalculatorService.solveMaxLoanAmount(loanInputVO, targetMonthlyOutflow);
+    }
+    
+    /**
+     * 최대 대출 가능 금액 대량 역산 요청 처리 (재고 차량 목록 JSON 배열)
+     * @param inputs - 대출 입력 데이터 목록
+     * @param targetMonthlyOutflow - 목표 월 총 지출액 (공통)
+     * @return 건별 산정 결과 목록 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/solveLoanAmountBatch.do", method = RequestMethod.POST)
+    @ResponseBody
+    public List<LoanAffordabilityVO> solveLoanAmountBatch(@RequestBody List<LoanInputVO> inputs,
+            @RequestParam("targetMonthlyOutflow") double targetMonthlyOutflow) throws Exception {
+        return loanCalculatorService.solveMaxLoanAmountBatch(inputs, targetMonthlyOutflow);
+    }
+    
+    /**
+     * 계산 엔진 검증 요청 처리 (double 엔진 vs 고정소수점 엔진)
+     * @param loanInputVO - 대출 입력 데이터
+     * @return 엔진 간 차이 요약 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/verifyEngine.do")
+    @ResponseBody
+    public LoanEngineDiffVO verifyEngine(@ModelAttribute("loanInputVO") LoanInputVO loanInputVO) throws Exception {
+        return loanCalculatorService.verifyFixedPoint(loanInputVO);
+    }
+    
+    /**
+     * 대출 대량 계산 요청 처리 (Batch Calculation Endpoint)
+     * JSON 배열로 받은 입력을 병렬 계산하여 입력 순서대로 반환 (건별 오류는 errorMessage에 기록)
+     * @param inputs - 대출 입력 데이터 목록
+     * @return 건별 계산 결과 목록 (JSON)
+     * @throws Exception
+     */
+    @RequestMapping(value = "/loan/calculateBatch.do", method = RequestMethod.POST)
+    @ResponseBody
+    public List<LoanBatchResultVO> calculateLoanBatch(@RequestBody List<LoanInputVO> inputs) throws Exception {
+        return loanCalculatorService.calculateBatch(inputs);
+    }
 }
@@ -0,0 +1,21 @@
+package egovframework.example.loan;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+
+/**
+ * 조회 구문 replica 라우팅 Aspect
+ * context-datasource.xml 의 pointcut 으로 지정한 LoanManageMapper 조회 구문을 실행하는 동안만
+ * 라우팅 키를 replica 로 지정함. 저장 직후 다시 읽어야 하는 조회(포트폴리오 반영 등)는 pointcut 에서 제외하여
+ * 복제 지연의 영향을 받지 않도록 primary 에서 읽음.
+ */
+public class LoanDataSourceRoutingAspect {
+
+    public Object routeToReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        String previous = LoanRoutingDataSource.setRoute(LoanCode.DATASOURCE_REPLICA);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            LoanRoutingDataSource.setRoute(previous);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package egovframework.example.loan;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JSON 응답 ETag 생성 (Entity Tag)
+ * 계산 결과에 영향을 주는 값만 64비트 FNV-1a 방식으로 섞어 만들며, 객체 식별값/세대 번호처럼
+ * 재기동 시 바뀌는 값은 사용하지 않으므로 같은 내용은 재기동·다중 서버에서도 같은 ETag 를 가짐.
+ * 같은 내용이라도 스케줄 형식(rows / columns)이 다르면 표현이 다르므로 형식을 ETag 에 포함함.
+ */
+final class LoanETags {
+
+    static final long SEED = 0xcbf29ce484222325L;   // FNV-1a 64비트 초기값
+    private static final long PRIME = 0x100000001b3L; // FNV-1a 64비트 소수
+
+    private LoanETags() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 64비트 값 1개 섞기 (바이트 단위)
+     */
+    static long mix(long h, long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            h ^= (value >>> shift) & 0xff;
+            h *= PRIME;
+        }
+        return h;
+    }
+
+    /**
+     * 견적 ETag 토큰 (정규화 입력 지문)
+     */
+    static String quote(long fingerprint) {
+        return "q-" + Long.toHexString(fingerprint);
+    }
+
+    /**
+     * 저장된 대출 ETag 토큰 (행 내용 + 스케줄 출처)
+     * @param scheduleHash 승인 스냅샷 해시 또는 현재 계산 기준 견적 지문
+     */
+    static String loan(LoanManageVO loan, long scheduleHash) {
+        return "l-" + Long.toHexString(mix(row(SEED, loan), scheduleHash));
+    }
+
+    /**
+     * 목록 ETag 토큰 (페이지 행 내용 + 다음 페이지 여부)
+     */
+    static String list(List<LoanManageVO> list, boolean hasNext) {
+        long h = SEED;
+        for (LoanManageVO loan : list) {
+            h = row(h, loan);
+        }
+        return "p-" + Long.toHexString(mix(h, hasNext ? 1 : 0));
+    }
+
+    /**
+     * 승인 스냅샷 ETag 해시 (스냅샷 SHA-256 앞 8바이트 + 공휴일 달력 내용 해시)
+     * 스냅샷 복원 시 현재 공휴일 달력으로 영업일 조정하므로 달력이 바뀌면 ETag 도 바뀜.
+     */
+    static long snapshot(byte[] snapshot, int calendarHash) {
+        try {
+            long digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(snapshot)).getLong();
+            return mix(digest, calendarHash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // SHA-256 은 모든 JVM 에서 제공됨
+        }
+    }
+
+    /**
+     * 응답 헤더 값 (따옴표 포함, 형식 구분)
+     */
+    static String header(String token, String layout) {
+        return "\"" + token + "-" + layout.toLowerCase(Locale.ROOT) + "\"";
+    }
+
+    private static long row(long h, LoanManageVO loan) {
+        h = mix(h, hash(loan.getId()));
+        h = mix(h, hash(loan.getStatus()));
+        h = mix(h, loan.getRegDate() != null ? loan.getRegDate().getTime() : 0);
+        h = mix(h, Double.doubleToLongBits(loan.getVehiclePrice()));
+        h = mix(h, Double.doubleToLongBits(loan.getDownPayment()));
+        h = mix(h, loan.getEngineDisplacement());
+        h = mix(h, hash(loan.getFuelType()));
+        h = mix(h, Double.doubleToLongBits(loan.getEnvChargeSemiAnnual()));
+        h = mix(h, Double.doubleToLongBits(loan.getLoanAmount()));
+        h = mix(h, Double.doubleToLongBits(loan.getInterestRate()));
+        h = mix(h, loan.getTermMonths());
+        h = mix(h, loan.getStartDate() != null ? loan.getStartDate().getTime() : 0);
+        return h;
+    }
+
+    private static long hash(String value) {
+        return value != null ? value.hashCode() : 0;
+    }
+}
@@ -0,0 +1,69 @@
+package egovframework.example.loan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계산 엔진 비교 결과 VO (Value Object)
+ * double 엔진과 고정소수점 엔진의 결과 차이를 요약함.
+ */
+public class LoanEngineDiffVO {
+    private boolean identical;         // 전체 일치 여부
+    private int mismatchCount;         // 불일치 항목 수 (요약 + 회차별 컬럼)
+    private int firstMismatchRound;    // 최초 불일치 회차 (요약 항목이면 0, 일치 시 -1)
+    private String firstMismatchField; // 최초 불일치 항목명
+    private double doubleValue;        // 최초 불일치 항목의 double 엔진 값
+    private long fixedValue;           // 최초 불일치 항목의 고정소수점 엔진 값
+    private double totalInterestDiff;  // 총 이자 차이 (고정소수점 - double)
+    private double maxAbsDiff;         // 회차별 항목 최대 절대 차이 (원)
+    private List<LoanEngineRoundDiffVO> roundDiffs = new ArrayList<>(); // 차이가 있는 회차별 차이
+
+    /**
+     * 불일치 항목 기록 (최초 항목만 상세 보관)
+     */
+    void addMismatch(int round, String field, double doubleVal, long fixedVal) {
+        if (mismatchCount++ == 0) {
+            firstMismatchRound = round;
+            firstMismatchField = field;
+            doubleValue = doubleVal;
+            fixedValue = fixedVal;
+        }
+    }
+
+    /**
+     * 회차별 차이 기록 (차이가 있는 회차만 호출)
+     */
+    void addRoundDiff(LoanEngineRoundDiffVO roundDiff) {
+        roundDiffs.add(roundDiff);
+        maxAbsDiff = Math.max(maxAbsDiff, Math.max(Math.abs(roundDiff.getPrincipalDiff()),
+                Math.max(Math.abs(roundDiff.getInterestDiff()), Math.abs(roundDiff.getBalanceDiff()))));
+    }
+
+    // Getters and Setters
+    public boolean isIdentical() { return identical; }
+    public void setIdentical(boolean identical) { this.identical = identical; }
+
+    public int getMismatchCount() { return mismatchCount; }
+    public void setMismatchCount(int mismatchCount) { this.mismatchCount = mismatchCount; }
+
+    public int getFirstMismatchRound() { return firstMismatchRound; }
+    public void setFirstMismatchRound(int firstMismatchRound) { this.firstMismatchRound = firstMismatchRound; }
+
+    public String getFirstMismatchField() { return firstMismatchField; }
+    public void setFirstMismatchField(String firstMismatchField) { this.firstMismatchField = firstMismatchField; }
+
+    public double getDoubleValue() { return doubleValue; }
+    public void setDoubleValue(double doubleValue) { this.doubleValue = doubleValue; }
+
+    public long getFixedValue() { return fixedValue; }
+    public void setFixedValue(long fixedValue) { this.fixedValue = fixedValue; }
+
+    public double getTotalInterestDiff() { return totalInterestDiff; }
+    public void setTotalInterestDiff(double totalInterestDiff) { this.totalInterestDiff = totalInterestDiff; }
+
+    public double getMaxAbsDiff() { return maxAbsDiff; }
+    public void setMaxAbsDiff(double maxAbsDiff) { this.maxAbsDiff = maxAbsDiff; }
+
+    public List<LoanEngineRoundDiffVO> getRoundDiffs() { return roundDiffs; }
+    public void setRoundDiffs(List<LoanEngineRoundDiffVO> roundDiffs) { this.roundDiffs = roundDiffs; }
+}
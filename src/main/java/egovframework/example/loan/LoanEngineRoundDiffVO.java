@@ -0,0 +1,35 @@
+package egovframework.example.loan;
+
+/**
+ * 계산 엔진 회차별 차이 VO (Value Object)
+ * 고정소수점 엔진 값 - double 엔진 값 (원 단위 절사 전 double 값 기준)
+ */
+public class LoanEngineRoundDiffVO {
+    private int round;                 // 회차
+    private double principalDiff;      // 원금 차이
+    private double interestDiff;       // 이자 차이
+    private double balanceDiff;        // 잔액 차이
+
+    public LoanEngineRoundDiffVO() {
+    }
+
+    public LoanEngineRoundDiffVO(int round, double principalDiff, double interestDiff, double balanceDiff) {
+        this.round = round;
+        this.principalDiff = principalDiff;
+        this.interestDiff = interestDiff;
+        this.balanceDiff = balanceDiff;
+    }
+
+    // Getters and Setters
+    public int getRound() { return round; }
+    public void setRound(int round) { this.round = round; }
+
+    public double getPrincipalDiff() { return principalDiff; }
+    public void setPrincipalDiff(double principalDiff) { this.principalDiff = principalDiff; }
+
+    public double getInterestDiff() { return interestDiff; }
+    public void setInterestDiff(double interestDiff) { this.interestDiff = interestDiff; }
+
+    public double getBalanceDiff() { return balanceDiff; }
+    public void setBalanceDiff(double balanceDiff) { this.balanceDiff = balanceDiff; }
+}
@@ -0,0 +1,29 @@
+package egovframework.example.loan;
+
+/**
+ * 대출 변경 이벤트 VO (Value Object)
+ * 중도상환, 금리 변경, 기간 변경을 지정 회차부터 적용하기 위한 입력 항목.
+ */
+public class LoanEventVO {
+    private String type;               // 이벤트 종류 (LoanCode.EVENT_TYPE_*)
+    private int round;                 // 적용 회차 (해당 회차 이자 계산 전에 적용)
+    private double amount;             // 중도상환 금액 (PREPAYMENT)
+    private double interestRate;       // 변경 연 이자율 (%) (RATE_CHANGE)
+    private int termMonths;            // 변경 총 대출 기간 (개월) (TERM_CHANGE)
+
+    // Getters and Setters
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public int getRound() { return round; }
+    public void setRound(int round) { this.round = round; }
+
+    public double getAmount() { return amount; }
+    public void setAmount(double amount) { this.amount = amount; }
+
+    public double getInterestRate() { return interestRate; }
+    public void setInterestRate(double interestRate) { this.interestRate = interestRate; }
+
+    public int getTermMonths() { return termMonths; }
+    public void setTermMonths(int termMonths) { this.termMonths = termMonths; }
+}
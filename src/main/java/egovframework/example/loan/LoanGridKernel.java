@@ -0,0 +1,46 @@
+package egovframework.example.loan;
+
+import java.util.Arrays;
+
+/**
+ * 비교표 총 이자 계산 커널 (Grid Kernel)
+ * 셀(이자율 × 기간)별 상태를 원시 타입 배열에 두고 회차 단위로 모든 셀을 함께 진행함.
+ * 셀은 기간 내림차순으로 정렬되어 있어야 하며, 회차 i 에서 진행 중인 셀은 항상 배열 앞쪽 [0, active) 구간임.
+ * 안쪽 루프는 분기 없는 단순 배열 연산이므로 JIT 자동 벡터화 대상이 되고,
+ * 회차별 연산 순서는 순차 계산과 같아 결과가 원 단위까지 동일함.
+ */
+final class LoanGridKernel {
+
+    private LoanGridKernel() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 셀별 총 이자 계산
+     * @param loanAmount 대출 원금 (모든 셀 공통)
+     * @param rate 셀별 월 이자율
+     * @param payment 셀별 월 납입금 (절사 완료)
+     * @param term 셀별 대출 기간 (내림차순)
+     * @param totalInterest 셀별 총 이자 (출력)
+     */
+    static void totalInterest(double loanAmount, double[] rate, double[] payment, int[] term, double[] totalInterest) {
+        int cells = term.length;
+        double[] balance = new double[cells];
+        Arrays.fill(balance, loanAmount);
+        Arrays.fill(totalInterest, 0, cells, 0);
+
+        int active = cells;
+        int maxTerm = cells == 0 ? 0 : term[0];
+        for (int i = 1; i <= maxTerm; i++) {
+            while (active > 0 && term[active - 1] < i) {
+                active--; // 기간이 끝난 셀 제외 (뒤쪽부터)
+            }
+            for (int c = 0; c < active; c++) {
+                double interest = Math.floor(balance[c] * rate[c]);
+                balance[c] -= payment[c] - interest;
+                totalInterest[c] += interest;
+            }
+        }
+        // 마지막 회차는 원금이 잔액 전액으로 보정되지만 이자는 보정 전 잔액 기준이므로 총 이자에는 영향 없음
+    }
+}
@@ -0,0 +1,45 @@
+package egovframework.example.loan;
+
+/**
+ * 이자율 × 기간 비교표 VO (Value Object)
+ * 행은 이자율, 열은 대출 기간 순서이며 각 셀 값은 calculateSummary 결과와 동일함.
+ */
+public class LoanGridVO {
+    private double loanAmount;             // 대출 원금
+    private double autoTaxMonthly;         // 월 자동차세 (모든 셀 공통)
+    private double envChargeMonthly;       // 월 환경부담금 (모든 셀 공통)
+    private double[] interestRates;        // 행: 연 이자율 (%)
+    private int[] termMonths;              // 열: 대출 기간 (개월)
+    private double[][] monthlyPayment;     // 월 납입금 [이자율][기간]
+    private double[][] totalInterest;      // 총 이자 [이자율][기간]
+    private double[][] totalPayment;       // 총 상환 금액 [이자율][기간]
+    private double[][] totalMonthlyOutflow;// 월 총 지출액 (납입금 + 세금 + 부담금) [이자율][기간]
+
+    // Getters and Setters
+    public double getLoanAmount() { return loanAmount; }
+    public void setLoanAmount(double loanAmount) { this.loanAmount = loanAmount; }
+
+    public double getAutoTaxMonthly() { return autoTaxMonthly; }
+    public void setAutoTaxMonthly(double autoTaxMonthly) { this.autoTaxMonthly = autoTaxMonthly; }
+
+    public double getEnvChargeMonthly() { return envChargeMonthly; }
+    public void setEnvChargeMonthly(double envChargeMonthly) { this.envChargeMonthly = envChargeMonthly; }
+
+    public double[] getInterestRates() { return interestRates; }
+    public void setInterestRates(double[] interestRates) { this.interestRates = interestRates; }
+
+    public int[] getTermMonths() { return termMonths; }
+    public void setTermMonths(int[] termMonths) { this.termMonths = termMonths; }
+
+    public double[][] getMonthlyPayment() { return monthlyPayment; }
+    public void setMonthlyPayment(double[][] monthlyPayment) { this.monthlyPayment = monthlyPayment; }
+
+    public double[][] getTotalInterest() { return totalInterest; }
+    public void setTotalInterest(double[][] totalInterest) { this.totalInterest = totalInterest; }
+
+    public double[][] getTotalPayment() { return totalPayment; }
+    public void setTotalPayment(double[][] totalPayment) { this.totalPayment = totalPayment; }
+
+    public double[][] getTotalMonthlyOutflow() { return totalMonthlyOutflow; }
+    public void setTotalMonthlyOutflow(double[][] totalMonthlyOutflow) { this.totalMonthlyOutflow = totalMonthlyOutflow; }
+}
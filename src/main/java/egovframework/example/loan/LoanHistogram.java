@@ -0,0 +1,71 @@
+package egovframework.example.loan;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 누적 구간 히스토그램 (Prometheus histogram)
+ * 측정값을 고정 상한 구간별 LongAdder 에 기록함 (잠금/할당 없음).
+ * 수집 시점에만 누적 합을 계산하므로 기록 비용은 구간 탐색과 덧셈 3회로 제한됨.
+ */
+public final class LoanHistogram {
+
+    // 소요 시간 구간 상한 (나노초, 0.5ms ~ 10s)
+    static final long[] LATENCY_BOUNDS_NANOS = {
+        500000L, 1000000L, 2500000L, 5000000L, 10000000L, 25000000L, 50000000L,
+        100000000L, 250000000L, 500000000L, 1000000000L, 2500000000L, 5000000000L, 10000000000L
+    };
+    static final double NANOS_TO_SECONDS = 1e-9;
+
+    // 상환 스케줄 회차 수 구간 상한
+    static final long[] ROUND_BOUNDS = { 12, 24, 36, 48, 60, 72, 84, 96, 120, 180, 240, 360 };
+
+    private final long[] bounds;        // 구간 상한 (오름차순, 측정 단위)
+    private final double unit;          // 출력 시 곱할 단위 (나노초 → 초 등)
+    private final LongAdder[] buckets;  // 구간별 건수 (마지막은 +Inf)
+    private final LongAdder sum = new LongAdder();
+
+    public LoanHistogram(long[] bounds, double unit) {
+        this.bounds = bounds;
+        this.unit = unit;
+        this.buckets = new LongAdder[bounds.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 측정값 기록
+     */
+    public void record(long value) {
+        int i = 0;
+        while (i < bounds.length && value > bounds[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        sum.add(value);
+    }
+
+    /**
+     * 시작 시각(System.nanoTime)부터 현재까지 소요 시간 기록
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    int getBucketCount() { return bounds.length; }
+    double getBound(int i) { return bounds[i] * unit; }
+    double getSum() { return sum.sum() * unit; }
+
+    /**
+     * 구간별 누적 건수 (마지막 원소가 전체 건수)
+     */
+    long[] cumulativeCounts() {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            total += buckets[i].sum();
+            counts[i] = total;
+        }
+        return counts;
+    }
+}
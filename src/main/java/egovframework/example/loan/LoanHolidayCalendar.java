@@ -0,0 +1,136 @@
+package egovframework.example.loan;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 영업일 달력 (Holiday Calendar) - 불변 객체
+ * 토/일요일과 공휴일 목록(epoch day)을 기준으로 영업일 여부를 판단하고 상환일 조정 규칙을 적용함.
+ * 공휴일은 최초 공휴일부터의 BitSet 으로 보관하여 날짜 객체 생성 없이 조회함.
+ * 적재 범위(첫 공휴일 연도 1/1 ~ 마지막 공휴일 연도 12/31) 밖의 날짜는 주말만 휴일로 봄 (isCovered 로 확인).
+ */
+public final class LoanHolidayCalendar {
+
+    private final long firstDay;        // BitSet 시작일 (epoch day)
+    private final BitSet holidays;      // firstDay 기준 공휴일 비트
+    private final int holidayCount;     // 공휴일 수
+    private final long coveredFrom;     // 적재 범위 시작일 (epoch day, 공휴일이 없으면 범위 없음)
+    private final long coveredTo;       // 적재 범위 종료일 (epoch day)
+
+    public LoanHolidayCalendar(Collection<Long> holidayDays) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long day : holidayDays) {
+            min = Math.min(min, day);
+            max = Math.max(max, day);
+        }
+        this.firstDay = holidayDays.isEmpty() ? 0 : min;
+        this.holidays = new BitSet();
+        for (long day : holidayDays) {
+            holidays.set((int) (day - firstDay));
+        }
+        this.holidayCount = holidays.cardinality();
+        if (holidayDays.isEmpty()) {
+            this.coveredFrom = 0;
+            this.coveredTo = -1;
+        } else {
+            this.coveredFrom = LocalDate.ofEpochDay(min).withDayOfYear(1).toEpochDay();
+            LocalDate last = LocalDate.ofEpochDay(max);
+            this.coveredTo = last.withDayOfYear(last.lengthOfYear()).toEpochDay();
+        }
+    }
+
+    /**
+     * 주말만 휴일로 보는 달력 (공휴일 파일 미적재 시)
+     */
+    public static LoanHolidayCalendar weekendsOnly() {
+        return new LoanHolidayCalendar(Collections.<Long>emptyList());
+    }
+
+    /**
+     * 내용 해시 (세대 번호와 달리 재기동 후에도 같은 공휴일 목록은 같은 값 - ETag 용)
+     */
+    public int contentHash() {
+        return 31 * Long.hashCode(firstDay) + holidays.hashCode();
+    }
+
+    /**
+     * 공휴일 적재 범위 안의 날짜인지 여부 (범위 밖은 공휴일 정보 없이 주말만 휴일로 판단됨)
+     */
+    public boolean isCovered(long epochDay) {
+        return epochDay >= coveredFrom && epochDay <= coveredTo;
+    }
+
+    /**
+     * 영업일 여부 (토/일요일, 공휴일 제외)
+     */
+    public boolean isBusinessDay(long epochDay) {
+        int dayOfWeek = (int) Math.floorMod(epochDay + 3, 7L); // 0 = 월요일 (1970-01-01 은 목요일)
+        if (dayOfWeek >= 5) {
+            return false;
+        }
+        long offset = epochDay - firstDay;
+        return offset < 0 || offset > Integer.MAX_VALUE || !holidays.get((int) offset);
+    }
+
+    /**
+     * 상환일 조정 (LoanCode.PAYMENT_DAY_RULE_*)
+     * @param epochDay 약정 상환일
+     * @param rule 조정 규칙 (null 이면 기본 규칙)
+     * @return 조정된 상환일 (epoch day)
+     * @throws IllegalArgumentException 알 수 없는 규칙인 경우
+     */
+    public long adjust(long epochDay, String rule) {
+        String r = normalizeRule(rule);
+        if (LoanCode.PAYMENT_DAY_RULE_NONE.equals(r) || isBusinessDay(epochDay)) {
+            return epochDay;
+        }
+        if (LoanCode.PAYMENT_DAY_RULE_PRECEDING.equals(r)) {
+            return preceding(epochDay);
+        }
+        long next = following(epochDay);
+        if (LoanCode.PAYMENT_DAY_RULE_MODIFIED_FOLLOWING.equals(r)
+                && LocalDate.ofEpochDay(next).getMonthValue() != LocalDate.ofEpochDay(epochDay).getMonthValue()) {
+            return preceding(epochDay); // 월말을 넘기면 같은 달의 이전 영업일
+        }
+        return next;
+    }
+
+    /**
+     * 규칙 정규화 (null/빈 값은 기본 규칙, 대소문자 무시)
+     * @throws IllegalArgumentException 알 수 없는 규칙인 경우
+     */
+    public static String normalizeRule(String rule) {
+        if (rule == null || rule.trim().isEmpty()) {
+            return LoanCode.PAYMENT_DAY_RULE_DEFAULT;
+        }
+        String r = rule.trim().toUpperCase();
+        if (LoanCode.PAYMENT_DAY_RULE_NONE.equals(r) || LoanCode.PAYMENT_DAY_RULE_FOLLOWING.equals(r)
+                || LoanCode.PAYMENT_DAY_RULE_MODIFIED_FOLLOWING.equals(r) || LoanCode.PAYMENT_DAY_RULE_PRECEDING.equals(r)) {
+            return r;
+        }
+        throw new IllegalArgumentException("unknown payment day rule: " + rule);
+    }
+
+    private long following(long epochDay) {
+        long day = epochDay + 1;
+        while (!isBusinessDay(day)) {
+            day++;
+        }
+        return day;
+    }
+
+    private long preceding(long epochDay) {
+        long day = epochDay - 1;
+        while (!isBusinessDay(day)) {
+            day--;
+        }
+        return day;
+    }
+
+    public int getHolidayCount() { return holidayCount; }
+    public long getCoveredFrom() { return coveredFrom; }
+    public long getCoveredTo() { return coveredTo; }
+}
@@ -16,6 +16,7 @@ public class LoanInputVO {
     private double interestRate;       // 연 이자율 (%)
     private int termMonths;            // 대출 기간 (개월)
     private Date startDate;            // 대출 실행일
+    private String paymentDayRule;     // 상환일 영업일 조정 규칙 (LoanCode.PAYMENT_DAY_RULE_*, 미입력 시 기본 규칙)
 
     // Getters and Setters
     public double getVehiclePrice() { return vehiclePrice; }
@@ -44,4 +45,7 @@ public class LoanInputVO {
     
     public Date getStartDate() { return startDate; }
     public void setStartDate(Date startDate) { this.startDate = startDate; }
+    
+    public String getPaymentDayRule() { return paymentDayRule; }
+    public void setPaymentDayRule(String paymentDayRule) { this.paymentDayRule = paymentDayRule; }
 }
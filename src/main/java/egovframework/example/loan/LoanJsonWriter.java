@@ -0,0 +1,319 @@
+package egovframework.example.loan;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 대출 JSON Writer (스트리밍)
+ * LoanSummaryVO / LoanManageVO 를 중간 트리(Map, JsonNode 등) 없이 바로 출력 스트림에 기록함.
+ * 컬럼형 스케줄(CompactAmortizationSchedule)은 행 객체를 만들지 않고 원시 타입 컬럼에서 직접 읽음.
+ *
+ * 스케줄 형식:
+ *   rows    - [{"round":1,"paymentDate":"2025-02-01",...}, ...]
+ *   columns - {"round":[1,2,...],"paymentDate":["2025-02-01",...],...} (필드명이 회차마다 반복되지 않음)
+ */
+public class LoanJsonWriter {
+
+    public static final String LAYOUT_ROWS = "rows";
+    public static final String LAYOUT_COLUMNS = "columns";
+
+    public static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+
+    // 스케줄 컬럼 (내보내기 형식과 같은 순서)
+    private static final String[] COLUMNS = { "round", "paymentDate", "monthlyPayment", "principalPayment",
+            "interestPayment", "remainingBalance", "monthlyTax", "monthlyEnvCharge", "totalMonthlyOutflow",
+            "adjustedPaymentDate" };
+    private static final int COL_ROUND = 0;
+    private static final int COL_PAYMENT_DATE = 1;
+    private static final int COL_MONTHLY_PAYMENT = 2;
+    private static final int COL_PRINCIPAL = 3;
+    private static final int COL_INTEREST = 4;
+    private static final int COL_BALANCE = 5;
+    private static final int COL_TAX = 6;
+    private static final int COL_ENV_CHARGE = 7;
+    private static final int COL_OUTFLOW = 8;
+    private static final int COL_ADJUSTED_DATE = 9;
+
+    private final Writer out;
+    private final boolean columns;
+
+    public LoanJsonWriter(Writer out, String layout) {
+        this.out = out;
+        this.columns = LAYOUT_COLUMNS.equalsIgnoreCase(layout);
+    }
+
+    /**
+     * 응답 스트림용 Writer (UTF-8, 버퍼 포함 - 기록 후 flush 필요)
+     */
+    public static LoanJsonWriter of(OutputStream out, String layout) {
+        return new LoanJsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 8 * 1024), layout);
+    }
+
+    /**
+     * 지원 형식 여부
+     */
+    public static boolean isSupportedLayout(String layout) {
+        return LAYOUT_ROWS.equalsIgnoreCase(layout) || LAYOUT_COLUMNS.equalsIgnoreCase(layout);
+    }
+
+    /**
+     * 계산 결과 출력
+     */
+    public void writeSummary(LoanSummaryVO summary) throws IOException {
+        out.write("{\"vehiclePrice\":");
+        writeNumber(summary.getVehiclePrice());
+        out.write(",\"downPayment\":");
+        writeNumber(summary.getDownPayment());
+        out.write(",\"autoTaxAnnual\":");
+        writeNumber(summary.getAutoTaxAnnual());
+        out.write(",\"autoTaxMonthly\":");
+        writeNumber(summary.getAutoTaxMonthly());
+        out.write(",\"envChargeSemiAnnual\":");
+        writeNumber(summary.getEnvChargeSemiAnnual());
+        out.write(",\"envChargeMonthly\":");
+        writeNumber(summary.getEnvChargeMonthly());
+        out.write(",\"monthlyPayment\":");
+        writeNumber(summary.getMonthlyPayment());
+        out.write(",\"totalInterest\":");
+        writeNumber(summary.getTotalInterest());
+        out.write(",\"totalPayment\":");
+        writeNumber(summary.getTotalPayment());
+        out.write(",\"layout\":\"");
+        out.write(columns ? LAYOUT_COLUMNS : LAYOUT_ROWS);
+        out.write("\",\"schedule\":");
+        List<AmortizationScheduleItemVO> schedule = summary.getSchedule();
+        if (schedule == null) {
+            out.write("null");
+        } else if (columns) {
+            writeColumns(schedule);
+        } else {
+            writeRows(schedule);
+        }
+        out.write('}');
+    }
+
+    /**
+     * 상세 조회 결과 출력 ({"loan":{...},"summary":{...}})
+     */
+    public void writeLoan(LoanManageVO loan, LoanSummaryVO summary) throws IOException {
+        out.write("{\"loan\":");
+        writeLoanFields(loan);
+        out.write(",\"summary\":");
+        if (summary == null) {
+            out.write("null");
+        } else {
+            writeSummary(summary);
+        }
+        out.write('}');
+    }
+
+    /**
+     * 목록 조회 결과 출력 (다음 페이지 키셋 포함)
+     * @param hasNext 다음 페이지 존재 여부 (마지막 행의 등록일/ID 를 nextRegTime/nextId 로 출력)
+     */
+    public void writeLoanList(List<LoanManageVO> list, boolean hasNext) throws IOException {
+        out.write("{\"items\":[");
+        for (int i = 0; i < list.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            writeLoanFields(list.get(i));
+        }
+        out.write("],\"hasNext\":");
+        out.write(hasNext ? "true" : "false");
+        if (hasNext && !list.isEmpty()) {
+            LoanManageVO last = list.get(list.size() - 1);
+            out.write(",\"nextRegTime\":");
+            out.write(Long.toString(last.getRegDate().getTime()));
+            out.write(",\"nextId\":");
+            writeString(last.getId());
+        }
+        out.write('}');
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeLoanFields(LoanManageVO loan) throws IOException {
+        out.write("{\"id\":");
+        writeString(loan.getId());
+        out.write(",\"status\":");
+        writeString(loan.getStatus());
+        out.write(",\"regTime\":");
+        out.write(loan.getRegDate() != null ? Long.toString(loan.getRegDate().getTime()) : "null");
+        out.write(",\"vehiclePrice\":");
+        writeNumber(loan.getVehiclePrice());
+        out.write(",\"downPayment\":");
+        writeNumber(loan.getDownPayment());
+        out.write(",\"engineDisplacement\":");
+        out.write(Integer.toString(loan.getEngineDisplacement()));
+        out.write(",\"fuelType\":");
+        writeString(loan.getFuelType());
+        out.write(",\"envChargeSemiAnnual\":");
+        writeNumber(loan.getEnvChargeSemiAnnual());
+        out.write(",\"loanAmount\":");
+        writeNumber(loan.getLoanAmount());
+        out.write(",\"interestRate\":");
+        writeNumber(loan.getInterestRate());
+        out.write(",\"termMonths\":");
+        out.write(Integer.toString(loan.getTermMonths()));
+        out.write(",\"startDate\":");
+        if (loan.getStartDate() != null) {
+            writeDate(epochDay(loan.getStartDate()));
+        } else {
+            out.write("null");
+        }
+        out.write('}');
+    }
+
+    private void writeRows(List<AmortizationScheduleItemVO> schedule) throws IOException {
+        CompactAmortizationSchedule compact = schedule instanceof CompactAmortizationSchedule
+                ? (CompactAmortizationSchedule) schedule : null;
+        out.write('[');
+        for (int i = 0; i < schedule.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            AmortizationScheduleItemVO item = compact == null ? schedule.get(i) : null;
+            for (int c = 0; c < COLUMNS.length; c++) {
+                out.write(c == 0 ? "{\"" : ",\"");
+                out.write(COLUMNS[c]);
+                out.write("\":");
+                writeCell(compact, item, i, c);
+            }
+            out.write('}');
+        }
+        out.write(']');
+    }
+
+    private void writeColumns(List<AmortizationScheduleItemVO> schedule) throws IOException {
+        CompactAmortizationSchedule compact = schedule instanceof CompactAmortizationSchedule
+                ? (CompactAmortizationSchedule) schedule : null;
+        out.write('{');
+        for (int c = 0; c < COLUMNS.length; c++) {
+            if (c > 0) {
+                out.write(',');
+            }
+            out.write('"');
+            out.write(COLUMNS[c]);
+            out.write("\":[");
+            for (int i = 0; i < schedule.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeCell(compact, compact == null ? schedule.get(i) : null, i, c);
+            }
+            out.write(']');
+        }
+        out.write('}');
+    }
+
+    /**
+     * 회차 i 의 컬럼 c 값 출력 (컬럼형은 원시 타입 컬럼, 그 외는 행 VO)
+     */
+    private void writeCell(CompactAmortizationSchedule s, AmortizationScheduleItemVO item, int i, int c) throws IOException {
+        switch (c) {
+            case COL_ROUND:
+                out.write(Integer.toString(s != null ? s.getRound(i) : item.getRound()));
+                break;
+            case COL_PAYMENT_DATE:
+                writeDate(s != null ? s.getPaymentEpochDay(i) : epochDay(item.getPaymentDate()));
+                break;
+            case COL_MONTHLY_PAYMENT:
+                writeAmount(s != null ? s.getMonthlyPayment(i) : item.getMonthlyPayment(), s != null);
+                break;
+            case COL_PRINCIPAL:
+                writeAmount(s != null ? s.getPrincipalPayment(i) : item.getPrincipalPayment(), s != null);
+                break;
+            case COL_INTEREST:
+                writeAmount(s != null ? s.getInterestPayment(i) : item.getInterestPayment(), s != null);
+                break;
+            case COL_BALANCE:
+                writeAmount(s != null ? s.getRemainingBalance(i) : item.getRemainingBalance(), s != null);
+                break;
+            case COL_TAX:
+                writeAmount(s != null ? s.getMonthlyTax(i) : item.getMonthlyTax(), s != null);
+                break;
+            case COL_ENV_CHARGE:
+                writeAmount(s != null ? s.getMonthlyEnvCharge(i) : item.getMonthlyEnvCharge(), s != null);
+                break;
+            case COL_OUTFLOW:
+                writeAmount(s != null ? s.getTotalMonthlyOutflow(i) : item.getTotalMonthlyOutflow(), s != null);
+                break;
+            case COL_ADJUSTED_DATE:
+                if (s != null) {
+                    writeDate(s.getAdjustedPaymentEpochDay(i));
+                } else if (item.getAdjustedPaymentDate() != null) {
+                    writeDate(epochDay(item.getAdjustedPaymentDate()));
+                } else {
+                    writeDate(epochDay(item.getPaymentDate()));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("column: " + c);
+        }
+    }
+
+    /**
+     * 금액 출력 (컬럼형 값은 원 단위 정수, 행 VO 값은 double)
+     */
+    private void writeAmount(double value, boolean won) throws IOException {
+        if (won) {
+            out.write(Long.toString((long) value));
+        } else {
+            writeNumber(value);
+        }
+    }
+
+    /**
+     * 숫자 출력 (정수 값은 소수점 없이, NaN/무한대는 null)
+     */
+    private void writeNumber(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.write("null");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            out.write(Long.toString((long) value));
+        } else {
+            out.write(Double.toString(value));
+        }
+    }
+
+    private void writeDate(long epochDay) throws IOException {
+        out.write('"');
+        out.write(LocalDate.ofEpochDay(epochDay).toString());
+        out.write('"');
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write(String.format("\\u%04x", (int) c));
+            } else {
+                out.write(c);
+            }
+        }
+        out.write('"');
+    }
+
+    private static long epochDay(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+}
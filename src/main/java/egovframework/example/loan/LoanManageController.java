@@ -1,12 +1,22 @@
 package egovframework.example.loan;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import javax.annotation.Resource;
+import javax.servlet.http.HttpServletResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
 @Controller
 public class LoanManageController {
@@ -14,6 +24,18 @@ public class LoanManageController {
     @Resource(name = "loanManageService")
     private LoanManageService loanManageService;
 
+    @Resource(name = "loanCalculatorService")
+    private LoanCalculatorService loanCalculatorService;
+
+    @Resource(name = "loanPortfolioService")
+    private LoanPortfolioService loanPortfolioService;
+
+    @Resource(name = "loanStressService")
+    private LoanStressService loanStressService;
+
+    @Resource(name = "loanSchedulePartitionService")
+    private LoanSchedulePartitionService loanSchedulePartitionService;
+
     /**
      * 목록 조회
      */
@@ -21,6 +43,15 @@ public class LoanManageController {
     public String selectLoanList(@ModelAttribute("searchVO") LoanManageVO searchVO, ModelMap model) throws Exception {
         List<LoanManageVO> list = loanManageService.selectLoanScheduleList(searchVO);
         model.addAttribute("resultList", list);
+        
+        // 다음 페이지 키셋 (마지막 행의 등록일/ID)
+        boolean hasNext = list.size() == searchVO.getPageSize();
+        model.addAttribute("hasNext", hasNext);
+        if (hasNext) {
+            LoanManageVO last = list.get(list.size() - 1);
+            model.addAttribute("nextRegTime", last.getRegDate().getTime());
+            model.addAttribute("nextId", last.getId());
+        }
         return "loan/loanList";
     }
 
@@ -29,11 +60,157 @@ public class LoanManageController {
      */
     @RequestMapping(value = "/loan/view.do")
     public String selectLoan(@RequestParam("id") String id, ModelMap model) throws Exception {
-        LoanManageVO result = loanManageService.selectLoanSchedule(id);
+        LoanManageVO result = loanManageService.selectLoanScheduleDetail(id);
         model.addAttribute("result", result);
+        if (result != null) {
+            // 승인 건은 스냅샷 복원 (재계산 없음)
+            model.addAttribute("summary", loanManageService.selectLoanScheduleSummary(result));
+        }
         return "loan/loanView";
     }
 
+    /**
+     * 목록 조회 (JSON, 페이지 내용 기준 ETag - 변경이 없으면 304)
+     */
+    @RequestMapping(value = "/loan/api/list.do")
+    public void selectLoanListJson(@ModelAttribute("searchVO") LoanManageVO searchVO,
+            WebRequest webRequest, HttpServletResponse response) throws Exception {
+        List<LoanManageVO> list = loanManageService.selectLoanScheduleList(searchVO);
+        boolean hasNext = list.size() == searchVO.getPageSize();
+        if (webRequest.checkNotModified(LoanETags.header(LoanETags.list(list, hasNext), LoanJsonWriter.LAYOUT_ROWS))) {
+            return; // 304 (직렬화 없음)
+        }
+        response.setContentType(LoanJsonWriter.CONTENT_TYPE);
+        LoanJsonWriter writer = LoanJsonWriter.of(response.getOutputStream(), LoanJsonWriter.LAYOUT_ROWS);
+        writer.writeLoanList(list, hasNext);
+        writer.flush();
+    }
+
+    /**
+     * 상세 조회 (JSON)
+     * 조회 후 ETag 비교하여 같으면 스케줄 계산/복원 없이 304.
+     */
+    @RequestMapping(value = "/loan/api/view.do")
+    public void selectLoanJson(@RequestParam("id") String id,
+            @RequestParam(value = "layout", defaultValue = LoanJsonWriter.LAYOUT_ROWS) String layout,
+            WebRequest webRequest, HttpServletResponse response) throws Exception {
+        if (!LoanJsonWriter.isSupportedLayout(layout)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        LoanManageVO result = loanManageService.selectLoanScheduleDetail(id);
+        if (result == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (webRequest.checkNotModified(LoanETags.header(loanManageService.getLoanETag(result), layout))) {
+            return; // 304 (계산 없음)
+        }
+        LoanSummaryVO summary = loanManageService.selectLoanScheduleSummary(result);
+        
+        response.setContentType(LoanJsonWriter.CONTENT_TYPE);
+        LoanJsonWriter writer = LoanJsonWriter.of(response.getOutputStream(), layout);
+        writer.writeLoan(result, summary);
+        writer.flush();
+    }
+
+    /**
+     * 저장된 대출의 회차 구간 조회 (JSON, 1회차부터 순차 계산하지 않음)
+     */
+    @RequestMapping(value = "/loan/viewRounds.do")
+    @ResponseBody
+    public List<AmortizationScheduleItemVO> selectLoanRounds(@RequestParam("id") String id,
+            @RequestParam(value = "from", defaultValue = "1") int from,
+            @RequestParam(value = "to", defaultValue = "12") int to) throws Exception {
+        LoanManageVO loan = loanManageService.selectLoanSchedule(id);
+        if (loan == null) {
+            return new ArrayList<AmortizationScheduleItemVO>();
+        }
+        return loanCalculatorService.calculateRounds(loan, from, to);
+    }
+
+    /**
+     * 저장된 대출 재상환계획 산정 (변경 이벤트 JSON 배열, 첫 이벤트 회차부터의 스케줄 반환)
+     */
+    @RequestMapping(value = "/loan/reamortize.do", method = RequestMethod.POST)
+    @ResponseBody
+    public LoanSummaryVO reamortizeLoan(@RequestParam("id") String id, @RequestBody List<LoanEventVO> events,
+            HttpServletResponse response) throws Exception {
+        LoanManageVO loan = loanManageService.selectLoanSchedule(id);
+        if (loan == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return null;
+        }
+        return loanCalculatorService.reamortize(loan, events);
+    }
+
+    /**
+     * 포트폴리오 월별 예상 현금흐름 (JSON, yyyy-MM, 기본: 이번 달부터 12개월)
+     */
+    @RequestMapping(value = "/loan/portfolio/cashFlow.do")
+    @ResponseBody
+    public List<LoanCashFlowVO> selectPortfolioCashFlow(@RequestParam(value = "from", required = false) String from,
+            @RequestParam(value = "to", required = false) String to) throws Exception {
+        YearMonth fromMonth = from != null ? YearMonth.parse(from) : YearMonth.now();
+        YearMonth toMonth = to != null ? YearMonth.parse(to) : fromMonth.plusMonths(11);
+        return loanPortfolioService.selectCashFlow(fromMonth, toMonth);
+    }
+
+    /**
+     * 포트폴리오 전체 재집계 (집계된 대출 건수 반환)
+     */
+    @RequestMapping(value = "/loan/portfolio/rebuild.do", method = RequestMethod.POST)
+    @ResponseBody
+    public int rebuildPortfolio() throws Exception {
+        return loanPortfolioService.rebuild();
+    }
+
+    /**
+     * 포트폴리오 금리 스트레스 시뮬레이션 (JSON, 총 이자/최대 월 상환액 분포)
+     */
+    @RequestMapping(value = "/loan/portfolio/stress.do", method = RequestMethod.POST)
+    @ResponseBody
+    public LoanStressResultVO simulatePortfolioStress(@ModelAttribute("scenarioVO") LoanStressScenarioVO scenarioVO) throws Exception {
+        return loanStressService.simulate(scenarioVO);
+    }
+
+    /**
+     * 오래된 DRAFT 보관 이전 즉시 실행 (이전 건수 반환, 파티션 전환 전 DB 는 0)
+     */
+    @RequestMapping(value = "/loan/maintenance/archive.do", method = RequestMethod.POST)
+    @ResponseBody
+    public int archiveStaleDrafts() throws Exception {
+        loanSchedulePartitionService.ensurePartitions();
+        return loanSchedulePartitionService.archiveStaleDrafts();
+    }
+
+    /**
+     * 스냅샷이 없는 승인 건 스냅샷 보완 즉시 실행 (보완 건수 반환)
+     */
+    @RequestMapping(value = "/loan/maintenance/snapshot.do", method = RequestMethod.POST)
+    @ResponseBody
+    public int repairSnapshots() throws Exception {
+        return loanManageService.repairLoanScheduleSnapshots();
+    }
+
+    /**
+     * 승인 건 상환 스케줄 내보내기 (CSV / NDJSON 스트리밍)
+     */
+    @RequestMapping(value = "/loan/export.do")
+    public void exportLoanSchedules(@RequestParam(value = "format", defaultValue = LoanScheduleExportWriter.FORMAT_CSV) String format,
+            HttpServletResponse response) throws Exception {
+        if (!LoanScheduleExportWriter.isSupportedFormat(format)) {
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        BufferedWriter out = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), 64 * 1024);
+        LoanScheduleExportWriter writer = new LoanScheduleExportWriter(out, format);
+        response.setContentType(writer.getContentType());
+        response.setHeader("Content-Disposition", "attachment; filename=\"loan-schedules." + writer.getFileExtension() + "\"");
+        loanManageService.exportApprovedLoanSchedules(writer);
+    }
+
     /**
      * 저장 (등록/수정)
      */
@@ -43,6 +220,15 @@ public class LoanManageController {
         return "redirect:/loan/list.do";
     }
 
+    /**
+     * 대량 저장 (JSON 배열, 건별 결과 반환)
+     */
+    @RequestMapping(value = "/loan/saveBulk.do", method = RequestMethod.POST)
+    @ResponseBody
+    public List<LoanBulkResultVO> saveLoanBulk(@RequestBody List<LoanManageVO> list) throws Exception {
+        return loanManageService.saveLoanSchedules(list);
+    }
+
     /**
      * 삭제
      */
@@ -60,4 +246,13 @@ public class LoanManageController {
         loanManageService.approveLoanSchedule(id);
         return "redirect:/loan/list.do";
     }
+
+    /**
+     * 대량 승인 (ID JSON 배열, 건별 결과 반환)
+     */
+    @RequestMapping(value = "/loan/approveBulk.do", method = RequestMethod.POST)
+    @ResponseBody
+    public List<LoanBulkResultVO> approveLoanBulk(@RequestBody List<String> ids) throws Exception {
+        return loanManageService.approveLoanSchedules(ids);
+    }
 }
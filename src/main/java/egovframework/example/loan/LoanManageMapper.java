@@ -1,6 +1,9 @@
 package egovframework.example.loan;
 
+import java.util.Date;
 import java.util.List;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 import egovframework.rte.psl.dataaccess.mapper.Mapper;
 
 /**
@@ -17,22 +20,39 @@ public interface LoanManageMapper {
     void insertLoanSchedule(LoanManageVO vo) throws Exception;
     
     /**
-     * 상환 스케줄 수정 (Update)
-     * @param vo - 수정할 대출 정보
+     * 상환 스케줄 다건 저장 (Multi-row Insert)
+     * @param list - 저장할 대출 정보 목록 (ID, 등록일, 상태 설정 완료)
      * @throws Exception
      */
-    void updateLoanSchedule(LoanManageVO vo) throws Exception;
+    void insertLoanScheduleList(List<LoanManageVO> list) throws Exception;
     
     /**
-     * 상환 스케줄 삭제 (Delete)
+     * 상환 스케줄 수정 (Update, 승인 건은 수정하지 않음)
+     * @param vo - 수정할 대출 정보 (searchRegDateFrom/To 가 있으면 해당 등록일 파티션만 조회)
+     * @return 수정 건수 (없는 ID 이거나 승인 건이면 0)
+     * @throws Exception
+     */
+    int updateLoanSchedule(LoanManageVO vo) throws Exception;
+    
+    /**
+     * 상환 스케줄 삭제 (Delete, 승인 건은 삭제하지 않음)
+     * @param key - 삭제할 ID (searchRegDateFrom/To 가 있으면 해당 등록일 파티션만 조회)
+     * @return 삭제 건수 (없는 ID 이거나 승인 건이면 0)
+     * @throws Exception
+     */
+    int deleteLoanSchedule(LoanManageVO key) throws Exception;
+    
+    /**
+     * 승인 스케줄 스냅샷 삭제 (대출 삭제 시 함께 호출 - 파티션 테이블은 FK 를 두지 않음)
      * @param id - 삭제할 ID
      * @throws Exception
      */
-    void deleteLoanSchedule(String id) throws Exception;
+    void deleteLoanScheduleSnapshot(String id) throws Exception;
     
     /**
      * 상환 스케줄 목록 조회 (Select List)
-     * @param vo - 검색 조건 (필요 시)
+     * 상태/연료/등록일/대출 원금 조건과 (REG_DATE, ID) 키셋 페이징 적용
+     * @param vo - 검색 조건 및 직전 페이지 마지막 행 (lastRegDate, lastId)
      * @return 대출 정보 목록
      * @throws Exception
      */
@@ -40,16 +60,96 @@ public interface LoanManageMapper {
     
     /**
      * 상환 스케줄 상세 조회 (Select Detail)
-     * @param id - 조회할 ID
+     * @param key - 조회할 ID (searchRegDateFrom/To 가 있으면 해당 등록일 파티션만 조회)
      * @return 대출 정보 상세
      * @throws Exception
      */
-    LoanManageVO selectLoanSchedule(String id) throws Exception;
+    LoanManageVO selectLoanSchedule(LoanManageVO key) throws Exception;
+    
+    /**
+     * 상환 스케줄 상세 조회 (승인 스냅샷 포함, 1회 조회)
+     * @param key - 조회할 ID (searchRegDateFrom/To 가 있으면 해당 등록일 파티션만 조회)
+     * @return 대출 정보 상세 (scheduleSnapshot 은 스냅샷이 없으면 null)
+     * @throws Exception
+     */
+    LoanManageVO selectLoanScheduleDetail(LoanManageVO key) throws Exception;
+    
+    /**
+     * 승인 스케줄 스냅샷 저장 (이미 있으면 기존 값 유지)
+     * @param vo - 스냅샷 정보
+     * @throws Exception
+     */
+    void insertLoanScheduleSnapshot(LoanScheduleSnapshotVO vo) throws Exception;
+    
+    /**
+     * 승인 스케줄 스냅샷 다건 저장 (이미 있으면 기존 값 유지)
+     * @param list - 스냅샷 정보 목록
+     * @throws Exception
+     */
+    void insertLoanScheduleSnapshotList(List<LoanScheduleSnapshotVO> list) throws Exception;
+    
+    /**
+     * 승인된 대출 전체 조회 (Streaming, 승인 스냅샷 포함)
+     * 목록을 메모리에 만들지 않고 한 건씩 handler 로 전달함 (fetchSize 단위 조회).
+     * @param handler - 건별 처리기 (scheduleSnapshot 은 스냅샷이 없으면 null)
+     * @throws Exception
+     */
+    void selectApprovedLoanScheduleList(ResultHandler<LoanManageVO> handler) throws Exception;
+    
+    /**
+     * 상환 스케줄 다건 조회 (ID 목록, 승인 스냅샷 포함)
+     * @param ids - 조회할 ID 목록
+     * @return 대출 정보 목록 (없는 ID 는 제외, 순서 보장 없음, scheduleSnapshot 은 스냅샷이 없으면 null)
+     * @throws Exception
+     */
+    List<LoanManageVO> selectLoanScheduleListByIds(@Param("ids") List<String> ids) throws Exception;
+    
+    /**
+     * 스냅샷이 없는 승인 건 조회 (스냅샷 보완용, 등록일 순)
+     * @param limit - 최대 건수
+     * @return 대출 정보 목록
+     * @throws Exception
+     */
+    List<LoanManageVO> selectApprovedLoanScheduleListWithoutSnapshot(@Param("limit") int limit) throws Exception;
     
     /**
      * 결재 상태 변경 (Approve)
-     * @param vo - ID와 변경할 상태 포함
+     * @param vo - ID와 변경할 상태 포함 (searchRegDateFrom/To 가 있으면 해당 등록일 파티션만 조회)
      * @throws Exception
      */
     void updateLoanStatus(LoanManageVO vo) throws Exception;
+    
+    /**
+     * 결재 상태 다건 변경 (UPDATE ... RETURNING)
+     * @param ids - 변경할 ID 목록
+     * @param status - 변경할 상태
+     * @return 실제 변경된 ID 목록
+     * @throws Exception
+     */
+    List<String> updateLoanStatusList(@Param("ids") List<String> ids, @Param("status") String status) throws Exception;
+    
+    /**
+     * LOAN_SCHEDULE 월별 파티션 전환 여부 (PostgreSQL 파티션 테이블 확인)
+     * @return 파티션 테이블이면 true
+     * @throws Exception 파티션 카탈로그가 없는 DB (H2 등)
+     */
+    boolean selectLoanSchedulePartitioned() throws Exception;
+    
+    /**
+     * 월 파티션 생성 (이미 있으면 무시)
+     * @param name - 파티션 테이블명 (LOAN_SCHEDULE_yyyyMM, 서비스에서 생성한 값만 사용)
+     * @param from - 구간 시작 (yyyy-MM-01, 포함)
+     * @param to - 구간 종료 (다음 달 1일, 미포함)
+     * @throws Exception
+     */
+    void createLoanSchedulePartition(@Param("name") String name, @Param("from") String from, @Param("to") String to) throws Exception;
+    
+    /**
+     * 오래된 DRAFT 보관 테이블 이전 (DELETE ... RETURNING → INSERT, 1문장 = 1배치)
+     * @param cutoff - 등록일 기준 (미만인 DRAFT 만 이전)
+     * @param limit - 1회 이전 최대 건수
+     * @return 이전 건수
+     * @throws Exception
+     */
+    int archiveDraftLoanSchedules(@Param("cutoff") Date cutoff, @Param("limit") int limit) throws Exception;
 }
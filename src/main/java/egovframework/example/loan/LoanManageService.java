@@ -1,6 +1,8 @@
 package egovframework.example.loan;
 
+import java.util.Collection;
 import java.util.List;
+import org.apache.ibatis.session.ResultHandler;
 
 /**
  * 대출 관리 서비스 인터페이스
@@ -8,21 +10,33 @@ import java.util.List;
 public interface LoanManageService {
     
     /**
-     * 대출 정보 저장/수정
+     * 대출 정보 저장/수정 (승인 건은 수정 불가)
      * @param vo
+     * @throws IllegalStateException 수정 대상이 없거나 승인 건인 경우
      * @throws Exception
      */
     void saveLoanSchedule(LoanManageVO vo) throws Exception;
     
     /**
-     * 대출 정보 삭제
+     * 대출 정보 대량 저장/수정
+     * 신규 건은 청크 단위 multi-row INSERT 로 저장하며, 청크가 실패하면 해당 청크만 건별로 재시도하여 실패 행을 식별함.
+     * 수정 건 중 없는 ID 이거나 승인 건은 실패로 반환함.
+     * @param list 저장할 대출 정보 목록
+     * @return 건별 처리 결과 (요청 순서 유지)
+     * @throws Exception
+     */
+    List<LoanBulkResultVO> saveLoanSchedules(List<LoanManageVO> list) throws Exception;
+    
+    /**
+     * 대출 정보 삭제 (승인 건은 삭제 불가)
      * @param id
+     * @throws IllegalStateException 삭제 대상이 없거나 승인 건인 경우
      * @throws Exception
      */
     void deleteLoanSchedule(String id) throws Exception;
     
     /**
-     * 대출 목록 조회
+     * 대출 목록 조회 (검색 조건 + 키셋 페이징, 등록일/ID 역순)
      * @param vo
      * @return
      * @throws Exception
@@ -38,9 +52,64 @@ public interface LoanManageService {
     LoanManageVO selectLoanSchedule(String id) throws Exception;
     
     /**
-     * 승인 처리
+     * 대출 상세 조회 (승인 스냅샷 포함, 1회 조회)
+     * @param id 대출 ID
+     * @return 대출 정보 (scheduleSnapshot 은 스냅샷이 없으면 null)
+     */
+    LoanManageVO selectLoanScheduleDetail(String id) throws Exception;
+    
+    /**
+     * 대출 상환 스케줄 조회 (상세 화면용)
+     * 승인 건은 승인 시점 스냅샷을 복원하여 반환하고(재계산 없음, 세율표 변경 영향 없음),
+     * 미승인 건과 스냅샷이 없는 승인 건은 현재 세율표로 계산함 (저장 없음, 읽기 전용).
+     * @param loan selectLoanScheduleDetail 조회 결과
+     * @return 계산 결과 (컬럼형 스케줄 포함)
+     */
+    LoanSummaryVO selectLoanScheduleSummary(LoanManageVO loan) throws Exception;
+    
+    /**
+     * 상세 조회 결과의 ETag 토큰
+     * (행 내용 + 승인 스냅샷과 공휴일 달력, 스냅샷이 없으면 현재 계산 기준 견적 지문)
+     * @param loan selectLoanScheduleDetail 조회 결과
+     * @return ETag 토큰 (따옴표/형식 제외)
+     */
+    String getLoanETag(LoanManageVO loan);
+    
+    /**
+     * 스냅샷이 없는 승인 건의 스냅샷 보완 (기능 도입 전 승인, 대량 승인 중 저장 실패, 현재 세율표 기준)
+     * @return 보완 건수
+     * @throws Exception
+     */
+    int repairLoanScheduleSnapshots() throws Exception;
+    
+    /**
+     * 승인 처리 (스냅샷이 없으면 함께 저장)
      * @param id
      * @throws Exception
      */
     void approveLoanSchedule(String id) throws Exception;
+    
+    /**
+     * 대량 승인 처리 (청크 단위 UPDATE)
+     * @param ids 승인할 ID 목록
+     * @return 건별 처리 결과 (요청 순서 유지, 없는 ID 는 NOT_FOUND)
+     * @throws Exception
+     */
+    List<LoanBulkResultVO> approveLoanSchedules(Collection<String> ids) throws Exception;
+    
+    /**
+     * 승인된 대출의 상환 스케줄 전체 내보내기 (Streaming)
+     * 대출을 한 건씩 읽어 스케줄을 승인 스냅샷에서 복원(스냅샷이 없으면 계산)하고 바로 출력하므로 건수와 무관하게 메모리 사용량이 일정함.
+     * @param writer 출력 Writer (CSV / NDJSON)
+     * @throws Exception
+     */
+    void exportApprovedLoanSchedules(LoanScheduleExportWriter writer) throws Exception;
+    
+    /**
+     * 승인된 대출 전체 조회 (Streaming, 승인 스냅샷 포함)
+     * 읽기 전용 트랜잭션 안에서 fetchSize 단위로 읽어 한 건씩 handler 로 전달하며, 반환 시 트랜잭션과 커넥션이 종료됨.
+     * @param handler 건별 처리기 (scheduleSnapshot 은 스냅샷이 없으면 null)
+     * @throws Exception
+     */
+    void selectApprovedLoanScheduleList(ResultHandler<LoanManageVO> handler) throws Exception;
 }
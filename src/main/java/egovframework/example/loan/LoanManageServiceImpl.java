@@ -1,10 +1,21 @@
 package egovframework.example.loan;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Set;
 import java.util.Date;
 import javax.annotation.Resource;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;
 
 /**
@@ -16,40 +27,400 @@ public class LoanManageServiceImpl extends EgovAbstractServiceImpl implements Lo
     @Resource(name = "loanManageMapper")
     private LoanManageMapper loanManageMapper;
 
+    @Resource(name = "loanCalculatorService")
+    private LoanCalculatorService loanCalculatorService;
+
+    @Resource(name = "loanPortfolioService")
+    private LoanPortfolioService loanPortfolioService;
+
+    @Resource(name = "loanRateTableService")
+    private LoanRateTableService loanRateTableService;
+    
+    @Resource(name = "loanPaymentCalendarService")
+    private LoanPaymentCalendarService loanPaymentCalendarService;
+
+    // 대량 저장/승인 청크 크기 (loan.db.bulkChunkSize, 미설정 시 기본값)
+    private int bulkChunkSize = LoanCode.BULK_CHUNK_SIZE;
+
+    /**
+     * @throws IllegalArgumentException 0 이하인 경우 (청크 배열 크기/반복 증가분으로 사용),
+     *         LoanCode.BULK_CHUNK_MAX_SIZE 초과인 경우 (다중 행 INSERT 가 문장당 바인드 파라미터 한도 32767 을 넘음)
+     */
+    @Value("${loan.db.bulkChunkSize:" + LoanCode.BULK_CHUNK_SIZE + "}")
+    public void setBulkChunkSize(int bulkChunkSize) {
+        if (bulkChunkSize <= 0 || bulkChunkSize > LoanCode.BULK_CHUNK_MAX_SIZE) {
+            throw new IllegalArgumentException("bulk chunk size must be 1.." + LoanCode.BULK_CHUNK_MAX_SIZE + ": " + bulkChunkSize);
+        }
+        this.bulkChunkSize = bulkChunkSize;
+    }
+
     @Override
     public void saveLoanSchedule(LoanManageVO vo) throws Exception {
         if (vo.getId() == null || vo.getId().isEmpty()) {
             // 신규 저장
-            vo.setId(UUID.randomUUID().toString()); // 간단한 UUID 생성
-            vo.setRegDate(new Date());
-            if (vo.getStatus() == null) vo.setStatus("DRAFT");
+            long now = System.currentTimeMillis();
+            vo.setId(LoanScheduleIds.newId(now)); // 시간순 UUID (등록 시각 = REG_DATE)
+            vo.setRegDate(new Date(now));
+            if (vo.getStatus() == null) vo.setStatus(LoanCode.STATUS_DRAFT);
             loanManageMapper.insertLoanSchedule(vo);
+            if (LoanCode.STATUS_APPROVED.equals(vo.getStatus())) {
+                loanPortfolioService.upsertLoan(vo); // 승인 상태로 바로 등록된 경우 집계 반영
+            }
         } else {
-            // 수정
-            loanManageMapper.updateLoanSchedule(vo);
+            // 수정 (승인 건은 스냅샷/집계가 승인 시점 조건 기준이므로 수정 불가, 집계 대상이 아니므로 반영 없음)
+            LoanScheduleIds.applyRegDateRange(vo);
+            if (loanManageMapper.updateLoanSchedule(vo) == 0) {
+                throw new IllegalStateException("loan not found or already approved: " + vo.getId());
+            }
         }
     }
 
+    /**
+     * 청크(1 SQL 문장) 단위로 자동 커밋되므로 전체를 감싸는 트랜잭션 없이 호출해야 함.
+     */
     @Override
+    public List<LoanBulkResultVO> saveLoanSchedules(List<LoanManageVO> list) throws Exception {
+        LoanBulkResultVO[] results = new LoanBulkResultVO[list.size()];
+        List<LoanManageVO> chunk = new ArrayList<>(bulkChunkSize);
+        int[] chunkIndex = new int[bulkChunkSize];
+        
+        for (int i = 0; i < list.size(); i++) {
+            LoanManageVO vo = list.get(i);
+            if (vo == null) {
+                results[i] = failed(i, null, "row is null");
+            } else if (vo.getId() == null || vo.getId().isEmpty()) {
+                // 신규 저장 - 청크에 모아 한 번에 INSERT
+                long now = System.currentTimeMillis();
+                vo.setId(LoanScheduleIds.newId(now));
+                vo.setRegDate(new Date(now));
+                if (vo.getStatus() == null) vo.setStatus(LoanCode.STATUS_DRAFT);
+                chunkIndex[chunk.size()] = i;
+                chunk.add(vo);
+                if (chunk.size() == bulkChunkSize) {
+                    insertChunk(chunk, chunkIndex, results);
+                }
+            } else {
+                // 수정 - 건별 UPDATE (승인 건은 수정 불가)
+                try {
+                    LoanScheduleIds.applyRegDateRange(vo);
+                    if (loanManageMapper.updateLoanSchedule(vo) == 0) {
+                        results[i] = failed(i, vo.getId(), "loan not found or already approved");
+                        continue;
+                    }
+                    results[i] = new LoanBulkResultVO(i, vo.getId(), LoanBulkResultVO.RESULT_SUCCESS);
+                } catch (Exception e) {
+                    results[i] = failed(i, vo.getId(), e.getMessage());
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, chunkIndex, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 청크 INSERT (실패 시 건별 재시도로 실패 행 식별)
+     */
+    private void insertChunk(List<LoanManageVO> chunk, int[] chunkIndex, LoanBulkResultVO[] results) {
+        try {
+            loanManageMapper.insertLoanScheduleList(chunk);
+            for (int j = 0; j < chunk.size(); j++) {
+                results[chunkIndex[j]] = new LoanBulkResultVO(chunkIndex[j], chunk.get(j).getId(), LoanBulkResultVO.RESULT_SUCCESS);
+                upsertIfApproved(chunk.get(j));
+            }
+        } catch (Exception chunkError) {
+            for (int j = 0; j < chunk.size(); j++) {
+                LoanManageVO vo = chunk.get(j);
+                try {
+                    loanManageMapper.insertLoanSchedule(vo);
+                    results[chunkIndex[j]] = new LoanBulkResultVO(chunkIndex[j], vo.getId(), LoanBulkResultVO.RESULT_SUCCESS);
+                    upsertIfApproved(vo);
+                } catch (Exception e) {
+                    results[chunkIndex[j]] = failed(chunkIndex[j], vo.getId(), e.getMessage());
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    /**
+     * 대량 승인된 대출의 스냅샷 저장 및 집계 반영 (청크당 조회 1회, 저장 1회)
+     * 이미 스냅샷이 있는 대출(재승인)은 기존 스냅샷을 유지하고 그 값으로 집계함.
+     * 승인은 이미 커밋되었으므로 실패는 기록만 하고 결과에 반영하지 않음
+     * (스냅샷은 repairLoanScheduleSnapshots 로 보완, 집계는 재집계로 복구).
+     * 스냅샷 저장과 집계 반영은 서로 독립적으로 실행하여 한쪽 실패가 다른 쪽을 막지 않음.
+     */
+    private void applyApproved(List<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<LoanManageVO> approvedList;
+        try {
+            approvedList = loanManageMapper.selectLoanScheduleListByIds(ids);
+        } catch (Exception e) {
+            egovLogger.error("approved loan lookup failed after bulk approve", e);
+            return;
+        }
+        try {
+            List<LoanManageVO> created = new ArrayList<>(approvedList.size());
+            List<LoanScheduleSnapshotVO> snapshots = new ArrayList<>(approvedList.size());
+            for (LoanManageVO approved : approvedList) {
+                if (approved.getScheduleSnapshot() == null) {
+                    created.add(approved);
+                    snapshots.add(toSnapshot(approved, loanCalculatorService.calculateCompact(approved)));
+                }
+            }
+            if (!snapshots.isEmpty()) {
+                loanManageMapper.insertLoanScheduleSnapshotList(snapshots);
+                for (int i = 0; i < created.size(); i++) {
+                    created.get(i).setScheduleSnapshot(snapshots.get(i).getSnapshot()); // 저장된 값으로 집계
+                }
+            }
+        } catch (Exception e) {
+            egovLogger.error("snapshot insert failed after bulk approve", e);
+        }
+        for (LoanManageVO approved : approvedList) {
+            try {
+                loanPortfolioService.upsertLoan(approved);
+            } catch (RuntimeException e) {
+                egovLogger.error("portfolio update failed after bulk approve: {}", approved.getId(), e);
+            }
+        }
+    }
+
+    private void upsertIfApproved(LoanManageVO vo) {
+        if (LoanCode.STATUS_APPROVED.equals(vo.getStatus())) {
+            loanPortfolioService.upsertLoan(vo);
+        }
+    }
+
+    private static LoanBulkResultVO failed(int index, String id, String message) {
+        LoanBulkResultVO result = new LoanBulkResultVO(index, id, LoanBulkResultVO.RESULT_FAILED);
+        result.setErrorMessage(message);
+        return result;
+    }
+
+    /**
+     * 스냅샷과 대출 삭제를 한 트랜잭션으로 처리 (승인 건은 스냅샷이 고정되므로 삭제 불가)
+     * 집계 제거는 커밋 후 실행 (롤백 시 집계 유지).
+     */
+    @Override
+    @Transactional
     public void deleteLoanSchedule(String id) throws Exception {
-        loanManageMapper.deleteLoanSchedule(id);
+        if (loanManageMapper.deleteLoanSchedule(LoanScheduleIds.key(id)) == 0) {
+            throw new IllegalStateException("loan not found or already approved: " + id);
+        }
+        loanManageMapper.deleteLoanScheduleSnapshot(id); // 파티션 테이블은 FK(ON DELETE CASCADE) 가 없으므로 직접 삭제
+        afterCommit(() -> loanPortfolioService.removeLoan(id));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 실행 (롤백되면 실행하지 않음, 트랜잭션 밖이면 바로 실행)
+     * 커밋은 이미 끝났으므로 실패는 기록만 함 (집계는 재집계로 복구).
+     */
+    private void afterCommit(final Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException e) {
+                    egovLogger.error("portfolio update failed after commit", e);
+                }
+            }
+        });
     }
 
     @Override
     public List<LoanManageVO> selectLoanScheduleList(LoanManageVO vo) throws Exception {
+        // 페이지 크기 보정 (미지정 시 기본값, 최대값 제한)
+        if (vo.getPageSize() <= 0) {
+            vo.setPageSize(LoanCode.LIST_PAGE_SIZE_DEFAULT);
+        } else if (vo.getPageSize() > LoanCode.LIST_PAGE_SIZE_MAX) {
+            vo.setPageSize(LoanCode.LIST_PAGE_SIZE_MAX);
+        }
+        // 키셋 조건은 등록일/ID 가 함께 있어야 유효
+        if (vo.getLastRegDate() == null || vo.getLastId() == null || vo.getLastId().isEmpty()) {
+            vo.setLastRegDate(null);
+            vo.setLastId(null);
+        }
         return loanManageMapper.selectLoanScheduleList(vo);
     }
 
     @Override
     public LoanManageVO selectLoanSchedule(String id) throws Exception {
-        return loanManageMapper.selectLoanSchedule(id);
+        return loanManageMapper.selectLoanSchedule(LoanScheduleIds.key(id));
+    }
+
+    @Override
+    public LoanManageVO selectLoanScheduleDetail(String id) throws Exception {
+        return loanManageMapper.selectLoanScheduleDetail(LoanScheduleIds.key(id));
+    }
+
+    @Override
+    public LoanSummaryVO selectLoanScheduleSummary(LoanManageVO loan) throws Exception {
+        return summaryOf(loan);
+    }
+
+    /**
+     * 스냅샷이 있으면 복원 (재계산 없음), 없으면 현재 세율표 기준으로 계산
+     * 스냅샷이 없는 승인 건은 계산만 함 (조회는 replica 읽기 전용이므로 저장은 repairLoanScheduleSnapshots)
+     */
+    private LoanSummaryVO summaryOf(LoanManageVO loan) {
+        if (loan.getScheduleSnapshot() != null) {
+            return LoanScheduleSnapshot.decode(loan.getScheduleSnapshot())
+                    .toSummary(loan, loanPaymentCalendarService.getHolidayCalendar());
+        }
+        return loanCalculatorService.calculateCompact(loan);
+    }
+
+    /**
+     * 청크(1 SQL 문장) 단위로 자동 커밋되므로 전체를 감싸는 트랜잭션 없이 호출해야 함.
+     */
+    @Override
+    public int repairLoanScheduleSnapshots() throws Exception {
+        int total = 0;
+        List<LoanManageVO> missing;
+        do {
+            missing = loanManageMapper.selectApprovedLoanScheduleListWithoutSnapshot(bulkChunkSize);
+            if (missing.isEmpty()) {
+                break;
+            }
+            List<LoanScheduleSnapshotVO> snapshots = new ArrayList<>(missing.size());
+            for (LoanManageVO approved : missing) {
+                snapshots.add(toSnapshot(approved, loanCalculatorService.calculateCompact(approved)));
+            }
+            loanManageMapper.insertLoanScheduleSnapshotList(snapshots);
+            total += missing.size();
+        } while (missing.size() >= bulkChunkSize);
+        if (total > 0) {
+            egovLogger.info("repaired {} missing loan schedule snapshots", total);
+        }
+        return total;
     }
 
     @Override
+    public String getLoanETag(LoanManageVO loan) {
+        // 승인 스냅샷은 고정값 (영업일 조정은 현재 공휴일 달력), 스냅샷이 없으면 현재 세율표/공휴일 기준으로 계산되므로 견적 지문 사용
+        long scheduleHash = loan.getScheduleSnapshot() != null
+                ? LoanETags.snapshot(loan.getScheduleSnapshot(), loanPaymentCalendarService.getHolidayCalendar().contentHash())
+                : loanCalculatorService.getQuoteFingerprint(loan);
+        return LoanETags.loan(loan, scheduleHash);
+    }
+
+    /**
+     * 승인 스냅샷 생성 (승인 시점 세율표 기준 계산 결과)
+     */
+    private LoanScheduleSnapshotVO toSnapshot(LoanManageVO loan, LoanSummaryVO summary) {
+        LoanScheduleSnapshotVO snapshot = new LoanScheduleSnapshotVO();
+        snapshot.setId(loan.getId());
+        snapshot.setFormatVersion(LoanScheduleSnapshot.FORMAT_VERSION);
+        snapshot.setRateVersion(loanRateTableService.getRateTable(loan.getStartDate()).getVersion());
+        snapshot.setSnapshot(LoanScheduleSnapshot.encode(summary));
+        snapshot.setCreatedAt(new Date());
+        return snapshot;
+    }
+
+    /**
+     * 상태 변경과 스냅샷 저장을 한 트랜잭션으로 처리 (집계 반영은 커밋 후)
+     */
+    @Override
+    @Transactional
     public void approveLoanSchedule(String id) throws Exception {
-        LoanManageVO vo = new LoanManageVO();
-        vo.setId(id);
-        vo.setStatus("APPROVED");
+        LoanManageVO vo = LoanScheduleIds.key(id);
+        vo.setStatus(LoanCode.STATUS_APPROVED);
         loanManageMapper.updateLoanStatus(vo);
+        
+        // 읽기/쓰기 트랜잭션 안이므로 primary 에서 조회
+        LoanManageVO approved = loanManageMapper.selectLoanScheduleDetail(LoanScheduleIds.key(id));
+        if (approved != null) {
+            if (approved.getScheduleSnapshot() == null) {
+                // 승인 시점 스케줄 고정 (재승인이면 최초 승인 스냅샷 유지)
+                LoanScheduleSnapshotVO snapshot = toSnapshot(approved, loanCalculatorService.calculateCompact(approved));
+                loanManageMapper.insertLoanScheduleSnapshot(snapshot);
+                approved.setScheduleSnapshot(snapshot.getSnapshot());
+            }
+            // 집계 반영 (스냅샷 기준, 이미 반영된 대출은 같은 값으로 교체)
+            afterCommit(() -> loanPortfolioService.upsertLoan(approved));
+        }
+    }
+
+    @Override
+    public List<LoanBulkResultVO> approveLoanSchedules(Collection<String> ids) throws Exception {
+        List<String> idList = new ArrayList<>(ids);
+        LoanBulkResultVO[] results = new LoanBulkResultVO[idList.size()];
+        
+        for (int from = 0; from < idList.size(); from += bulkChunkSize) {
+            int to = Math.min(from + bulkChunkSize, idList.size());
+            List<String> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                if (idList.get(i) == null) {
+                    results[i] = failed(i, null, "id is null");
+                } else {
+                    chunk.add(idList.get(i));
+                }
+            }
+            if (chunk.isEmpty()) {
+                continue;
+            }
+            
+            try {
+                List<String> updatedIds = loanManageMapper.updateLoanStatusList(chunk, LoanCode.STATUS_APPROVED);
+                Set<String> updated = new HashSet<>(updatedIds);
+                for (int i = from; i < to; i++) {
+                    String id = idList.get(i);
+                    if (id != null) {
+                        results[i] = new LoanBulkResultVO(i, id, updated.contains(id)
+                                ? LoanBulkResultVO.RESULT_SUCCESS : LoanBulkResultVO.RESULT_NOT_FOUND);
+                    }
+                }
+                applyApproved(updatedIds);
+            } catch (Exception e) {
+                for (int i = from; i < to; i++) {
+                    if (idList.get(i) != null) {
+                        results[i] = failed(i, idList.get(i), e.getMessage());
+                    }
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * PostgreSQL 드라이버는 트랜잭션(autocommit 해제) 안에서만 fetchSize 단위로 끊어 읽으므로 읽기 전용 트랜잭션으로 실행함.
+     * 스냅샷이 있는 승인 건은 스냅샷을 복원하여 상세 조회(/loan/view.do)와 같은 스케줄을 내보냄.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportApprovedLoanSchedules(final LoanScheduleExportWriter writer) throws Exception {
+        writer.writeHeader();
+        try {
+            loanManageMapper.selectApprovedLoanScheduleList(context -> {
+                LoanManageVO loan = context.getResultObject();
+                LoanSummaryVO summary = summaryOf(loan);
+                try {
+                    writer.writeLoan(loan.getId(), (CompactAmortizationSchedule) summary.getSchedule());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트 연결 종료 등 - 조회 중단
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    /**
+     * PostgreSQL 드라이버는 트랜잭션(autocommit 해제) 안에서만 fetchSize 단위로 끊어 읽으므로 읽기 전용 트랜잭션으로 실행함.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void selectApprovedLoanScheduleList(ResultHandler<LoanManageVO> handler) throws Exception {
+        loanManageMapper.selectApprovedLoanScheduleList(handler);
     }
 }
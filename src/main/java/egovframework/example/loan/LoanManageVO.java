@@ -10,6 +10,20 @@ public class LoanManageVO extends LoanInputVO {
     private String id;          // 식별자 (UUID 등)
     private Date regDate;       // 등록일
     private String status;      // 상태 (DRAFT, APPROVED)
+    private byte[] scheduleSnapshot; // 승인 스케줄 스냅샷 (상세 조회 시, 없으면 null)
+    
+    // 목록 검색 조건
+    private String searchStatus;        // 상태
+    private String searchFuelType;      // 연료 종류
+    private Date searchRegDateFrom;     // 등록일 시작 (이상)
+    private Date searchRegDateTo;       // 등록일 종료 (미만)
+    private Double searchMinLoanAmount; // 대출 원금 최소
+    private Double searchMaxLoanAmount; // 대출 원금 최대
+    
+    // 키셋 페이징 (직전 페이지 마지막 행의 등록일/ID 이후부터 조회)
+    private Date lastRegDate;           // 직전 페이지 마지막 등록일
+    private String lastId;              // 직전 페이지 마지막 ID
+    private int pageSize;               // 페이지 크기
     
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
@@ -19,4 +33,38 @@ public class LoanManageVO extends LoanInputVO {
     
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
+    
+    public byte[] getScheduleSnapshot() { return scheduleSnapshot; }
+    public void setScheduleSnapshot(byte[] scheduleSnapshot) { this.scheduleSnapshot = scheduleSnapshot; }
+    
+    public String getSearchStatus() { return searchStatus; }
+    public void setSearchStatus(String searchStatus) { this.searchStatus = searchStatus; }
+    
+    public String getSearchFuelType() { return searchFuelType; }
+    public void setSearchFuelType(String searchFuelType) { this.searchFuelType = searchFuelType; }
+    
+    public Date getSearchRegDateFrom() { return searchRegDateFrom; }
+    public void setSearchRegDateFrom(Date searchRegDateFrom) { this.searchRegDateFrom = searchRegDateFrom; }
+    
+    public Date getSearchRegDateTo() { return searchRegDateTo; }
+    public void setSearchRegDateTo(Date searchRegDateTo) { this.searchRegDateTo = searchRegDateTo; }
+    
+    public Double getSearchMinLoanAmount() { return searchMinLoanAmount; }
+    public void setSearchMinLoanAmount(Double searchMinLoanAmount) { this.searchMinLoanAmount = searchMinLoanAmount; }
+    
+    public Double getSearchMaxLoanAmount() { return searchMaxLoanAmount; }
+    public void setSearchMaxLoanAmount(Double searchMaxLoanAmount) { this.searchMaxLoanAmount = searchMaxLoanAmount; }
+    
+    public Date getLastRegDate() { return lastRegDate; }
+    public void setLastRegDate(Date lastRegDate) { this.lastRegDate = lastRegDate; }
+    
+    // 화면/요청 파라미터용 - 등록일을 epoch millis 로 주고받아 정밀도 손실 방지
+    public Long getLastRegTime() { return lastRegDate == null ? null : lastRegDate.getTime(); }
+    public void setLastRegTime(Long lastRegTime) { this.lastRegDate = lastRegTime == null ? null : new Date(lastRegTime); }
+    
+    public String getLastId() { return lastId; }
+    public void setLastId(String lastId) { this.lastId = lastId; }
+    
+    public int getPageSize() { return pageSize; }
+    public void setPageSize(int pageSize) { this.pageSize = pageSize; }
 }
@@ -0,0 +1,124 @@
+package egovframework.example.loan;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Resource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+/**
+ * 운영 지표 수집 Aspect (서비스 / Mapper / 커넥션 획득)
+ * context-metrics.xml 의 aop:around 설정으로 적용됨.
+ * 메서드별 히스토그램은 Method 를 키로 한 번만 조회해 두므로 호출마다 라벨 문자열을 만들지 않음.
+ */
+public class LoanMetricsAspect {
+
+    @Resource(name = "loanMetricsService")
+    private LoanMetricsService loanMetricsService;
+
+    private final ConcurrentHashMap<Method, LoanHistogram> serviceTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, LongAdder> serviceErrors = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Method, LoanHistogram> mapperTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, LoanHistogram> connectionTimers = new ConcurrentHashMap<>(); // 풀별
+
+    /**
+     * 서비스 메서드 소요 시간 (LoanCalculatorService, LoanManageService)
+     */
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LoanHistogram timer = serviceTimers.get(method);
+        if (timer == null) {
+            timer = serviceTimers.computeIfAbsent(method, m -> loanMetricsService.histogram(
+                    LoanCode.METRIC_SERVICE_SECONDS, serviceLabels(m)));
+        }
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            LongAdder errors = serviceErrors.get(method);
+            if (errors == null) {
+                errors = serviceErrors.computeIfAbsent(method, m -> loanMetricsService.counter(
+                        LoanCode.METRIC_SERVICE_ERRORS, serviceLabels(m)));
+            }
+            errors.increment();
+            throw t;
+        } finally {
+            timer.recordSince(start);
+        }
+    }
+
+    /**
+     * Mapper 구문 실행 시간 (LoanManageMapper)
+     */
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LoanHistogram timer = mapperTimers.get(method);
+        if (timer == null) {
+            timer = mapperTimers.computeIfAbsent(method, m -> loanMetricsService.histogram(
+                    LoanCode.METRIC_MAPPER_SECONDS,
+                    "statement=\"" + m.getDeclaringClass().getSimpleName() + "." + m.getName() + "\""));
+        }
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.recordSince(start);
+        }
+    }
+
+    /**
+     * 커넥션 획득 시간 (primaryDataSource / replicaDataSource 풀의 getConnection)
+     * 풀별 최초 호출 시 대상 HikariDataSource 의 풀 게이지를 등록함.
+     */
+    public Object timeConnection(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object target = joinPoint.getTarget();
+        LoanHistogram timer = connectionTimers.get(target);
+        if (timer == null) {
+            timer = registerPool(target);
+        }
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.recordSince(start);
+        }
+    }
+
+    private synchronized LoanHistogram registerPool(Object target) {
+        LoanHistogram timer = connectionTimers.get(target);
+        if (timer != null) {
+            return timer;
+        }
+        if (target instanceof HikariDataSource) {
+            final HikariDataSource pool = (HikariDataSource) target;
+            String labels = "pool=\"" + pool.getPoolName() + "\"";
+            // 풀 시작 전에는 MXBean 이 없으므로 0 으로 보고
+            loanMetricsService.registerGauge(LoanCode.METRIC_DB_POOL_ACTIVE, labels, () -> {
+                HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+                return mx == null ? 0 : mx.getActiveConnections();
+            });
+            loanMetricsService.registerGauge(LoanCode.METRIC_DB_POOL_IDLE, labels, () -> {
+                HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+                return mx == null ? 0 : mx.getIdleConnections();
+            });
+            loanMetricsService.registerGauge(LoanCode.METRIC_DB_POOL_WAITING, labels, () -> {
+                HikariPoolMXBean mx = pool.getHikariPoolMXBean();
+                return mx == null ? 0 : mx.getThreadsAwaitingConnection();
+            });
+            loanMetricsService.registerGauge(LoanCode.METRIC_DB_POOL_MAX, labels, pool::getMaximumPoolSize);
+            timer = loanMetricsService.histogram(LoanCode.METRIC_DB_ACQUIRE_SECONDS, labels);
+        } else {
+            timer = loanMetricsService.histogram(LoanCode.METRIC_DB_ACQUIRE_SECONDS,
+                    "pool=\"" + target.getClass().getSimpleName() + "\"");
+        }
+        connectionTimers.put(target, timer);
+        return timer;
+    }
+
+    private static String serviceLabels(Method method) {
+        return "service=\"" + method.getDeclaringClass().getSimpleName() + "\",method=\"" + method.getName() + "\"";
+    }
+}
@@ -0,0 +1,80 @@
+package egovframework.example.loan;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Resource;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+/**
+ * 컨트롤러 운영 지표 Interceptor (LoanController, LoanManageController)
+ * 컨트롤러 처리 시간(preHandle ~ postHandle)과 화면 렌더링 시간(postHandle ~ afterCompletion)을 나누어 기록함.
+ * 컨트롤러는 DispatcherServlet 컨텍스트에 있으므로 루트 컨텍스트의 Aspect 대신
+ * context-metrics.xml 에 /loan/** 경로의 MappedInterceptor 로 등록함
+ * (HandlerMapping 은 상위 컨텍스트의 MappedInterceptor 빈도 찾으므로 dispatcher 설정 변경 불필요).
+ */
+public class LoanMetricsInterceptor extends HandlerInterceptorAdapter {
+
+    private static final String START_ATTRIBUTE = LoanMetricsInterceptor.class.getName() + ".start";
+    private static final String HANDLED_ATTRIBUTE = LoanMetricsInterceptor.class.getName() + ".handled";
+
+    @Resource(name = "loanMetricsService")
+    private LoanMetricsService loanMetricsService;
+
+    // 핸들러 메서드별 라벨 (요청마다 문자열을 만들지 않도록 보관)
+    private final ConcurrentHashMap<Method, String> handlerLabels = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+            ModelAndView modelAndView) throws Exception {
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        long handled = System.nanoTime();
+        request.setAttribute(HANDLED_ATTRIBUTE, handled);
+        loanMetricsService.histogram(LoanCode.METRIC_HTTP_HANDLER_SECONDS, labelOf(handler)).record(handled - start);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex)
+            throws Exception {
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        String labels = labelOf(handler);
+        Long handled = (Long) request.getAttribute(HANDLED_ATTRIBUTE);
+        if (handled != null) {
+            loanMetricsService.histogram(LoanCode.METRIC_HTTP_RENDER_SECONDS, labels).recordSince(handled);
+        } else {
+            // 컨트롤러 예외 시 postHandle 이 호출되지 않음 - 처리 시간만 기록
+            loanMetricsService.histogram(LoanCode.METRIC_HTTP_HANDLER_SECONDS, labels).recordSince(start);
+        }
+        if (ex != null) {
+            loanMetricsService.counter(LoanCode.METRIC_HTTP_ERRORS, labels).increment();
+        }
+    }
+
+    private String labelOf(Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return "handler=\"other\"";
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        String labels = handlerLabels.get(handlerMethod.getMethod());
+        if (labels == null) {
+            labels = "handler=\"" + handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName() + "\"";
+            handlerLabels.put(handlerMethod.getMethod(), labels);
+        }
+        return labels;
+    }
+}
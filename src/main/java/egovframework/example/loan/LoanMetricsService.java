@@ -0,0 +1,48 @@
+package egovframework.example.loan;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * 운영 지표 서비스 인터페이스
+ * 컨트롤러/서비스/Mapper 소요 시간 히스토그램, 커넥션 풀 게이지, 스케줄 크기 카운터를 보관하고
+ * Prometheus 텍스트 형식으로 출력함. 지표 이름은 LoanCode.METRIC_* 참고.
+ */
+public interface LoanMetricsService {
+
+    /**
+     * 히스토그램 조회 (라벨 조합별로 최초 호출 시 생성, 이후 같은 객체 반환)
+     * @param name 지표 이름 (LoanCode.METRIC_*)
+     * @param labels Prometheus 라벨 문자열 (예: service="LoanManageService",method="selectLoanScheduleList", 없으면 빈 문자열)
+     * @throws IllegalArgumentException 등록되지 않은 지표이거나 히스토그램이 아닌 경우
+     */
+    LoanHistogram histogram(String name, String labels);
+
+    /**
+     * 카운터 조회 (라벨 조합별로 최초 호출 시 생성, 이후 같은 객체 반환)
+     * @throws IllegalArgumentException 등록되지 않은 지표이거나 카운터가 아닌 경우
+     */
+    LongAdder counter(String name, String labels);
+
+    /**
+     * 게이지 등록 (수집 시점에 값 조회, 같은 라벨로 다시 등록하면 교체)
+     * @throws IllegalArgumentException 등록되지 않은 지표이거나 게이지가 아닌 경우
+     */
+    void registerGauge(String name, String labels, DoubleSupplier gauge);
+
+    /**
+     * 스케줄 계산 기록 (회차 수, 회차 행 VO 생성 수, 컬럼형 배열 크기)
+     * @param mode 스케줄 생성 방식 (NONE, ROWS, COMPACT)
+     * @param rounds 회차 수
+     * @param rowsAllocated 생성한 회차 행 VO 수
+     * @param columnBytes 컬럼형 스케줄 배열 크기 (바이트)
+     */
+    void recordSchedule(String mode, int rounds, int rowsAllocated, long columnBytes);
+
+    /**
+     * 전체 지표 출력 (Prometheus text exposition format 0.0.4)
+     */
+    void writePrometheus(Writer out) throws IOException;
+}
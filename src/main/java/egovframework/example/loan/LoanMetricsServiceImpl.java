@@ -0,0 +1,195 @@
+package egovframework.example.loan;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import org.springframework.stereotype.Service;
+
+/**
+ * 운영 지표 서비스 구현체
+ * 지표는 이름별 패밀리(HELP/TYPE)와 라벨 조합별 값으로 보관하며, 기록 경로에서는 잠금 없이 LongAdder 만 갱신함.
+ */
+@Service("loanMetricsService")
+public class LoanMetricsServiceImpl implements LoanMetricsService {
+
+    private static final String TYPE_HISTOGRAM = "histogram";
+    private static final String TYPE_COUNTER = "counter";
+    private static final String TYPE_GAUGE = "gauge";
+
+    // 지표 패밀리 (이름순 출력)
+    private final Map<String, Family> families = new TreeMap<>();
+
+    // 스케줄 생성 방식별 지표 (계산기 호출마다 라벨 문자열을 만들지 않도록 미리 조회해 둠)
+    private final ConcurrentHashMap<String, ScheduleMetrics> scheduleMetrics = new ConcurrentHashMap<>();
+
+    public LoanMetricsServiceImpl() {
+        declare(LoanCode.METRIC_HTTP_HANDLER_SECONDS, TYPE_HISTOGRAM, "Controller handler time excluding view rendering.");
+        declare(LoanCode.METRIC_HTTP_RENDER_SECONDS, TYPE_HISTOGRAM, "View (JSP) rendering time after the handler returned.");
+        declare(LoanCode.METRIC_HTTP_ERRORS, TYPE_COUNTER, "Requests completed with an exception.");
+        declare(LoanCode.METRIC_SERVICE_SECONDS, TYPE_HISTOGRAM, "Service method time.");
+        declare(LoanCode.METRIC_SERVICE_ERRORS, TYPE_COUNTER, "Service method calls that threw.");
+        declare(LoanCode.METRIC_MAPPER_SECONDS, TYPE_HISTOGRAM, "Mapper statement time including connection acquisition.");
+        declare(LoanCode.METRIC_DB_ACQUIRE_SECONDS, TYPE_HISTOGRAM, "Time spent in DataSource.getConnection.");
+        declare(LoanCode.METRIC_DB_POOL_ACTIVE, TYPE_GAUGE, "Connections borrowed from the pool.");
+        declare(LoanCode.METRIC_DB_POOL_IDLE, TYPE_GAUGE, "Idle connections in the pool.");
+        declare(LoanCode.METRIC_DB_POOL_WAITING, TYPE_GAUGE, "Threads waiting for a connection from the pool.");
+        declare(LoanCode.METRIC_DB_POOL_MAX, TYPE_GAUGE, "Maximum pool size (maximumPoolSize).");
+        declare(LoanCode.METRIC_SCHEDULE_ROUNDS, TYPE_HISTOGRAM, "Rounds per calculated schedule.");
+        declare(LoanCode.METRIC_SCHEDULE_ROWS, TYPE_COUNTER, "Schedule row objects allocated by the calculator.");
+        declare(LoanCode.METRIC_SCHEDULE_COLUMN_BYTES, TYPE_COUNTER, "Bytes of column arrays allocated for compact schedules.");
+    }
+
+    private void declare(String name, String type, String help) {
+        families.put(name, new Family(name, type, help));
+    }
+
+    @Override
+    public LoanHistogram histogram(String name, String labels) {
+        Family family = family(name, TYPE_HISTOGRAM);
+        Object value = family.values.get(labels);
+        if (value == null) {
+            // 스케줄 회차 수 외에는 모두 소요 시간 (나노초 기록, 초 단위 출력)
+            final boolean rounds = LoanCode.METRIC_SCHEDULE_ROUNDS.equals(name);
+            value = family.values.computeIfAbsent(labels, k -> rounds
+                    ? new LoanHistogram(LoanHistogram.ROUND_BOUNDS, 1)
+                    : new LoanHistogram(LoanHistogram.LATENCY_BOUNDS_NANOS, LoanHistogram.NANOS_TO_SECONDS));
+        }
+        return (LoanHistogram) value;
+    }
+
+    @Override
+    public LongAdder counter(String name, String labels) {
+        Family family = family(name, TYPE_COUNTER);
+        Object value = family.values.get(labels);
+        if (value == null) {
+            value = family.values.computeIfAbsent(labels, k -> new LongAdder());
+        }
+        return (LongAdder) value;
+    }
+
+    @Override
+    public void registerGauge(String name, String labels, DoubleSupplier gauge) {
+        family(name, TYPE_GAUGE).values.put(labels, gauge);
+    }
+
+    @Override
+    public void recordSchedule(String mode, int rounds, int rowsAllocated, long columnBytes) {
+        ScheduleMetrics metrics = scheduleMetrics.get(mode);
+        if (metrics == null) {
+            String labels = "mode=\"" + mode + "\"";
+            metrics = scheduleMetrics.computeIfAbsent(mode, k -> new ScheduleMetrics(
+                    histogram(LoanCode.METRIC_SCHEDULE_ROUNDS, labels),
+                    counter(LoanCode.METRIC_SCHEDULE_ROWS, labels),
+                    counter(LoanCode.METRIC_SCHEDULE_COLUMN_BYTES, labels)));
+        }
+        metrics.rounds.record(rounds);
+        if (rowsAllocated > 0) {
+            metrics.rows.add(rowsAllocated);
+        }
+        if (columnBytes > 0) {
+            metrics.columnBytes.add(columnBytes);
+        }
+    }
+
+    @Override
+    public void writePrometheus(Writer out) throws IOException {
+        for (Family family : families.values()) {
+            if (family.values.isEmpty()) {
+                continue; // 아직 기록되지 않은 지표
+            }
+            out.write("# HELP " + family.name + " " + family.help + "\n");
+            out.write("# TYPE " + family.name + " " + family.type + "\n");
+            for (Map.Entry<String, Object> entry : family.values.entrySet()) {
+                String labels = entry.getKey();
+                Object value = entry.getValue();
+                if (value instanceof LoanHistogram) {
+                    writeHistogram(out, family.name, labels, (LoanHistogram) value);
+                } else if (value instanceof LongAdder) {
+                    writeSample(out, family.name, labels, formatValue(((LongAdder) value).sum()));
+                } else {
+                    writeSample(out, family.name, labels, formatValue(((DoubleSupplier) value).getAsDouble()));
+                }
+            }
+        }
+        out.flush();
+    }
+
+    private Family family(String name, String type) {
+        Family family = families.get(name); // 생성자에서만 추가하므로 조회는 잠금 없이 안전
+        if (family == null || !family.type.equals(type)) {
+            throw new IllegalArgumentException("unknown " + type + " metric: " + name);
+        }
+        return family;
+    }
+
+    private static void writeHistogram(Writer out, String name, String labels, LoanHistogram histogram) throws IOException {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long[] counts = histogram.cumulativeCounts(); // 구간 합과 전체 건수를 같은 시점 값으로 출력
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            writeSample(out, name + "_bucket", prefix + "le=\"" + formatValue(histogram.getBound(i)) + "\"",
+                    Long.toString(counts[i]));
+        }
+        writeSample(out, name + "_bucket", prefix + "le=\"+Inf\"", Long.toString(counts[counts.length - 1]));
+        writeSample(out, name + "_sum", labels, formatValue(histogram.getSum()));
+        writeSample(out, name + "_count", labels, Long.toString(counts[counts.length - 1]));
+    }
+
+    private static void writeSample(Writer out, String name, String labels, String value) throws IOException {
+        out.write(name);
+        if (!labels.isEmpty()) {
+            out.write('{');
+            out.write(labels);
+            out.write('}');
+        }
+        out.write(' ');
+        out.write(value);
+        out.write('\n');
+    }
+
+    /**
+     * 수치 출력 (정수는 소수점 없이)
+     */
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    /**
+     * 지표 패밀리 (이름, 유형, 설명, 라벨 조합별 값)
+     */
+    private static final class Family {
+        private final String name;
+        private final String type;
+        private final String help;
+        // 라벨 문자열 → LoanHistogram / LongAdder / DoubleSupplier (라벨순 출력)
+        private final ConcurrentSkipListMap<String, Object> values = new ConcurrentSkipListMap<>();
+
+        Family(String name, String type, String help) {
+            this.name = name;
+            this.type = type;
+            this.help = help;
+        }
+    }
+
+    /**
+     * 스케줄 생성 방식별 지표
+     */
+    private static final class ScheduleMetrics {
+        private final LoanHistogram rounds;
+        private final LongAdder rows;
+        private final LongAdder columnBytes;
+
+        ScheduleMetrics(LoanHistogram rounds, LongAdder rows, LongAdder columnBytes) {
+            this.rounds = rounds;
+            this.rows = rows;
+            this.columnBytes = columnBytes;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package egovframework.example.loan;
+
+/**
+ * 상환일 달력 서비스 인터페이스
+ */
+public interface LoanPaymentCalendarService {
+
+    /**
+     * 상환일 목록 조회 ((실행일, 기간, 규칙) 별로 캐시된 목록 공유)
+     * @param startEpochDay 대출 실행일 (epoch day)
+     * @param termMonths 대출 기간 (개월)
+     * @param rule 영업일 조정 규칙 (null 이면 기본 규칙)
+     * @return 회차별 약정/조정 상환일
+     * @throws IllegalArgumentException 알 수 없는 규칙인 경우
+     */
+    LoanPaymentDates getPaymentDates(long startEpochDay, int termMonths, String rule);
+
+    /**
+     * 현재 영업일 달력
+     */
+    LoanHolidayCalendar getHolidayCalendar();
+
+    /**
+     * 공휴일 적재 세대 번호 (공휴일 파일을 다시 읽을 때마다 증가, 캐시 키 구분용)
+     */
+    long getGeneration();
+
+    /**
+     * 공휴일 파일 재적재 (캐시된 상환일 목록 삭제, 파일 수정 시각이 바뀌면 스케줄러가 자동 호출)
+     */
+    void reload() throws Exception;
+}
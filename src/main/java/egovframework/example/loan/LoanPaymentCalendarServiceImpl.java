@@ -0,0 +1,168 @@
+package egovframework.example.loan;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;
+
+/**
+ * 상환일 달력 서비스 구현 클래스
+ * 공휴일 파일(LoanCode.HOLIDAY_RESOURCE)로 영업일 달력을 만들고, 상환일 목록을 (실행일, 기간, 규칙) 별로 캐시함.
+ * 파일 수정 시각이 바뀌면 LoanCode.HOLIDAY_RELOAD_SECONDS 주기로 다시 읽음 (세율표와 같은 방식).
+ * 상환일이 공휴일 적재 범위를 벗어나면 세대마다 한 번 경고 로그를 남김 (범위 밖은 주말만 조정됨).
+ *
+ * 파일 형식 (한 줄에 하루, # 이후는 주석):
+ *   2025-01-01 신정
+ *   2025-01-28 설날 연휴
+ */
+@Service("loanPaymentCalendarService")
+public class LoanPaymentCalendarServiceImpl extends EgovAbstractServiceImpl implements LoanPaymentCalendarService {
+
+    private static final String[] RULES = { LoanCode.PAYMENT_DAY_RULE_NONE, LoanCode.PAYMENT_DAY_RULE_FOLLOWING,
+            LoanCode.PAYMENT_DAY_RULE_MODIFIED_FOLLOWING, LoanCode.PAYMENT_DAY_RULE_PRECEDING };
+
+    // 현재 달력, 세대 번호, 상환일 목록 캐시 (공휴일 파일 적재 전에는 주말만 휴일)
+    private volatile State state = new State(LoanHolidayCalendar.weekendsOnly(), 0, 0);
+
+    private ScheduledExecutorService reloadScheduler;
+
+    @PostConstruct
+    public void init() throws Exception {
+        reload();
+        reloadScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "loan-holiday-reload");
+            t.setDaemon(true);
+            return t;
+        });
+        reloadScheduler.scheduleWithFixedDelay(this::reloadIfModified,
+                LoanCode.HOLIDAY_RELOAD_SECONDS, LoanCode.HOLIDAY_RELOAD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloadScheduler != null) {
+            reloadScheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public LoanPaymentDates getPaymentDates(long startEpochDay, int termMonths, String rule) {
+        String r = LoanHolidayCalendar.normalizeRule(rule);
+        int ruleIndex = 0;
+        while (!RULES[ruleIndex].equals(r)) {
+            ruleIndex++;
+        }
+        State current = state; // 달력과 캐시를 같은 세대로 사용
+        Long key = (startEpochDay << 32) | ((long) termMonths << 2) | ruleIndex;
+        LoanPaymentDates dates = current.cache.get(key);
+        if (dates == null) {
+            if (current.cache.size() >= LoanCode.PAYMENT_CALENDAR_CACHE_MAX_SIZE) {
+                current.cache.clear(); // 크기 제한 (실행일은 대부분 최근 일자에 몰리므로 단순 비우기로 충분)
+            }
+            dates = new LoanPaymentDates(startEpochDay, termMonths, current.calendar, r);
+            current.cache.put(key, dates);
+            if (termMonths > 0 && !current.uncoveredWarned.get()
+                    && (!current.calendar.isCovered(dates.getScheduledDay(1))
+                            || !current.calendar.isCovered(dates.getScheduledDay(termMonths)))
+                    && current.uncoveredWarned.compareAndSet(false, true)) {
+                egovLogger.warn("payment dates {} ~ {} exceed holiday calendar range {} ~ {}, holidays outside are not adjusted: {}",
+                        LocalDate.ofEpochDay(dates.getScheduledDay(1)), LocalDate.ofEpochDay(dates.getScheduledDay(termMonths)),
+                        LocalDate.ofEpochDay(current.calendar.getCoveredFrom()),
+                        LocalDate.ofEpochDay(current.calendar.getCoveredTo()), LoanCode.HOLIDAY_RESOURCE);
+            }
+        }
+        return dates;
+    }
+
+    @Override
+    public LoanHolidayCalendar getHolidayCalendar() {
+        return state.calendar;
+    }
+
+    @Override
+    public long getGeneration() {
+        return state.generation;
+    }
+
+    @Override
+    public void reload() throws Exception {
+        URL url = getClass().getClassLoader().getResource(LoanCode.HOLIDAY_RESOURCE);
+        if (url == null) {
+            egovLogger.warn("holiday resource not found, using weekends only: {}", LoanCode.HOLIDAY_RESOURCE);
+            return;
+        }
+        URLConnection conn = url.openConnection();
+        conn.setUseCaches(false);
+        long lastModified = conn.getLastModified();
+
+        List<Long> days = new ArrayList<>();
+        try (InputStream in = conn.getInputStream();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                String value = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (!value.isEmpty()) {
+                    days.add(LocalDate.parse(value.split("\\s+")[0]).toEpochDay());
+                }
+            }
+        }
+        LoanHolidayCalendar calendar = new LoanHolidayCalendar(days);
+        long generation = state.generation + 1;
+        state = new State(calendar, generation, lastModified); // 이전 세대 캐시는 함께 폐기
+        egovLogger.info("holiday calendar loaded: {} holiday(s) for {} ~ {}, generation {}", calendar.getHolidayCount(),
+                LocalDate.ofEpochDay(calendar.getCoveredFrom()), LocalDate.ofEpochDay(calendar.getCoveredTo()), generation);
+    }
+
+    /**
+     * 공휴일 파일 변경 시에만 재적재 (스케줄러 전용)
+     */
+    private void reloadIfModified() {
+        try {
+            URL url = getClass().getClassLoader().getResource(LoanCode.HOLIDAY_RESOURCE);
+            if (url == null) {
+                return;
+            }
+            URLConnection conn = url.openConnection();
+            conn.setUseCaches(false);
+            if (conn.getLastModified() != state.lastModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            egovLogger.error("holiday calendar reload failed, keeping previous calendar", e);
+        }
+    }
+
+    /**
+     * 달력, 세대 번호, 파일 수정 시각, 해당 달력 기준 상환일 목록 캐시 (함께 교체)
+     */
+    private static final class State {
+        private final LoanHolidayCalendar calendar;
+        private final long generation;
+        private final long lastModified;
+        // 적재 범위 밖 상환일 경고 여부 (세대마다 한 번)
+        private final AtomicBoolean uncoveredWarned = new AtomicBoolean();
+        // 키: 실행일 << 32 | 기간 << 2 | 규칙 번호
+        private final ConcurrentHashMap<Long, LoanPaymentDates> cache = new ConcurrentHashMap<>();
+
+        State(LoanHolidayCalendar calendar, long generation, long lastModified) {
+            this.calendar = calendar;
+            this.generation = generation;
+            this.lastModified = lastModified;
+        }
+    }
+}
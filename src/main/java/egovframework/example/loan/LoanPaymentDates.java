@@ -0,0 +1,39 @@
+package egovframework.example.loan;
+
+import java.time.LocalDate;
+
+/**
+ * 상환일 목록 (Payment Dates) - 불변 객체
+ * 대출 실행일부터 한 달씩 누적 이동한 약정 상환일과 영업일 조정 상환일을 epoch day 배열로 보관함.
+ * 한 달씩 누적 이동하므로 말일 보정 규칙은 기존 Calendar.add(MONTH, 1) 과 동일함 (1/31 → 2/28 → 3/28).
+ * LoanPaymentCalendarService 가 (실행일, 기간, 규칙) 별로 캐시하여 여러 요청이 공유하므로 배열을 노출하지 않음.
+ */
+public final class LoanPaymentDates {
+
+    private final int[] scheduledDay;   // 회차별 약정 상환일
+    private final int[] adjustedDay;    // 회차별 조정 상환일
+
+    LoanPaymentDates(long startEpochDay, int termMonths, LoanHolidayCalendar calendar, String rule) {
+        this.scheduledDay = new int[termMonths];
+        this.adjustedDay = new int[termMonths];
+        LocalDate day = LocalDate.ofEpochDay(startEpochDay);
+        for (int i = 0; i < termMonths; i++) {
+            day = day.plusMonths(1);
+            long epochDay = day.toEpochDay();
+            scheduledDay[i] = (int) epochDay;
+            adjustedDay[i] = (int) calendar.adjust(epochDay, rule);
+        }
+    }
+
+    /**
+     * 약정 상환일 (round: 1부터)
+     */
+    public int getScheduledDay(int round) { return scheduledDay[round - 1]; }
+
+    /**
+     * 조정 상환일 (round: 1부터)
+     */
+    public int getAdjustedDay(int round) { return adjustedDay[round - 1]; }
+
+    public int size() { return scheduledDay.length; }
+}
@@ -0,0 +1,44 @@
+package egovframework.example.loan;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 포트폴리오 현금흐름 집계 서비스 인터페이스
+ * 승인된 대출의 회차별 상환 예정액을 월별 집계 버킷으로 유지하며,
+ * 대출 저장/승인/삭제 시 해당 대출분만 증감하여 조회 시 테이블을 다시 읽지 않음.
+ */
+public interface LoanPortfolioService {
+
+    /**
+     * 대출 반영 (승인 상태면 기존 반영분을 빼고 새 값으로 반영, 그 외 상태면 반영분 제거)
+     * @param loan 대출 정보 (ID, 상태 포함, scheduleSnapshot 이 있으면 스냅샷 기준으로 반영)
+     */
+    void upsertLoan(LoanManageVO loan);
+
+    /**
+     * 대출 반영분 제거 (삭제 시)
+     * @param id 대출 ID
+     */
+    void removeLoan(String id);
+
+    /**
+     * 전체 재집계 (승인 건 전체를 읽어 병렬 계산 후 버킷 교체)
+     * @return 집계된 대출 건수
+     */
+    int rebuild() throws Exception;
+
+    /**
+     * 월별 예상 현금흐름 조회 (버킷 조회만 수행)
+     * @param from 시작 월 (포함)
+     * @param to 종료 월 (포함)
+     * @return 월별 합계 목록 (상환 예정이 없는 월은 0)
+     * @throws IllegalArgumentException 기간이 역순이거나 최대 조회 개월 수를 넘는 경우
+     */
+    List<LoanCashFlowVO> selectCashFlow(YearMonth from, YearMonth to);
+
+    /**
+     * 집계 중인 대출 건수
+     */
+    int getLoanCount();
+}
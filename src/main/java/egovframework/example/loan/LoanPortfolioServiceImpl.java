@@ -0,0 +1,315 @@
+package egovframework.example.loan;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import org.springframework.stereotype.Service;
+import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;
+
+/**
+ * 포트폴리오 현금흐름 집계 서비스 구현 클래스
+ * 월(epoch month = 연 * 12 + 월 - 1)별 LongAdder 버킷에 승인 대출의 회차별 원금/이자/세금/부담금을 누적함.
+ * 회차는 실제 상환일(주말/공휴일 조정)이 속한 월에 집계함.
+ * 승인 스냅샷이 있는 대출은 스냅샷을 복원하여 집계하고 (승인 시점 세율표 기준, 상세 조회와 같은 금액),
+ * 스냅샷이 없는 대출만 현재 세율표로 계산함.
+ * 대출별 반영 조건(스냅샷 포함)을 보관하여 변경/삭제 시 같은 조건으로 구한 값을 빼고 새 값을 더함.
+ * 스케줄 계산은 맵 갱신 밖에서 하고, 맵에는 조건 교체(put/remove)만 하며, 버킷 증감은 순서와 무관하므로
+ * 같은 대출의 동시 변경도 최종 합계가 맞음.
+ * 재집계는 잠금 없이 새 버킷을 만든 뒤 쓰기 잠금으로 교체하며, 재집계 중 변경된 대출은 교체 직전 최신 조건으로 다시 맞춤.
+ * 공휴일 달력 교체 후에는 상환일 조정이, 세율표 교체 후에는 스냅샷이 없는 대출의 금액이 기존 반영분과 달라질 수 있으므로 재집계로 맞춤.
+ */
+@Service("loanPortfolioService")
+public class LoanPortfolioServiceImpl extends EgovAbstractServiceImpl implements LoanPortfolioService {
+
+    @Resource(name = "loanManageMapper")
+    private LoanManageMapper loanManageMapper;
+
+    @Resource(name = "loanCalculatorService")
+    private LoanCalculatorService loanCalculatorService;
+
+    @Resource(name = "loanPaymentCalendarService")
+    private LoanPaymentCalendarService loanPaymentCalendarService;
+
+    // 증감은 읽기 잠금(동시 허용), 재집계 결과 교체는 쓰기 잠금
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuildMonitor = new Object(); // 재집계는 한 번에 하나만 실행
+
+    // 재집계 중 변경된 대출 ID (재집계 중이 아니면 null)
+    private volatile Set<String> rebuildChanges;
+
+    // 월별 집계 버킷, 대출별 반영 조건 (재집계 시 통째로 교체)
+    private volatile ConcurrentHashMap<Integer, MonthBucket> buckets = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, LoanManageVO> loans = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 재집계 (실패해도 기동은 계속하고 빈 집계로 시작)
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            int count = rebuild();
+            egovLogger.info("loan portfolio rebuilt: {} loans", count);
+        } catch (Exception e) {
+            egovLogger.error("loan portfolio rebuild failed", e);
+        }
+    }
+
+    @Override
+    public void upsertLoan(LoanManageVO loan) {
+        if (!LoanCode.STATUS_APPROVED.equals(loan.getStatus())) {
+            removeLoan(loan.getId());
+            return;
+        }
+        LoanManageVO persisted = loan;
+        if (loan.getStartDate() == null) {
+            // 실행일이 없는 요청 VO - 저장된 실행일 사용 (계산일마다 달라지는 "오늘" 기준으로 반영/제거하지 않음)
+            try {
+                persisted = loanManageMapper.selectLoanScheduleDetail(LoanScheduleIds.key(loan.getId()));
+            } catch (Exception e) {
+                egovLogger.error("portfolio upsert skipped, persisted loan lookup failed: {}", loan.getId(), e);
+                return;
+            }
+            if (persisted == null || persisted.getStartDate() == null) {
+                egovLogger.warn("portfolio upsert skipped, no persisted start date: {}", loan.getId());
+                return;
+            }
+        }
+        final LoanManageVO next = copyOf(persisted);
+        CompactAmortizationSchedule nextSchedule = scheduleOf(next); // 맵 갱신 전에 계산
+        lock.readLock().lock();
+        try {
+            noteChange(loan.getId());
+            ConcurrentHashMap<Integer, MonthBucket> target = buckets;
+            LoanManageVO previous = loans.put(loan.getId(), next);
+            apply(target, nextSchedule, 1);
+            if (previous != null) {
+                apply(target, scheduleOf(previous), -1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeLoan(String id) {
+        if (id == null) {
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            noteChange(id);
+            ConcurrentHashMap<Integer, MonthBucket> target = buckets;
+            LoanManageVO previous = loans.remove(id);
+            if (previous != null) {
+                apply(target, scheduleOf(previous), -1);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int rebuild() throws Exception {
+        synchronized (rebuildMonitor) {
+            Set<String> changes = ConcurrentHashMap.newKeySet();
+            lock.writeLock().lock();
+            try {
+                rebuildChanges = changes; // 이후 증감은 대출 ID 를 기록
+            } finally {
+                lock.writeLock().unlock();
+            }
+            try {
+                // 승인 건 전체를 스트리밍으로 읽어 ID/조건/스냅샷만 보관 (잠금 없음)
+                final List<String> ids = new ArrayList<>();
+                final List<LoanManageVO> inputs = new ArrayList<>();
+                loanManageMapper.selectApprovedLoanScheduleList(context -> {
+                    LoanManageVO loan = context.getResultObject();
+                    ids.add(loan.getId());
+                    inputs.add(copyOf(loan));
+                });
+
+                ConcurrentHashMap<Integer, MonthBucket> nextBuckets = new ConcurrentHashMap<>();
+                ConcurrentHashMap<String, LoanManageVO> nextLoans = new ConcurrentHashMap<>(Math.max(16, ids.size() * 4 / 3));
+                ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+                try {
+                    pool.invoke(new RebuildTask(ids, inputs, nextBuckets, nextLoans, 0, ids.size()));
+                } finally {
+                    pool.shutdown();
+                }
+
+                lock.writeLock().lock();
+                try {
+                    // 재집계 중 변경된 대출은 조회 시점 값 대신 현재 반영 조건으로 교체
+                    for (String id : changes) {
+                        LoanManageVO built = nextLoans.remove(id);
+                        if (built != null) {
+                            apply(nextBuckets, scheduleOf(built), -1);
+                        }
+                        LoanManageVO latest = loans.get(id);
+                        if (latest != null) {
+                            apply(nextBuckets, scheduleOf(latest), 1);
+                            nextLoans.put(id, latest);
+                        }
+                    }
+                    buckets = nextBuckets;
+                    loans = nextLoans;
+                    rebuildChanges = null;
+                    return nextLoans.size();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                rebuildChanges = null;
+            }
+        }
+    }
+
+    @Override
+    public List<LoanCashFlowVO> selectCashFlow(YearMonth from, YearMonth to) {
+        int first = epochMonth(from.getYear(), from.getMonthValue());
+        int last = epochMonth(to.getYear(), to.getMonthValue());
+        if (last < first || last - first >= LoanCode.PORTFOLIO_MAX_MONTHS) {
+            throw new IllegalArgumentException("month range must be 1.." + LoanCode.PORTFOLIO_MAX_MONTHS + " months");
+        }
+        ConcurrentHashMap<Integer, MonthBucket> current = buckets;
+        List<LoanCashFlowVO> result = new ArrayList<>(last - first + 1);
+        YearMonth month = from;
+        for (int m = first; m <= last; m++) {
+            LoanCashFlowVO flow = new LoanCashFlowVO();
+            flow.setMonth(month.toString());
+            MonthBucket bucket = current.get(m);
+            if (bucket != null) {
+                flow.setPrincipal(bucket.principal.sum());
+                flow.setInterest(bucket.interest.sum());
+                flow.setTax(bucket.tax.sum());
+                flow.setEnvCharge(bucket.envCharge.sum());
+                flow.setPaymentCount(bucket.paymentCount.sum());
+            }
+            result.add(flow);
+            month = month.plusMonths(1);
+        }
+        return result;
+    }
+
+    @Override
+    public int getLoanCount() {
+        return loans.size();
+    }
+
+    /**
+     * 재집계 중이면 변경된 대출 ID 기록 (읽기 잠금 안에서 호출)
+     */
+    private void noteChange(String id) {
+        Set<String> changes = rebuildChanges;
+        if (changes != null) {
+            changes.add(id);
+        }
+    }
+
+    /**
+     * 반영할 회차 스케줄 (스냅샷이 있으면 복원, 없으면 현재 세율표로 계산)
+     */
+    private CompactAmortizationSchedule scheduleOf(LoanManageVO loan) {
+        LoanSummaryVO summary = loan.getScheduleSnapshot() != null
+                ? LoanScheduleSnapshot.decode(loan.getScheduleSnapshot())
+                        .toSummary(loan, loanPaymentCalendarService.getHolidayCalendar())
+                : loanCalculatorService.calculateCompact(loan);
+        return (CompactAmortizationSchedule) summary.getSchedule();
+    }
+
+    /**
+     * 대출 1건의 회차별 금액을 버킷에 증감 (sign = 1: 반영, -1: 제거)
+     * 회차는 실제 상환일(영업일 조정)이 속한 월에 집계 (말일 조정으로 다음 달로 넘어가는 회차 포함).
+     */
+    private static void apply(ConcurrentHashMap<Integer, MonthBucket> target, CompactAmortizationSchedule schedule, int sign) {
+        for (int i = 0; i < schedule.size(); i++) {
+            LocalDate paid = LocalDate.ofEpochDay(schedule.getAdjustedPaymentEpochDay(i));
+            MonthBucket bucket = target.computeIfAbsent(epochMonth(paid.getYear(), paid.getMonthValue()), m -> new MonthBucket());
+            bucket.principal.add(sign * schedule.getPrincipalPayment(i));
+            bucket.interest.add(sign * schedule.getInterestPayment(i));
+            bucket.tax.add(sign * schedule.getMonthlyTax(i));
+            bucket.envCharge.add(sign * schedule.getMonthlyEnvCharge(i));
+            bucket.paymentCount.add(sign);
+        }
+    }
+
+    private static int epochMonth(int year, int month) {
+        return year * 12 + month - 1;
+    }
+
+    /**
+     * 계산/복원에 필요한 조건과 스냅샷만 복사 (호출 측 VO 변경과 분리)
+     */
+    private static LoanManageVO copyOf(LoanManageVO source) {
+        LoanManageVO copy = new LoanManageVO();
+        copy.setVehiclePrice(source.getVehiclePrice());
+        copy.setDownPayment(source.getDownPayment());
+        copy.setEngineDisplacement(source.getEngineDisplacement());
+        copy.setFuelType(source.getFuelType());
+        copy.setEnvChargeSemiAnnual(source.getEnvChargeSemiAnnual());
+        copy.setLoanAmount(source.getLoanAmount());
+        copy.setInterestRate(source.getInterestRate());
+        copy.setTermMonths(source.getTermMonths());
+        copy.setStartDate(source.getStartDate());
+        copy.setPaymentDayRule(source.getPaymentDayRule());
+        copy.setScheduleSnapshot(source.getScheduleSnapshot());
+        return copy;
+    }
+
+    /**
+     * 월별 집계 버킷
+     */
+    private static final class MonthBucket {
+        final LongAdder principal = new LongAdder();
+        final LongAdder interest = new LongAdder();
+        final LongAdder tax = new LongAdder();
+        final LongAdder envCharge = new LongAdder();
+        final LongAdder paymentCount = new LongAdder();
+    }
+
+    /**
+     * 재집계 분할 작업 (구간을 반으로 나누어 병렬 처리)
+     */
+    private class RebuildTask extends RecursiveAction {
+        private final List<String> ids;
+        private final List<LoanManageVO> inputs;
+        private final ConcurrentHashMap<Integer, MonthBucket> target;
+        private final ConcurrentHashMap<String, LoanManageVO> targetLoans;
+        private final int from;
+        private final int to;
+
+        RebuildTask(List<String> ids, List<LoanManageVO> inputs, ConcurrentHashMap<Integer, MonthBucket> target,
+                ConcurrentHashMap<String, LoanManageVO> targetLoans, int from, int to) {
+            this.ids = ids;
+            this.inputs = inputs;
+            this.target = target;
+            this.targetLoans = targetLoans;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LoanCode.BATCH_SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    apply(target, scheduleOf(inputs.get(i)), 1);
+                    targetLoans.put(ids.get(i), inputs.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RebuildTask(ids, inputs, target, targetLoans, from, mid),
+                    new RebuildTask(ids, inputs, target, targetLoans, mid, to));
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package egovframework.example.loan;
+
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대출 견적 결과 캐시 (Quote Cache)
+ * 정규화된 LoanInputVO 수치 필드와 대출 실행일(일 단위)을 키로 계산 결과를 보관함.
+ * 키 해시로 나눈 분할(LoanCode.QUOTE_CACHE_STRIPES)마다 접근 순서 LinkedHashMap 과 잠금을 따로 두어
+ * 조회/저장이 같은 분할에 몰릴 때만 서로 기다림 (접근 순서 갱신도 구조 변경이므로 분할 잠금 안에서 처리).
+ * 최대 건수는 분할에 나누어 배정하고, 분할 안에서 가장 오래 사용되지 않은 항목부터 제거함(분할 단위 LRU).
+ * TTL 이 지난 항목은 조회 시 제거함.
+ * 캐시된 값은 여러 요청이 공유하므로 호출 측에서 수정하면 안 됨.
+ * @param <V> 캐시 값 타입 (LoanSummaryVO, AmortizationCheckpoints 등)
+ */
+public class LoanQuoteCache<V> {
+
+    private final int maxSize;          // 최대 보관 건수 (분할 최대 건수의 합)
+    private final long ttlNanos;        // 항목 유효 시간 (나노초)
+
+    private final Stripe<V>[] stripes;  // 분할별 LRU (각 분할 객체로 동기화)
+    private final int stripeMask;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public LoanQuoteCache(int maxSize, long ttl, TimeUnit unit) {
+        this.maxSize = maxSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        // 분할 수는 최대 건수를 넘지 않는 2의 거듭제곱 (분할마다 최소 1건)
+        int count = Math.min(LoanCode.QUOTE_CACHE_STRIPES, Integer.highestOneBit(Math.max(1, maxSize)));
+        this.stripes = (Stripe<V>[]) new Stripe<?>[count];
+        this.stripeMask = count - 1;
+        for (int i = 0; i < count; i++) {
+            int capacity = maxSize / count + (i < maxSize % count ? 1 : 0);
+            stripes[i] = new Stripe<V>(Math.max(1, capacity), evictionCount);
+        }
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료된 경우 null)
+     */
+    public V get(Key key) {
+        Stripe<V> stripe = stripeOf(key);
+        CacheEntry<V> entry;
+        synchronized (stripe) {
+            entry = stripe.get(key);
+            if (entry != null && System.nanoTime() - entry.createdNanos > ttlNanos) {
+                stripe.remove(key); // 만료 제거
+                evictionCount.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * 캐시 저장 (분할 최대 건수 초과 시 오래된 항목 제거)
+     */
+    public void put(Key key, V value) {
+        CacheEntry<V> entry = new CacheEntry<V>(value, System.nanoTime());
+        Stripe<V> stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.put(key, entry); // 초과분은 removeEldestEntry 에서 제거
+        }
+    }
+
+    /**
+     * 전체 삭제 (세율표 변경 등 계산 기준이 바뀐 경우)
+     */
+    public void clear() {
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    /**
+     * 캐시 통계 조회 (건수는 분할별 합계)
+     */
+    public LoanCacheStatsVO getStats() {
+        LoanCacheStatsVO stats = new LoanCacheStatsVO();
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        stats.setSize(size);
+        stats.setMaxSize(maxSize);
+        stats.setHitCount(hitCount.sum());
+        stats.setMissCount(missCount.sum());
+        stats.setEvictionCount(evictionCount.sum());
+        return stats;
+    }
+
+    private Stripe<V> stripeOf(Key key) {
+        int h = key.hash;
+        return stripes[(h ^ (h >>> 16)) & stripeMask]; // 상위 비트도 반영
+    }
+
+    /**
+     * 입력값으로 캐시 키 생성 (계산 결과에 영향이 없는 값은 정규화)
+     * - 연료 종류는 환경부담금 부과 대상 여부만, 환경부담금은 부과 대상인 경우에만 반영
+     * - 대출 실행일은 시스템 기본 시간대 기준 일자 (미입력 시 오늘)
+     * - 세율표/공휴일 세대 번호를 포함하여 세율표·공휴일 교체 전 결과와 구분
+     * @throws IllegalArgumentException 알 수 없는 상환일 조정 규칙인 경우
+     */
+    public static Key keyOf(LoanInputVO input, LoanRateTable rates, long rateGeneration, long calendarGeneration) {
+        boolean envChargeApplicable = rates.isEnvChargeApplicable(input.getFuelType());
+        Date start = input.getStartDate() != null ? input.getStartDate() : new Date();
+        long startDay = start.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+        return new Key(input.getVehiclePrice(), input.getDownPayment(), input.getLoanAmount(),
+                input.getInterestRate(), envChargeApplicable ? input.getEnvChargeSemiAnnual() : 0,
+                input.getEngineDisplacement(), input.getTermMonths(), envChargeApplicable, startDay, rateGeneration,
+                LoanHolidayCalendar.normalizeRule(input.getPaymentDayRule()), calendarGeneration);
+    }
+
+    /**
+     * 캐시 키 (불변)
+     */
+    public static final class Key {
+        private final double vehiclePrice;
+        private final double downPayment;
+        private final double loanAmount;
+        private final double interestRate;
+        private final double envChargeSemiAnnual;
+        private final int engineDisplacement;
+        private final int termMonths;
+        private final boolean envChargeApplicable;
+        private final long startDay;
+        private final long rateGeneration;
+        private final String paymentDayRule;
+        private final long calendarGeneration;
+        private final int hash;
+
+        Key(double vehiclePrice, double downPayment, double loanAmount, double interestRate,
+                double envChargeSemiAnnual, int engineDisplacement, int termMonths, boolean envChargeApplicable, long startDay,
+                long rateGeneration, String paymentDayRule, long calendarGeneration) {
+            // -0.0 과 0.0 을 같은 키로 취급
+            this.vehiclePrice = vehiclePrice + 0.0;
+            this.downPayment = downPayment + 0.0;
+            this.loanAmount = loanAmount + 0.0;
+            this.interestRate = interestRate + 0.0;
+            this.envChargeSemiAnnual = envChargeSemiAnnual + 0.0;
+            this.engineDisplacement = engineDisplacement;
+            this.termMonths = termMonths;
+            this.envChargeApplicable = envChargeApplicable;
+            this.startDay = startDay;
+            this.rateGeneration = rateGeneration;
+            this.paymentDayRule = paymentDayRule;
+            this.calendarGeneration = calendarGeneration;
+
+            int h = Double.hashCode(this.loanAmount);
+            h = 31 * h + Double.hashCode(this.interestRate);
+            h = 31 * h + termMonths;
+            h = 31 * h + engineDisplacement;
+            h = 31 * h + Double.hashCode(this.vehiclePrice);
+            h = 31 * h + Double.hashCode(this.downPayment);
+            h = 31 * h + Double.hashCode(this.envChargeSemiAnnual);
+            h = 31 * h + (envChargeApplicable ? 1 : 0);
+            h = 31 * h + Long.hashCode(startDay);
+            h = 31 * h + Long.hashCode(rateGeneration);
+            h = 31 * h + paymentDayRule.hashCode();
+            h = 31 * h + Long.hashCode(calendarGeneration);
+            this.hash = h;
+        }
+
+        /**
+         * 64비트 지문 (JVM 과 무관하게 같은 키는 같은 값 - ETag 용)
+         */
+        public long fingerprint() {
+            long h = LoanETags.SEED;
+            h = LoanETags.mix(h, Double.doubleToLongBits(vehiclePrice));
+            h = LoanETags.mix(h, Double.doubleToLongBits(downPayment));
+            h = LoanETags.mix(h, Double.doubleToLongBits(loanAmount));
+            h = LoanETags.mix(h, Double.doubleToLongBits(interestRate));
+            h = LoanETags.mix(h, Double.doubleToLongBits(envChargeSemiAnnual));
+            h = LoanETags.mix(h, engineDisplacement);
+            h = LoanETags.mix(h, termMonths);
+            h = LoanETags.mix(h, envChargeApplicable ? 1 : 0);
+            h = LoanETags.mix(h, startDay);
+            h = LoanETags.mix(h, rateGeneration);
+            h = LoanETags.mix(h, paymentDayRule.hashCode());
+            h = LoanETags.mix(h, calendarGeneration);
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return hash == k.hash
+                    && Double.compare(loanAmount, k.loanAmount) == 0
+                    && Double.compare(interestRate, k.interestRate) == 0
+                    && termMonths == k.termMonths
+                    && engineDisplacement == k.engineDisplacement
+                    && Double.compare(vehiclePrice, k.vehiclePrice) == 0
+                    && Double.compare(downPayment, k.downPayment) == 0
+                    && Double.compare(envChargeSemiAnnual, k.envChargeSemiAnnual) == 0
+                    && envChargeApplicable == k.envChargeApplicable
+                    && startDay == k.startDay
+                    && rateGeneration == k.rateGeneration
+                    && calendarGeneration == k.calendarGeneration
+                    && paymentDayRule.equals(k.paymentDayRule);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 분할 1개 (접근 순서 LinkedHashMap, 최대 건수 초과 시 가장 오래 사용되지 않은 항목 제거)
+     */
+    private static final class Stripe<V> extends LinkedHashMap<Key, CacheEntry<V>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final transient LongAdder evictionCount;
+
+        Stripe(int capacity, LongAdder evictionCount) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictionCount = evictionCount;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CacheEntry<V>> eldest) {
+            if (size() > capacity) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class CacheEntry<V> {
+        private final V value;
+        private final long createdNanos;
+
+        CacheEntry(V value, long createdNanos) {
+            this.value = value;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
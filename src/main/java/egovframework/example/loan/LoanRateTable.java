@@ -0,0 +1,123 @@
+package egovframework.example.loan;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 세율표 (Rate Table) - 불변 객체
+ * 자동차세 구간, 지방교육세율, 환경개선부담금 규칙을 하나의 버전으로 묶고
+ * 배기량별 연간/월 자동차세를 미리 계산한 배열로 보관하여 조회 시 배열 접근만 수행함.
+ */
+public final class LoanRateTable {
+
+    // 미리 계산하는 최대 배기량 (초과 시 구간 계산)
+    public static final int DENSE_CC_LIMIT = 10000;
+
+    private final String version;              // 세율표 버전
+    private final long effectiveDay;           // 적용 시작일 (epoch day)
+    private final int[] bandLimits;            // 구간별 배기량 상한 (마지막 구간은 Integer.MAX_VALUE)
+    private final int[] bandTaxPerCc;          // 구간별 cc당 세액
+    private final int educationTaxPercent;     // 지방교육세율 (%)
+    private final Set<String> envChargeFuelTypes; // 환경개선부담금 부과 연료 종류
+    private final int envChargeMonths;         // 환경개선부담금 납부 주기 (개월)
+
+    private final long[] annualTaxByCc;        // 배기량별 연간 자동차세
+    private final long[] monthlyTaxByCc;       // 배기량별 월 자동차세
+
+    public LoanRateTable(String version, long effectiveDay, int[] bandLimits, int[] bandTaxPerCc,
+            int educationTaxPercent, Set<String> envChargeFuelTypes, int envChargeMonths) {
+        if (bandLimits.length == 0 || bandLimits.length != bandTaxPerCc.length) {
+            throw new IllegalArgumentException("invalid tax bands: " + version);
+        }
+        for (int i = 1; i < bandLimits.length; i++) {
+            if (bandLimits[i] <= bandLimits[i - 1]) {
+                throw new IllegalArgumentException("tax bands must be ascending: " + version);
+            }
+        }
+        if (bandLimits[bandLimits.length - 1] != Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("last tax band must be open-ended: " + version);
+        }
+        if (envChargeMonths <= 0) {
+            throw new IllegalArgumentException("invalid env charge months: " + version);
+        }
+        this.version = version;
+        this.effectiveDay = effectiveDay;
+        this.bandLimits = bandLimits.clone();
+        this.bandTaxPerCc = bandTaxPerCc.clone();
+        this.educationTaxPercent = educationTaxPercent;
+        this.envChargeFuelTypes = Collections.unmodifiableSet(new HashSet<String>(envChargeFuelTypes));
+        this.envChargeMonths = envChargeMonths;
+
+        this.annualTaxByCc = new long[DENSE_CC_LIMIT + 1];
+        this.monthlyTaxByCc = new long[DENSE_CC_LIMIT + 1];
+        for (int cc = 1; cc <= DENSE_CC_LIMIT; cc++) {
+            annualTaxByCc[cc] = computeAnnualTax(cc);
+            monthlyTaxByCc[cc] = annualTaxByCc[cc] / 12;
+        }
+    }
+
+    /**
+     * LoanCode 상수 기준 기본 세율표
+     */
+    public static LoanRateTable defaults() {
+        return new LoanRateTable("default", Long.MIN_VALUE,
+                new int[] { LoanCode.TAX_CC_LIMIT_SMALL, LoanCode.TAX_CC_LIMIT_MEDIUM, Integer.MAX_VALUE },
+                new int[] { LoanCode.TAX_PER_CC_SMALL, LoanCode.TAX_PER_CC_MEDIUM, LoanCode.TAX_PER_CC_LARGE },
+                LoanCode.EDUCATION_TAX_PERCENT,
+                new HashSet<String>(Arrays.asList(LoanCode.FUEL_TYPE_DIESEL)), 6);
+    }
+
+    /**
+     * 연간 자동차세 (지방교육세 포함, 원 미만 절사)
+     */
+    public long getAnnualAutoTax(int cc) {
+        if (cc <= 0) return 0;
+        return cc <= DENSE_CC_LIMIT ? annualTaxByCc[cc] : computeAnnualTax(cc);
+    }
+
+    /**
+     * 월 자동차세 (연간 / 12, 원 미만 절사)
+     */
+    public long getMonthlyAutoTax(int cc) {
+        if (cc <= 0) return 0;
+        return cc <= DENSE_CC_LIMIT ? monthlyTaxByCc[cc] : computeAnnualTax(cc) / 12;
+    }
+
+    /**
+     * 환경개선부담금 부과 대상 여부
+     */
+    public boolean isEnvChargeApplicable(String fuelType) {
+        return fuelType != null && envChargeFuelTypes.contains(fuelType);
+    }
+
+    private long computeAnnualTax(int cc) {
+        int band = 0;
+        while (cc > bandLimits[band]) {
+            band++;
+        }
+        long baseTax = (long) cc * bandTaxPerCc[band];
+        return baseTax + baseTax * educationTaxPercent / 100;
+    }
+
+    /**
+     * 내용 해시 (세대 번호와 달리 재기동 후에도 같은 세율표는 같은 값 - ETag 용)
+     */
+    public int contentHash() {
+        int h = version.hashCode();
+        h = 31 * h + Long.hashCode(effectiveDay);
+        h = 31 * h + Arrays.hashCode(bandLimits);
+        h = 31 * h + Arrays.hashCode(bandTaxPerCc);
+        h = 31 * h + educationTaxPercent;
+        h = 31 * h + envChargeFuelTypes.hashCode();
+        h = 31 * h + envChargeMonths;
+        return h;
+    }
+
+    public String getVersion() { return version; }
+    public long getEffectiveDay() { return effectiveDay; }
+    public int getEducationTaxPercent() { return educationTaxPercent; }
+    public Set<String> getEnvChargeFuelTypes() { return envChargeFuelTypes; }
+    public int getEnvChargeMonths() { return envChargeMonths; }
+}
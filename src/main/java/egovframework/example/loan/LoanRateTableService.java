@@ -0,0 +1,29 @@
+package egovframework.example.loan;
+
+import java.util.Date;
+
+/**
+ * 세율표 서비스 인터페이스
+ * 자동차세/지방교육세/환경개선부담금 기준을 적용 시작일별로 관리함.
+ */
+public interface LoanRateTableService {
+    
+    /**
+     * 기준일에 적용되는 세율표 조회
+     * @param baseDate 기준일 (null 이면 오늘)
+     * @return 세율표 (LoanRateTable)
+     */
+    LoanRateTable getRateTable(Date baseDate);
+    
+    /**
+     * 세율표 적재 세대 번호 (재적재 시마다 증가)
+     * @return 세대 번호
+     */
+    long getGeneration();
+    
+    /**
+     * 설정 파일에서 세율표 재적재 (실패 시 기존 세율표 유지)
+     * @throws Exception
+     */
+    void reload() throws Exception;
+}
@@ -0,0 +1,197 @@
+package egovframework.example.loan;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;
+
+/**
+ * 세율표 서비스 구현 클래스
+ * 설정 파일(LoanCode.RATE_TABLE_RESOURCE)을 읽어 적용 시작일 순으로 정렬된 세율표 묶음을 만들고,
+ * 주기적으로 파일 변경을 확인하여 새 묶음으로 교체함 (AtomicReference 교체 - 계산 중인 요청은 기존 묶음 사용).
+ *
+ * 설정 형식:
+ *   rate.versions=2024.1,2026.1
+ *   rate.2024.1.effectiveDate=2024-01-01
+ *   rate.2024.1.taxBands=1000:80,1600:140,*:200
+ *   rate.2024.1.educationTaxPercent=30
+ *   rate.2024.1.envChargeFuelTypes=diesel
+ *   rate.2024.1.envChargeMonths=6
+ */
+@Service("loanRateTableService")
+public class LoanRateTableServiceImpl extends EgovAbstractServiceImpl implements LoanRateTableService {
+
+    // 현재 적용 중인 세율표 묶음 (설정 적재 전에는 LoanCode 기본값)
+    private final AtomicReference<Snapshot> snapshot =
+            new AtomicReference<>(new Snapshot(0, new LoanRateTable[] { LoanRateTable.defaults() }, 0));
+
+    private ScheduledExecutorService reloadScheduler;
+
+    @PostConstruct
+    public void init() throws Exception {
+        reload();
+        reloadScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "loan-rate-table-reload");
+            t.setDaemon(true);
+            return t;
+        });
+        reloadScheduler.scheduleWithFixedDelay(this::reloadIfModified,
+                LoanCode.RATE_TABLE_RELOAD_SECONDS, LoanCode.RATE_TABLE_RELOAD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloadScheduler != null) {
+            reloadScheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public LoanRateTable getRateTable(Date baseDate) {
+        Date date = baseDate != null ? baseDate : new Date();
+        long day = date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+
+        // 적용 시작일이 기준일 이전인 마지막 세율표 (없으면 가장 오래된 세율표)
+        LoanRateTable[] tables = snapshot.get().tables;
+        for (int i = tables.length - 1; i > 0; i--) {
+            if (tables[i].getEffectiveDay() <= day) {
+                return tables[i];
+            }
+        }
+        return tables[0];
+    }
+
+    @Override
+    public long getGeneration() {
+        return snapshot.get().generation;
+    }
+
+    @Override
+    public void reload() throws Exception {
+        URL url = getClass().getClassLoader().getResource(LoanCode.RATE_TABLE_RESOURCE);
+        if (url == null) {
+            egovLogger.warn("rate table resource not found, using defaults: {}", LoanCode.RATE_TABLE_RESOURCE);
+            return;
+        }
+        URLConnection conn = url.openConnection();
+        conn.setUseCaches(false);
+        long lastModified = conn.getLastModified();
+
+        Properties props = new Properties();
+        try (InputStream in = conn.getInputStream();
+                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+        LoanRateTable[] tables = parse(props);
+
+        Snapshot current = snapshot.get();
+        snapshot.set(new Snapshot(current.generation + 1, tables, lastModified));
+        egovLogger.info("rate table loaded: {} version(s), generation {}", tables.length, current.generation + 1);
+    }
+
+    /**
+     * 설정 파일 변경 시에만 재적재 (스케줄러 전용)
+     */
+    private void reloadIfModified() {
+        try {
+            URL url = getClass().getClassLoader().getResource(LoanCode.RATE_TABLE_RESOURCE);
+            if (url == null) {
+                return;
+            }
+            URLConnection conn = url.openConnection();
+            conn.setUseCaches(false);
+            if (conn.getLastModified() != snapshot.get().lastModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            egovLogger.error("rate table reload failed, keeping previous tables", e);
+        }
+    }
+
+    /**
+     * 설정값 → 세율표 배열 (적용 시작일 오름차순)
+     */
+    static LoanRateTable[] parse(Properties props) {
+        String versions = props.getProperty("rate.versions", "").trim();
+        if (versions.isEmpty()) {
+            throw new IllegalArgumentException("rate.versions is empty");
+        }
+
+        List<LoanRateTable> tables = new ArrayList<>();
+        for (String version : versions.split(",")) {
+            version = version.trim();
+            String prefix = "rate." + version + ".";
+
+            long effectiveDay = LocalDate.parse(required(props, prefix + "effectiveDate")).toEpochDay();
+
+            String[] bands = required(props, prefix + "taxBands").split(",");
+            int[] limits = new int[bands.length];
+            int[] taxPerCc = new int[bands.length];
+            for (int i = 0; i < bands.length; i++) {
+                String[] band = bands[i].trim().split(":");
+                limits[i] = "*".equals(band[0].trim()) ? Integer.MAX_VALUE : Integer.parseInt(band[0].trim());
+                taxPerCc[i] = Integer.parseInt(band[1].trim());
+            }
+
+            int educationTaxPercent = Integer.parseInt(required(props, prefix + "educationTaxPercent"));
+
+            Set<String> fuelTypes = new HashSet<>();
+            for (String fuelType : props.getProperty(prefix + "envChargeFuelTypes", "").split(",")) {
+                if (!fuelType.trim().isEmpty()) {
+                    fuelTypes.add(fuelType.trim());
+                }
+            }
+            int envChargeMonths = Integer.parseInt(props.getProperty(prefix + "envChargeMonths", "6").trim());
+
+            tables.add(new LoanRateTable(version, effectiveDay, limits, taxPerCc,
+                    educationTaxPercent, fuelTypes, envChargeMonths));
+        }
+
+        LoanRateTable[] result = tables.toArray(new LoanRateTable[tables.size()]);
+        Arrays.sort(result, Comparator.comparingLong(LoanRateTable::getEffectiveDay));
+        return result;
+    }
+
+    private static String required(Properties props, String key) {
+        String value = props.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("missing rate table property: " + key);
+        }
+        return value.trim();
+    }
+
+    /**
+     * 세율표 묶음 (불변)
+     */
+    private static final class Snapshot {
+        private final long generation;       // 적재 세대 번호
+        private final LoanRateTable[] tables; // 적용 시작일 오름차순
+        private final long lastModified;     // 설정 파일 수정 시각
+
+        Snapshot(long generation, LoanRateTable[] tables, long lastModified) {
+            this.generation = generation;
+            this.tables = tables;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package egovframework.example.loan;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 분리 라우팅 DataSource
+ * 커넥션을 실제로 가져오는 시점의 라우팅 키로 primary / replica 풀을 선택함.
+ * - 읽기/쓰기 트랜잭션 안에서는 항상 primary (트랜잭션 중 쓰기와 같은 커넥션 사용)
+ * - 읽기 전용 트랜잭션은 replica
+ * - 트랜잭션 밖에서는 LoanDataSourceRoutingAspect 가 지정한 키 (지정이 없으면 primary)
+ * 트랜잭션 속성이 반영되도록 LazyConnectionDataSourceProxy 로 감싸서 사용함 (context-datasource.xml).
+ */
+public class LoanRoutingDataSource extends AbstractRoutingDataSource {
+
+    // 현재 스레드의 라우팅 키 (null 이면 primary)
+    private static final ThreadLocal<String> ROUTE = new ThreadLocal<>();
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                    ? LoanCode.DATASOURCE_REPLICA : LoanCode.DATASOURCE_PRIMARY;
+        }
+        String route = ROUTE.get();
+        return route != null ? route : LoanCode.DATASOURCE_PRIMARY;
+    }
+
+    /**
+     * 현재 스레드의 라우팅 키 지정
+     * @param route LoanCode.DATASOURCE_* (null 이면 해제)
+     * @return 이전 라우팅 키 (호출 후 복원용)
+     */
+    static String setRoute(String route) {
+        String previous = ROUTE.get();
+        if (route == null) {
+            ROUTE.remove();
+        } else {
+            ROUTE.set(route);
+        }
+        return previous;
+    }
+}
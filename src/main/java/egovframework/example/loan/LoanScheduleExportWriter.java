@@ -0,0 +1,139 @@
+package egovframework.example.loan;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+/**
+ * 상환 스케줄 내보내기 Writer (CSV / NDJSON)
+ * 대출 1건의 컬럼형 스케줄을 행 객체 생성 없이 바로 출력 스트림에 기록함.
+ */
+public class LoanScheduleExportWriter {
+
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final String CSV_HEADER = "loanId,round,paymentDate,monthlyPayment,principalPayment,"
+            + "interestPayment,remainingBalance,monthlyTax,monthlyEnvCharge,totalMonthlyOutflow,adjustedPaymentDate\n";
+
+    private final Writer out;
+    private final boolean csv;
+    private long loanCount;            // 출력한 대출 건수
+    private long rowCount;             // 출력한 회차 행 수
+
+    public LoanScheduleExportWriter(Writer out, String format) {
+        this.out = out;
+        this.csv = !FORMAT_NDJSON.equalsIgnoreCase(format);
+    }
+
+    /**
+     * 지원 형식 여부
+     */
+    public static boolean isSupportedFormat(String format) {
+        return FORMAT_CSV.equalsIgnoreCase(format) || FORMAT_NDJSON.equalsIgnoreCase(format);
+    }
+
+    public String getContentType() {
+        return csv ? "text/csv; charset=UTF-8" : "application/x-ndjson; charset=UTF-8";
+    }
+
+    public String getFileExtension() {
+        return csv ? FORMAT_CSV : FORMAT_NDJSON;
+    }
+
+    /**
+     * 머리글 출력 (CSV 만 해당)
+     */
+    public void writeHeader() throws IOException {
+        if (csv) {
+            out.write(CSV_HEADER);
+        }
+    }
+
+    /**
+     * 대출 1건의 전체 회차 출력
+     */
+    public void writeLoan(String loanId, CompactAmortizationSchedule schedule) throws IOException {
+        for (int i = 0; i < schedule.size(); i++) {
+            if (csv) {
+                writeCsvRow(loanId, schedule, i);
+            } else {
+                writeJsonRow(loanId, schedule, i);
+            }
+        }
+        rowCount += schedule.size();
+        loanCount++;
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void writeCsvRow(String loanId, CompactAmortizationSchedule s, int i) throws IOException {
+        out.write(loanId);
+        out.write(',');
+        out.write(Integer.toString(s.getRound(i)));
+        out.write(',');
+        out.write(LocalDate.ofEpochDay(s.getPaymentEpochDay(i)).toString());
+        out.write(',');
+        out.write(Long.toString(s.getMonthlyPayment(i)));
+        out.write(',');
+        out.write(Long.toString(s.getPrincipalPayment(i)));
+        out.write(',');
+        out.write(Long.toString(s.getInterestPayment(i)));
+        out.write(',');
+        out.write(Long.toString(s.getRemainingBalance(i)));
+        out.write(',');
+        out.write(Long.toString(s.getMonthlyTax(i)));
+        out.write(',');
+        out.write(Long.toString(s.getMonthlyEnvCharge(i)));
+        out.write(',');
+        out.write(Long.toString(s.getTotalMonthlyOutflow(i)));
+        out.write(',');
+        out.write(LocalDate.ofEpochDay(s.getAdjustedPaymentEpochDay(i)).toString());
+        out.write('\n');
+    }
+
+    private void writeJsonRow(String loanId, CompactAmortizationSchedule s, int i) throws IOException {
+        out.write("{\"loanId\":\"");
+        writeJsonEscaped(loanId);
+        out.write("\",\"round\":");
+        out.write(Integer.toString(s.getRound(i)));
+        out.write(",\"paymentDate\":\"");
+        out.write(LocalDate.ofEpochDay(s.getPaymentEpochDay(i)).toString());
+        out.write("\",\"monthlyPayment\":");
+        out.write(Long.toString(s.getMonthlyPayment(i)));
+        out.write(",\"principalPayment\":");
+        out.write(Long.toString(s.getPrincipalPayment(i)));
+        out.write(",\"interestPayment\":");
+        out.write(Long.toString(s.getInterestPayment(i)));
+        out.write(",\"remainingBalance\":");
+        out.write(Long.toString(s.getRemainingBalance(i)));
+        out.write(",\"monthlyTax\":");
+        out.write(Long.toString(s.getMonthlyTax(i)));
+        out.write(",\"monthlyEnvCharge\":");
+        out.write(Long.toString(s.getMonthlyEnvCharge(i)));
+        out.write(",\"totalMonthlyOutflow\":");
+        out.write(Long.toString(s.getTotalMonthlyOutflow(i)));
+        out.write(",\"adjustedPaymentDate\":\"");
+        out.write(LocalDate.ofEpochDay(s.getAdjustedPaymentEpochDay(i)).toString());
+        out.write("\"}\n");
+    }
+
+    private void writeJsonEscaped(String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write(String.format("\\u%04x", (int) c));
+            } else {
+                out.write(c);
+            }
+        }
+    }
+
+    public long getLoanCount() { return loanCount; }
+    public long getRowCount() { return rowCount; }
+}
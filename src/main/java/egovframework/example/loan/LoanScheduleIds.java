@@ -0,0 +1,71 @@
+package egovframework.example.loan;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 대출 ID 생성/해석 (시간순 UUID)
+ * 상위 48비트에 등록 시각(epoch 밀리초)을 넣은 UUID 버전 7 형식이며, 나머지 비트는 UUID.randomUUID() 의 난수를 사용함.
+ * 신규 저장 시 같은 시각을 REG_DATE 로 기록하므로 ID 만으로 등록 월(파티션)을 알 수 있어
+ * ID 단건 조회/수정/삭제에 등록일 구간 조건을 함께 지정하여 해당 월 파티션만 조회하도록 함.
+ * 기능 도입 전 ID(버전 4)는 등록 시각을 알 수 없으므로 구간 조건 없이 전체 파티션을 조회함.
+ */
+final class LoanScheduleIds {
+
+    // 등록일 구간 여유 (ID 시각과 REG_DATE 는 같은 값이지만 DB 시각 정밀도/시간대 변환 차이 허용)
+    private static final long REG_DATE_TOLERANCE_MILLIS = 24L * 60 * 60 * 1000;
+
+    private LoanScheduleIds() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 신규 ID 생성
+     * @param epochMillis 등록 시각 (REG_DATE 로 같은 값을 저장해야 함)
+     */
+    static String newId(long epochMillis) {
+        UUID random = UUID.randomUUID();
+        long msb = (epochMillis << 16) | 0x7000L | (random.getMostSignificantBits() & 0x0fffL);
+        return new UUID(msb, random.getLeastSignificantBits()).toString(); // 하위 64비트 variant(10) 는 그대로 유지
+    }
+
+    /**
+     * ID 의 등록 시각
+     * @return epoch 밀리초 (시간순 ID 가 아니면 -1)
+     */
+    static long regTimeOf(String id) {
+        if (id == null || id.length() != 36 || id.charAt(14) != '7') {
+            return -1;
+        }
+        try {
+            return UUID.fromString(id).getMostSignificantBits() >>> 16;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * ID 단건 조건 (등록일 구간 포함)
+     */
+    static LoanManageVO key(String id) {
+        LoanManageVO key = new LoanManageVO();
+        key.setId(id);
+        applyRegDateRange(key);
+        return key;
+    }
+
+    /**
+     * ID 의 등록 시각으로 등록일 구간 조건 설정 (searchRegDateFrom 이상 / searchRegDateTo 미만)
+     * 시간순 ID 가 아니면 구간 조건을 비움.
+     */
+    static void applyRegDateRange(LoanManageVO vo) {
+        long regTime = regTimeOf(vo.getId());
+        if (regTime < 0) {
+            vo.setSearchRegDateFrom(null);
+            vo.setSearchRegDateTo(null);
+        } else {
+            vo.setSearchRegDateFrom(new Date(regTime - REG_DATE_TOLERANCE_MILLIS));
+            vo.setSearchRegDateTo(new Date(regTime + REG_DATE_TOLERANCE_MILLIS));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package egovframework.example.loan;
+
+/**
+ * 상환 스케줄 파티션 관리 서비스 인터페이스
+ * LOAN_SCHEDULE 월별 파티션(REG_DATE 기준)을 미리 만들고, 오래된 DRAFT 를 보관 테이블(LOAN_SCHEDULE_ARCHIVE)로 옮김.
+ * 파티션 전환(database/partition_loan_schedule.sql)이 적용되지 않은 DB 에서는 아무것도 하지 않음.
+ */
+public interface LoanSchedulePartitionService {
+
+    /**
+     * 파티션 관리 사용 여부 (기동 시 LOAN_SCHEDULE 이 파티션 테이블인지 확인한 결과)
+     */
+    boolean isEnabled();
+
+    /**
+     * 이번 달부터 미리 만들어 둘 개월 수만큼 월 파티션 생성 (이미 있으면 무시)
+     * @return 확인한 파티션 수 (사용하지 않으면 0)
+     * @throws Exception
+     */
+    int ensurePartitions() throws Exception;
+
+    /**
+     * 등록 후 기준 일수가 지난 DRAFT 를 보관 테이블로 이전 (배치 단위로 대상이 없을 때까지 반복)
+     * @return 이전 건수 (사용하지 않으면 0)
+     * @throws Exception
+     */
+    int archiveStaleDrafts() throws Exception;
+}
@@ -0,0 +1,153 @@
+package egovframework.example.loan;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;
+
+/**
+ * 상환 스케줄 파티션 관리 서비스 구현 클래스
+ * 기동 시 파티션 전환 여부를 확인하고, 전환된 DB 이면 LoanCode.PARTITION_MAINTENANCE_HOURS 주기로
+ * 월 파티션 생성과 DRAFT 보관 이전을 실행함 (H2 로컬 DB / 전환 전 DB 는 사용 안 함).
+ * 파티션이 없는 달의 행은 DEFAULT 파티션에 저장되므로 생성이 늦어도 저장은 실패하지 않지만,
+ * DEFAULT 파티션에 해당 월 행이 있으면 그 달 파티션 생성이 실패하므로 여유 개월 수를 두고 미리 만듦.
+ */
+@Service("loanSchedulePartitionService")
+public class LoanSchedulePartitionServiceImpl extends EgovAbstractServiceImpl implements LoanSchedulePartitionService {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Resource(name = "loanManageMapper")
+    private LoanManageMapper loanManageMapper;
+
+    // 미리 만들 파티션 개월 수 / 보관 이전 기준 일수 / 1회 이전 건수 (loan.partition.*, 미설정 시 기본값)
+    private int monthsAhead = LoanCode.PARTITION_MONTHS_AHEAD;
+    private int archiveAfterDays = LoanCode.DRAFT_ARCHIVE_AFTER_DAYS;
+    private int archiveBatchSize = LoanCode.DRAFT_ARCHIVE_BATCH_SIZE;
+
+    private volatile boolean enabled;
+
+    private ScheduledExecutorService maintenanceScheduler;
+
+    /**
+     * @throws IllegalArgumentException 0 이하인 경우 (다음 달 파티션이 없으면 DEFAULT 파티션에 행이 쌓임)
+     */
+    @Value("${loan.partition.monthsAhead:" + LoanCode.PARTITION_MONTHS_AHEAD + "}")
+    public void setMonthsAhead(int monthsAhead) {
+        if (monthsAhead <= 0) {
+            throw new IllegalArgumentException("partition months ahead must be positive: " + monthsAhead);
+        }
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * @throws IllegalArgumentException 음수인 경우
+     */
+    @Value("${loan.partition.archiveAfterDays:" + LoanCode.DRAFT_ARCHIVE_AFTER_DAYS + "}")
+    public void setArchiveAfterDays(int archiveAfterDays) {
+        if (archiveAfterDays < 0) {
+            throw new IllegalArgumentException("draft archive days must not be negative: " + archiveAfterDays);
+        }
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    /**
+     * @throws IllegalArgumentException 0 이하인 경우 (이전 건수와 비교하여 반복을 끝내므로 끝나지 않음)
+     */
+    @Value("${loan.partition.archiveBatchSize:" + LoanCode.DRAFT_ARCHIVE_BATCH_SIZE + "}")
+    public void setArchiveBatchSize(int archiveBatchSize) {
+        if (archiveBatchSize <= 0) {
+            throw new IllegalArgumentException("draft archive batch size must be positive: " + archiveBatchSize);
+        }
+        this.archiveBatchSize = archiveBatchSize;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            enabled = loanManageMapper.selectLoanSchedulePartitioned();
+        } catch (Exception e) {
+            enabled = false; // 파티션 카탈로그가 없는 DB (H2 로컬 등)
+        }
+        if (!enabled) {
+            egovLogger.info("LOAN_SCHEDULE is not partitioned, partition maintenance disabled");
+            return;
+        }
+        maintenanceScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "loan-schedule-partition");
+            t.setDaemon(true);
+            return t;
+        });
+        // 기동 직후 1회 실행 후 주기 실행 (이전 실행이 끝난 뒤 다음 주기 시작)
+        maintenanceScheduler.scheduleWithFixedDelay(this::maintainQuietly,
+                0, LoanCode.PARTITION_MAINTENANCE_HOURS, TimeUnit.HOURS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (maintenanceScheduler != null) {
+            maintenanceScheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int ensurePartitions() throws Exception {
+        if (!enabled) {
+            return 0;
+        }
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth target = month.plusMonths(i);
+            loanManageMapper.createLoanSchedulePartition("LOAN_SCHEDULE_" + target.format(PARTITION_SUFFIX),
+                    target.atDay(1).toString(), target.plusMonths(1).atDay(1).toString());
+        }
+        return monthsAhead + 1;
+    }
+
+    /**
+     * 배치마다 자동 커밋되므로 전체를 감싸는 트랜잭션 없이 호출해야 함 (잠금 시간 최소화).
+     */
+    @Override
+    public int archiveStaleDrafts() throws Exception {
+        if (!enabled) {
+            return 0;
+        }
+        Date cutoff = new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(archiveAfterDays));
+        int total = 0;
+        int moved;
+        do {
+            moved = loanManageMapper.archiveDraftLoanSchedules(cutoff, archiveBatchSize);
+            total += moved;
+        } while (moved >= archiveBatchSize);
+        if (total > 0) {
+            egovLogger.info("archived {} draft loan schedules registered before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private void maintainQuietly() {
+        try {
+            ensurePartitions();
+        } catch (Exception e) {
+            egovLogger.error("loan schedule partition creation failed", e);
+        }
+        try {
+            archiveStaleDrafts();
+        } catch (Exception e) {
+            egovLogger.error("draft loan schedule archiving failed", e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package egovframework.example.loan;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 승인 상환 스케줄 스냅샷 (Binary Snapshot)
+ * 승인 시점의 계산 결과를 바이너리로 보관하여 이후 조회 시 재계산 없이 복원함 (세율표 변경과 무관).
+ *
+ * 형식 (버전 1):
+ *   [1 byte] 형식 버전
+ *   [varint] 회차 수
+ *   [varint] 플래그 (bit 0: 환경부담금 부과)
+ *   [zigzag varint] 연간 자동차세, 월 자동차세, 월 환경부담금, 월 납입금, 총 이자
+ *   [컬럼 7개] 회차, 상환일(epoch day), 원금, 이자, 잔액, 자동차세, 환경부담금
+ *     - 컬럼별로 직전 값과의 차이를 zigzag varint 로 기록 (회차/상환일/세금은 대부분 1바이트)
+ * 헤더는 생성 시 바로 읽고, 회차 컬럼은 getSchedule() 최초 호출 시 복원함.
+ */
+public final class LoanScheduleSnapshot {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int COLUMN_COUNT = 7;
+    private static final int FLAG_ENV_CHARGE = 1;
+
+    private final byte[] data;
+    private final int formatVersion;    // 형식 버전
+    private final int roundCount;       // 회차 수
+    private final int flags;            // 플래그
+    private final long autoTaxAnnual;   // 연간 자동차세
+    private final long autoTaxMonthly;  // 월 자동차세
+    private final long envChargeMonthly;// 월 환경부담금
+    private final long monthlyPayment;  // 월 납입금 (마지막 회차 보정 전)
+    private final long totalInterest;   // 총 이자
+    private final int columnOffset;     // 컬럼 시작 위치
+
+    private CompactAmortizationSchedule schedule; // 복원된 스케줄 (지연 생성)
+
+    private LoanScheduleSnapshot(byte[] data) {
+        this.data = data;
+        int[] pos = { 0 };
+        if (data.length == 0) {
+            throw new IllegalArgumentException("empty snapshot");
+        }
+        this.formatVersion = data[pos[0]++] & 0xFF;
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("unsupported snapshot format: " + formatVersion);
+        }
+        this.roundCount = (int) readVarint(data, pos);
+        this.flags = (int) readVarint(data, pos);
+        this.autoTaxAnnual = readZigZag(data, pos);
+        this.autoTaxMonthly = readZigZag(data, pos);
+        this.envChargeMonthly = readZigZag(data, pos);
+        this.monthlyPayment = readZigZag(data, pos);
+        this.totalInterest = readZigZag(data, pos);
+        this.columnOffset = pos[0];
+    }
+
+    /**
+     * 스냅샷 헤더 읽기 (회차 컬럼은 조회 시 복원)
+     * @throws IllegalArgumentException 지원하지 않는 형식 버전이거나 손상된 경우
+     */
+    public static LoanScheduleSnapshot decode(byte[] data) {
+        return new LoanScheduleSnapshot(data);
+    }
+
+    /**
+     * 계산 결과를 스냅샷으로 변환
+     * @param summary 컬럼형 스케줄을 포함한 계산 결과 (calculateCompact)
+     */
+    public static byte[] encode(LoanSummaryVO summary) {
+        CompactAmortizationSchedule s = (CompactAmortizationSchedule) summary.getSchedule();
+        int n = s.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + n * 10);
+        out.write(FORMAT_VERSION);
+        writeVarint(out, n);
+        writeVarint(out, summary.getEnvChargeSemiAnnual() > 0 ? FLAG_ENV_CHARGE : 0);
+        writeZigZag(out, (long) summary.getAutoTaxAnnual());
+        writeZigZag(out, (long) summary.getAutoTaxMonthly());
+        writeZigZag(out, (long) summary.getEnvChargeMonthly());
+        writeZigZag(out, (long) summary.getMonthlyPayment());
+        writeZigZag(out, (long) summary.getTotalInterest());
+
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            long previous = 0;
+            for (int i = 0; i < n; i++) {
+                long value = columnValue(s, column, i);
+                writeZigZag(out, value - previous);
+                previous = value;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 회차 스케줄 복원 (최초 호출 시 1회)
+     */
+    public synchronized CompactAmortizationSchedule getSchedule() {
+        if (schedule == null) {
+            long[][] columns = new long[COLUMN_COUNT][roundCount];
+            int[] pos = { columnOffset };
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                long value = 0;
+                for (int i = 0; i < roundCount; i++) {
+                    value += readZigZag(data, pos);
+                    columns[column][i] = value;
+                }
+            }
+            CompactAmortizationSchedule decoded = new CompactAmortizationSchedule(roundCount);
+            for (int i = 0; i < roundCount; i++) {
+                decoded.add((int) columns[0][i], columns[1][i], columns[2][i], columns[3][i],
+                        columns[4][i], columns[5][i], columns[6][i]);
+            }
+            schedule = decoded;
+        }
+        return schedule;
+    }
+
+    /**
+     * 대출 조건과 스냅샷으로 계산 결과 복원 (재계산 없음)
+     * 금액은 모두 스냅샷 값을 사용하며 (총 상환 금액 = 회차 원금 합계 + 총 이자),
+     * 대출 조건에서는 표시용 입력값만 가져옴 (승인 건은 수정할 수 없으므로 승인 시점과 같음).
+     * 스냅샷에는 약정 상환일만 있으므로 영업일 조정은 현재 공휴일 달력으로 적용함.
+     * @param loan 저장된 대출 조건 (차량 가격, 선수금, 환경부담금 입력값, 상환일 조정 규칙)
+     * @param calendar 영업일 달력
+     */
+    public LoanSummaryVO toSummary(LoanInputVO loan, LoanHolidayCalendar calendar) {
+        CompactAmortizationSchedule rounds = getSchedule();
+        rounds.setBusinessDays(calendar, loan.getPaymentDayRule());
+        LoanSummaryVO summary = new LoanSummaryVO();
+        summary.setVehiclePrice(loan.getVehiclePrice());
+        summary.setDownPayment(loan.getDownPayment());
+        summary.setAutoTaxAnnual(autoTaxAnnual);
+        summary.setAutoTaxMonthly(autoTaxMonthly);
+        if ((flags & FLAG_ENV_CHARGE) != 0) {
+            summary.setEnvChargeSemiAnnual(loan.getEnvChargeSemiAnnual());
+            summary.setEnvChargeMonthly(envChargeMonthly);
+        }
+        if (roundCount > 0) {
+            summary.setMonthlyPayment(monthlyPayment);
+            summary.setTotalInterest(totalInterest);
+            long principal = 0;
+            for (int i = 0; i < roundCount; i++) {
+                principal += rounds.getPrincipalPayment(i);
+            }
+            summary.setTotalPayment(principal + totalInterest);
+        }
+        summary.setSchedule(rounds);
+        return summary;
+    }
+
+    private static long columnValue(CompactAmortizationSchedule s, int column, int i) {
+        switch (column) {
+            case 0: return s.getRound(i);
+            case 1: return s.getPaymentEpochDay(i);
+            case 2: return s.getPrincipalPayment(i);
+            case 3: return s.getInterestPayment(i);
+            case 4: return s.getRemainingBalance(i);
+            case 5: return s.getMonthlyTax(i);
+            default: return s.getMonthlyEnvCharge(i);
+        }
+    }
+
+    private static void writeZigZag(ByteArrayOutputStream out, long value) {
+        writeVarint(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readZigZag(byte[] data, int[] pos) {
+        long raw = readVarint(data, pos);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private static long readVarint(byte[] data, int[] pos) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos[0] >= data.length) {
+                throw new IllegalArgumentException("truncated snapshot");
+            }
+            byte b = data[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint in snapshot");
+    }
+
+    public int getFormatVersion() { return formatVersion; }
+    public int getRoundCount() { return roundCount; }
+    public int getEncodedSize() { return data.length; }
+    public long getMonthlyPayment() { return monthlyPayment; }
+    public long getAutoTaxMonthly() { return autoTaxMonthly; }
+    public long getEnvChargeMonthly() { return (flags & FLAG_ENV_CHARGE) != 0 ? envChargeMonthly : 0; }
+}
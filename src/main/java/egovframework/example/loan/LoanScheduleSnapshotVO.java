@@ -0,0 +1,30 @@
+package egovframework.example.loan;
+
+import java.util.Date;
+
+/**
+ * 상환 스케줄 스냅샷 VO (Value Object) - LOAN_SCHEDULE_SNAPSHOT 행
+ */
+public class LoanScheduleSnapshotVO {
+    private String id;                 // 대출 ID (LOAN_SCHEDULE.ID)
+    private int formatVersion;         // 스냅샷 형식 버전
+    private String rateVersion;        // 계산에 적용된 세율표 버전
+    private byte[] snapshot;           // 스냅샷 (LoanScheduleSnapshot 형식)
+    private Date createdAt;            // 생성 일시
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public int getFormatVersion() { return formatVersion; }
+    public void setFormatVersion(int formatVersion) { this.formatVersion = formatVersion; }
+
+    public String getRateVersion() { return rateVersion; }
+    public void setRateVersion(String rateVersion) { this.rateVersion = rateVersion; }
+
+    public byte[] getSnapshot() { return snapshot; }
+    public void setSnapshot(byte[] snapshot) { this.snapshot = snapshot; }
+
+    public Date getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Date createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,135 @@
+package egovframework.example.loan;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 금리 스트레스 계산 커널 (Stress Kernel)
+ * 대출 조건을 원시 타입 배열로 보관하고, 금리 경로 1개에 대해 전체 대출을 상환 스케줄 순서대로 진행함.
+ * 월 인덱스는 포트폴리오 공통 달력 월(첫 상환 월 = 0)이며, 같은 경로에서 모든 대출이 같은 달의 변동분을 적용받음.
+ * 이자 계산은 LoanCalculatorServiceImpl 과 같은 절사 규칙(floor(잔액 × 월 이자율), 마지막 회차 잔액 보정)을 따르고,
+ * 변동분이 0 이면 월 납입금을 다시 계산하지 않으므로 결과가 계산기와 원 단위까지 같음.
+ * 경로/월 버퍼는 호출 측(작업 단위)이 재사용하며 이 클래스는 생성 후 변경되지 않으므로 스레드 간 공유 가능.
+ */
+final class LoanStressKernel {
+
+    private static final double DT = 1.0 / 12.0; // 월 단위 시간 간격 (연)
+
+    private final double[] amount;       // 대출 원금
+    private final double[] annualRate;   // 약정 연 이자율 (%)
+    private final double[] payment;      // 약정 월 납입금 (절사 완료)
+    private final double[] charges;      // 월 자동차세 + 환경부담금
+    private final int[] term;            // 대출 기간 (개월)
+    private final int[] offset;          // 1회차 상환 월 인덱스
+    private final int months;            // 전체 월 수
+    private final int valuationIndex;    // 평가 월 인덱스 (이전 월은 변동분 0)
+
+    LoanStressKernel(double[] amount, double[] annualRate, double[] payment, double[] charges,
+            int[] term, int[] offset, int months, int valuationIndex) {
+        this.amount = amount;
+        this.annualRate = annualRate;
+        this.payment = payment;
+        this.charges = charges;
+        this.term = term;
+        this.offset = offset;
+        this.months = months;
+        this.valuationIndex = valuationIndex;
+    }
+
+    int getMonths() { return months; }
+    int getLoanCount() { return amount.length; }
+
+    /**
+     * 금리 변동분 경로 생성 (월별 %p)
+     * 평가 월 이전은 0, 이후는 x += κ(θ - x)Δt + σ√Δt·Z (Euler 이산화).
+     * @param random 경로 전용 난수 스트림
+     * @param shift 월별 변동분 (출력, 길이 months 이상)
+     */
+    void generatePath(SplittableRandom random, LoanStressScenarioVO scenario, double[] shift) {
+        double kappa = scenario.getMeanReversion();
+        double theta = scenario.getTargetShift();
+        double diffusion = scenario.getVolatility() * Math.sqrt(DT);
+        int first = Math.max(0, Math.min(valuationIndex, months));
+        Arrays.fill(shift, 0, first, 0);
+
+        double x = 0;
+        for (int m = first; m < months; m += 2) {
+            // Box-Muller: 균등 난수 2개로 표준 정규 난수 2개 생성
+            double u1 = 1.0 - random.nextDouble(); // (0, 1]
+            double u2 = random.nextDouble();
+            double radius = Math.sqrt(-2.0 * Math.log(u1));
+            double angle = 2.0 * Math.PI * u2;
+
+            x += kappa * (theta - x) * DT + diffusion * radius * Math.cos(angle);
+            shift[m] = x;
+            if (m + 1 < months) {
+                x += kappa * (theta - x) * DT + diffusion * radius * Math.sin(angle);
+                shift[m + 1] = x;
+            }
+        }
+    }
+
+    /**
+     * 경로 1개에 대한 포트폴리오 진행
+     * 1회차와 평가 월 이전 회차는 약정 이자율, 이후 resetMonths 회차마다 max(하한, 약정 이자율 + 변동분)으로 금리를 재산정하고,
+     * 금리가 바뀐 경우 남은 잔액/기간으로 월 납입금(PMT)을 다시 계산함.
+     * @param shift 월별 변동분 (%p, null 이면 모두 0)
+     * @param outflow 월별 상환액 합계 (출력, 길이 months 이상, 호출 시 초기화함)
+     * @return 평가 월 이후 총 이자
+     */
+    double simulate(double[] shift, double rateFloor, int resetMonths, double[] outflow) {
+        Arrays.fill(outflow, 0, months, 0);
+        double totalInterest = 0;
+
+        for (int j = 0; j < amount.length; j++) {
+            int n = term[j];
+            int base = offset[j] - 1; // 회차 i 의 월 인덱스 = base + i
+            double contract = annualRate[j];
+            double currentRate = contract;
+            double monthlyRate = (contract / 100.0) / 12.0;
+            double monthlyPayment = payment[j];
+            double balance = amount[j];
+            double fixed = charges[j];
+
+            for (int i = 1; i <= n; i++) {
+                int month = base + i;
+                if (shift != null && month >= valuationIndex && i > 1 && (i - 1) % resetMonths == 0) {
+                    double rate = Math.max(rateFloor, contract + shift[month]);
+                    if (rate != currentRate) {
+                        currentRate = rate;
+                        monthlyRate = (rate / 100.0) / 12.0;
+                        monthlyPayment = LoanCalculatorServiceImpl.monthlyPayment(balance, monthlyRate, n - i + 1);
+                    }
+                }
+
+                double interestPayment = Math.floor(balance * monthlyRate);
+                double principalPayment = monthlyPayment - interestPayment;
+                double paid = monthlyPayment;
+                if (i == n) {
+                    principalPayment = balance; // 마지막 회차 잔액 보정
+                    paid = principalPayment + interestPayment;
+                }
+                balance -= principalPayment;
+
+                outflow[month] += paid + fixed;
+                if (month >= valuationIndex) {
+                    totalInterest += interestPayment;
+                }
+            }
+        }
+        return totalInterest;
+    }
+
+    /**
+     * 평가 월 이후 최대 월 상환액
+     */
+    double peak(double[] outflow) {
+        double max = 0;
+        for (int m = Math.max(0, valuationIndex); m < months; m++) {
+            if (outflow[m] > max) {
+                max = outflow[m];
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,69 @@
+package egovframework.example.loan;
+
+/**
+ * 금리 스트레스 시뮬레이션 결과 VO (Value Object)
+ * 경로별 포트폴리오 합계(평가 월 이후 잔여 기간)의 분포 (백분위는 nearest-rank 기준).
+ * 기준값(base)은 변동분 0 경로, 즉 약정 이자율 그대로 상환하는 경우임.
+ */
+public class LoanStressResultVO {
+    private int pathCount;                 // 금리 경로 수
+    private int loanCount;                 // 대상 대출 건수
+    private long seed;                     // 난수 시드
+    private String valuationMonth;         // 평가 월 (yyyy-MM, 이전 회차는 약정 이자율로 확정)
+
+    private double baseTotalInterest;      // 기준 총 이자
+    private double totalInterestMean;      // 총 이자 평균
+    private double totalInterestP50;       // 총 이자 50 백분위
+    private double totalInterestP95;       // 총 이자 95 백분위
+    private double totalInterestP99;       // 총 이자 99 백분위
+
+    private double basePeakMonthlyOutflow; // 기준 최대 월 상환액 (원리금 + 세금 + 부담금)
+    private double peakMonthlyOutflowP50;  // 최대 월 상환액 50 백분위
+    private double peakMonthlyOutflowP95;  // 최대 월 상환액 95 백분위
+    private double peakMonthlyOutflowP99;  // 최대 월 상환액 99 백분위
+
+    private long elapsedMillis;            // 소요 시간 (ms)
+
+    // Getters and Setters
+    public int getPathCount() { return pathCount; }
+    public void setPathCount(int pathCount) { this.pathCount = pathCount; }
+
+    public int getLoanCount() { return loanCount; }
+    public void setLoanCount(int loanCount) { this.loanCount = loanCount; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public String getValuationMonth() { return valuationMonth; }
+    public void setValuationMonth(String valuationMonth) { this.valuationMonth = valuationMonth; }
+
+    public double getBaseTotalInterest() { return baseTotalInterest; }
+    public void setBaseTotalInterest(double baseTotalInterest) { this.baseTotalInterest = baseTotalInterest; }
+
+    public double getTotalInterestMean() { return totalInterestMean; }
+    public void setTotalInterestMean(double totalInterestMean) { this.totalInterestMean = totalInterestMean; }
+
+    public double getTotalInterestP50() { return totalInterestP50; }
+    public void setTotalInterestP50(double totalInterestP50) { this.totalInterestP50 = totalInterestP50; }
+
+    public double getTotalInterestP95() { return totalInterestP95; }
+    public void setTotalInterestP95(double totalInterestP95) { this.totalInterestP95 = totalInterestP95; }
+
+    public double getTotalInterestP99() { return totalInterestP99; }
+    public void setTotalInterestP99(double totalInterestP99) { this.totalInterestP99 = totalInterestP99; }
+
+    public double getBasePeakMonthlyOutflow() { return basePeakMonthlyOutflow; }
+    public void setBasePeakMonthlyOutflow(double basePeakMonthlyOutflow) { this.basePeakMonthlyOutflow = basePeakMonthlyOutflow; }
+
+    public double getPeakMonthlyOutflowP50() { return peakMonthlyOutflowP50; }
+    public void setPeakMonthlyOutflowP50(double peakMonthlyOutflowP50) { this.peakMonthlyOutflowP50 = peakMonthlyOutflowP50; }
+
+    public double getPeakMonthlyOutflowP95() { return peakMonthlyOutflowP95; }
+    public void setPeakMonthlyOutflowP95(double peakMonthlyOutflowP95) { this.peakMonthlyOutflowP95 = peakMonthlyOutflowP95; }
+
+    public double getPeakMonthlyOutflowP99() { return peakMonthlyOutflowP99; }
+    public void setPeakMonthlyOutflowP99(double peakMonthlyOutflowP99) { this.peakMonthlyOutflowP99 = peakMonthlyOutflowP99; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -0,0 +1,39 @@
+package egovframework.example.loan;
+
+/**
+ * 금리 스트레스 시나리오 VO (Value Object)
+ * 기준 금리 변동분(%p)이 평균 회귀 확률 과정(Vasicek 형태)을 따른다고 가정하고,
+ * 승인 대출의 약정 이자율에 변동분을 더한 금리로 재산정 주기마다 월 납입금을 다시 계산함.
+ * 같은 seed 와 경로 수이면 실행 환경(코어 수)과 무관하게 같은 결과가 나옴.
+ */
+public class LoanStressScenarioVO {
+    private int pathCount = LoanCode.STRESS_DEFAULT_PATHS;                // 금리 경로 수
+    private long seed = 1L;                                               // 난수 시드
+    private double volatility = LoanCode.STRESS_DEFAULT_VOLATILITY;       // 변동성 (연 %p)
+    private double meanReversion = LoanCode.STRESS_DEFAULT_MEAN_REVERSION; // 평균 회귀 속도 (연)
+    private double targetShift;                                           // 장기 평균 변동분 (%p, 0 이면 현재 수준으로 회귀)
+    private double rateFloor;                                             // 적용 금리 하한 (연 %)
+    private int resetMonths = LoanCode.STRESS_DEFAULT_RESET_MONTHS;       // 금리 재산정 주기 (개월)
+
+    // Getters and Setters
+    public int getPathCount() { return pathCount; }
+    public void setPathCount(int pathCount) { this.pathCount = pathCount; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public double getVolatility() { return volatility; }
+    public void setVolatility(double volatility) { this.volatility = volatility; }
+
+    public double getMeanReversion() { return meanReversion; }
+    public void setMeanReversion(double meanReversion) { this.meanReversion = meanReversion; }
+
+    public double getTargetShift() { return targetShift; }
+    public void setTargetShift(double targetShift) { this.targetShift = targetShift; }
+
+    public double getRateFloor() { return rateFloor; }
+    public void setRateFloor(double rateFloor) { this.rateFloor = rateFloor; }
+
+    public int getResetMonths() { return resetMonths; }
+    public void setResetMonths(int resetMonths) { this.resetMonths = resetMonths; }
+}
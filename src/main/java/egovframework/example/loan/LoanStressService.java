@@ -0,0 +1,19 @@
+package egovframework.example.loan;
+
+/**
+ * 금리 스트레스 시뮬레이션 서비스 인터페이스
+ * 승인된 대출 전체를 변동 금리로 가정하고 시드 기반 금리 경로를 병렬로 생성하여
+ * 포트폴리오 총 이자와 최대 월 상환액의 분포를 계산함.
+ */
+public interface LoanStressService {
+
+    /**
+     * 시뮬레이션 실행 (승인 대출을 읽어 원시 타입 배열로 적재 후 경로별 병렬 계산)
+     * @param scenario 시나리오 (경로 수, 시드, 변동성 등)
+     * @return 분포 요약
+     * @throws IllegalArgumentException 경로 수/재산정 주기/변동성이 허용 범위를 벗어난 경우
+     * @throws IllegalStateException 승인 대출 수가 LoanCode.STRESS_MAX_LOANS 를 넘는 경우
+     * @throws Exception
+     */
+    LoanStressResultVO simulate(LoanStressScenarioVO scenario) throws Exception;
+}
@@ -0,0 +1,263 @@
+package egovframework.example.loan;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import org.springframework.stereotype.Service;
+import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;
+
+/**
+ * 금리 스트레스 시뮬레이션 서비스 구현 클래스
+ * 대출별 약정 월 납입금/세금은 승인 스냅샷 헤더에서 읽고 (스냅샷이 없으면 계산기 요약 계산으로 한 번만 구함),
+ * 경로 계산은 LoanStressKernel 의 원시 타입 배열로 수행함.
+ * 경로별 난수 스트림은 시드로 만든 SplittableRandom 을 경로 순서대로 split 하여 미리 나누므로
+ * 작업 분할/스레드 수와 무관하게 같은 시드는 같은 결과를 냄.
+ * 경로 구간 단위로 Fork/Join 분할하며, 작업 단위마다 월별 버퍼(변동분, 상환액)를 하나씩만 할당하여 재사용함.
+ * 승인 건은 VO 목록으로 모으지 않고 조회 행마다 원시 타입 배열에 바로 적재하며, 최대 LoanCode.STRESS_MAX_LOANS 건까지만 허용함.
+ */
+@Service("loanStressService")
+public class LoanStressServiceImpl extends EgovAbstractServiceImpl implements LoanStressService {
+
+    @Resource(name = "loanManageService")
+    private LoanManageService loanManageService;
+
+    @Resource(name = "loanCalculatorService")
+    private LoanCalculatorService loanCalculatorService;
+
+    // 경로 계산용 공용 풀 (요청마다 만들지 않음, 동시 요청은 같은 풀을 나누어 사용)
+    private final ForkJoinPool pathPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @PreDestroy
+    public void shutdown() {
+        pathPool.shutdown(); // 컨텍스트 종료 시 풀 정리
+    }
+
+    /**
+     * 적재만 읽기 전용 트랜잭션(loanManageService)으로 실행하고, 경로 계산은 트랜잭션 종료(커넥션 반납) 후 수행함.
+     */
+    @Override
+    public LoanStressResultVO simulate(LoanStressScenarioVO scenario) throws Exception {
+        validate(scenario);
+        long started = System.nanoTime();
+
+        // 승인 건 전체를 스트리밍으로 읽어 계산 조건만 원시 타입 배열에 보관 (상한 초과 시 조회 중단)
+        YearMonth valuation = YearMonth.now();
+        final KernelLoader loader = new KernelLoader(valuation);
+        final boolean[] overflow = new boolean[1];
+        loanManageService.selectApprovedLoanScheduleList(context -> {
+            if (loader.size() >= LoanCode.STRESS_MAX_LOANS) {
+                overflow[0] = true;
+                context.stop();
+                return;
+            }
+            LoanManageVO loan = context.getResultObject();
+            loader.add(loan, loan.getScheduleSnapshot());
+        });
+        if (overflow[0]) {
+            throw new IllegalStateException("approved loans exceed " + LoanCode.STRESS_MAX_LOANS);
+        }
+        LoanStressKernel kernel = loader.build();
+
+        int pathCount = scenario.getPathCount();
+        SplittableRandom root = new SplittableRandom(scenario.getSeed());
+        SplittableRandom[] streams = new SplittableRandom[pathCount];
+        for (int p = 0; p < pathCount; p++) {
+            streams[p] = root.split();
+        }
+
+        double[] totalInterest = new double[pathCount];
+        double[] peakOutflow = new double[pathCount];
+        pathPool.invoke(new PathTask(kernel, scenario, streams, totalInterest, peakOutflow, 0, pathCount));
+
+        // 기준 경로 (변동분 0 - 약정 이자율 유지)
+        double[] baseOutflow = new double[kernel.getMonths()];
+        double baseInterest = kernel.simulate(null, scenario.getRateFloor(), scenario.getResetMonths(), baseOutflow);
+
+        LoanStressResultVO result = new LoanStressResultVO();
+        result.setPathCount(pathCount);
+        result.setLoanCount(kernel.getLoanCount());
+        result.setSeed(scenario.getSeed());
+        result.setValuationMonth(valuation.toString());
+        result.setBaseTotalInterest(baseInterest);
+        result.setBasePeakMonthlyOutflow(kernel.peak(baseOutflow));
+
+        double sum = 0;
+        for (double value : totalInterest) {
+            sum += value;
+        }
+        result.setTotalInterestMean(sum / pathCount);
+        Arrays.sort(totalInterest);
+        result.setTotalInterestP50(percentile(totalInterest, 50));
+        result.setTotalInterestP95(percentile(totalInterest, 95));
+        result.setTotalInterestP99(percentile(totalInterest, 99));
+        Arrays.sort(peakOutflow);
+        result.setPeakMonthlyOutflowP50(percentile(peakOutflow, 50));
+        result.setPeakMonthlyOutflowP95(percentile(peakOutflow, 95));
+        result.setPeakMonthlyOutflowP99(percentile(peakOutflow, 99));
+
+        result.setElapsedMillis((System.nanoTime() - started) / 1000000L);
+        egovLogger.info("stress simulation: {} paths x {} loans in {} ms",
+                pathCount, kernel.getLoanCount(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * 대출 목록 → 커널 (원시 타입 배열)
+     * 월 인덱스 0 은 가장 이른 1회차 상환 월과 평가 월 중 앞선 월.
+     */
+    LoanStressKernel load(List<? extends LoanInputVO> loans, YearMonth valuation) {
+        KernelLoader loader = new KernelLoader(valuation);
+        for (LoanInputVO loan : loans) {
+            loader.add(loan, null);
+        }
+        return loader.build();
+    }
+
+    /**
+     * 정렬된 배열의 백분위 (nearest-rank)
+     */
+    static double percentile(double[] sorted, double percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static int epochMonth(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    private static void validate(LoanStressScenarioVO scenario) {
+        if (scenario.getPathCount() <= 0 || scenario.getPathCount() > LoanCode.STRESS_MAX_PATHS) {
+            throw new IllegalArgumentException("pathCount must be 1.." + LoanCode.STRESS_MAX_PATHS);
+        }
+        if (scenario.getResetMonths() <= 0) {
+            throw new IllegalArgumentException("resetMonths must be positive");
+        }
+        if (scenario.getVolatility() < 0 || scenario.getMeanReversion() < 0) {
+            throw new IllegalArgumentException("volatility and meanReversion must not be negative");
+        }
+    }
+
+    /**
+     * 커널 적재 (한 건씩 추가, 배열은 필요할 때 두 배로 늘림)
+     */
+    private final class KernelLoader {
+        private final YearMonth valuation;
+        private final int valuationMonth;
+        private double[] amount = new double[16];
+        private double[] annualRate = new double[16];
+        private double[] payment = new double[16];
+        private double[] charges = new double[16];
+        private int[] term = new int[16];
+        private int[] firstMonth = new int[16];
+        private int count;
+        private int base;
+
+        KernelLoader(YearMonth valuation) {
+            this.valuation = valuation;
+            this.valuationMonth = epochMonth(valuation);
+            this.base = valuationMonth;
+        }
+
+        int size() { return count; }
+
+        /**
+         * @param snapshot 승인 스냅샷 (있으면 약정 월 납입금/세금/부담금을 스냅샷 값으로 사용, 없으면 null)
+         */
+        void add(LoanInputVO loan, byte[] snapshot) {
+            if (loan.getLoanAmount() <= 0 || loan.getTermMonths() <= 0) {
+                return; // 계산기도 빈 스케줄을 반환하는 건은 제외
+            }
+            if (count == amount.length) {
+                int capacity = count * 2;
+                amount = Arrays.copyOf(amount, capacity);
+                annualRate = Arrays.copyOf(annualRate, capacity);
+                payment = Arrays.copyOf(payment, capacity);
+                charges = Arrays.copyOf(charges, capacity);
+                term = Arrays.copyOf(term, capacity);
+                firstMonth = Arrays.copyOf(firstMonth, capacity);
+            }
+            if (snapshot != null) {
+                // 승인 시점 고정값 (헤더만 읽음, 회차 컬럼은 복원하지 않음)
+                LoanScheduleSnapshot fixed = LoanScheduleSnapshot.decode(snapshot);
+                payment[count] = fixed.getMonthlyPayment();
+                charges[count] = fixed.getAutoTaxMonthly() + fixed.getEnvChargeMonthly();
+            } else {
+                // 계산기와 같은 세율표 기준 (회차별 스케줄은 만들지 않음)
+                LoanSummaryVO summary = loanCalculatorService.calculateSummary(loan);
+                payment[count] = summary.getMonthlyPayment();
+                charges[count] = summary.getAutoTaxMonthly() + summary.getEnvChargeMonthly();
+            }
+            amount[count] = loan.getLoanAmount();
+            annualRate[count] = loan.getInterestRate();
+            term[count] = loan.getTermMonths();
+            YearMonth start = loan.getStartDate() != null
+                    ? YearMonth.from(loan.getStartDate().toInstant().atZone(ZoneId.systemDefault()))
+                    : valuation;
+            firstMonth[count] = epochMonth(start) + 1; // 1회차 = 실행일 다음 달
+            base = Math.min(base, firstMonth[count]);
+            count++;
+        }
+
+        LoanStressKernel build() {
+            int months = valuationMonth - base + 1;
+            int[] offset = new int[count];
+            for (int i = 0; i < count; i++) {
+                offset[i] = firstMonth[i] - base;
+                months = Math.max(months, offset[i] + term[i]);
+            }
+            return new LoanStressKernel(Arrays.copyOf(amount, count), Arrays.copyOf(annualRate, count),
+                    Arrays.copyOf(payment, count), Arrays.copyOf(charges, count), Arrays.copyOf(term, count),
+                    offset, months, valuationMonth - base);
+        }
+    }
+
+    /**
+     * 경로 분할 작업 (구간을 반으로 나누어 병렬 처리, 결과는 경로 인덱스 위치에 기록)
+     */
+    private static class PathTask extends RecursiveAction {
+        private final LoanStressKernel kernel;
+        private final LoanStressScenarioVO scenario;
+        private final SplittableRandom[] streams;
+        private final double[] totalInterest;
+        private final double[] peakOutflow;
+        private final int from;
+        private final int to;
+
+        PathTask(LoanStressKernel kernel, LoanStressScenarioVO scenario, SplittableRandom[] streams,
+                double[] totalInterest, double[] peakOutflow, int from, int to) {
+            this.kernel = kernel;
+            this.scenario = scenario;
+            this.streams = streams;
+            this.totalInterest = totalInterest;
+            this.peakOutflow = peakOutflow;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LoanCode.STRESS_SPLIT_PATHS) {
+                double[] shift = new double[kernel.getMonths()];
+                double[] outflow = new double[kernel.getMonths()];
+                for (int p = from; p < to; p++) {
+                    kernel.generatePath(streams[p], scenario, shift);
+                    totalInterest[p] = kernel.simulate(shift, scenario.getRateFloor(), scenario.getResetMonths(), outflow);
+                    peakOutflow[p] = kernel.peak(outflow);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new PathTask(kernel, scenario, streams, totalInterest, peakOutflow, from, mid),
+                    new PathTask(kernel, scenario, streams, totalInterest, peakOutflow, mid, to));
+        }
+    }
+}
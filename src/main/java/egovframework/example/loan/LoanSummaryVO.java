@@ -17,8 +17,10 @@ public class LoanSummaryVO {
     private double envChargeSemiAnnual;// 환경부담금 (반기)
     private double envChargeMonthly;   // 월 환경부담금
     
+    private double monthlyPayment;     // 월 납입금 (원금 + 이자, 마지막 회차 보정 전)
     private double totalInterest;      // 총 이자
     private double totalPayment;       // 총 상환 금액
+    private double prepaidPrincipal;   // 중도상환 원금 (재상환계획 산정 시, 총 상환 금액에 포함)
     private List<AmortizationScheduleItemVO> schedule; // 상환 스케줄 리스트
 
     // Getters and Setters
@@ -40,12 +42,18 @@ public class LoanSummaryVO {
     public double getEnvChargeMonthly() { return envChargeMonthly; }
     public void setEnvChargeMonthly(double envChargeMonthly) { this.envChargeMonthly = envChargeMonthly; }
 
+    public double getMonthlyPayment() { return monthlyPayment; }
+    public void setMonthlyPayment(double monthlyPayment) { this.monthlyPayment = monthlyPayment; }
+
     public double getTotalInterest() { return totalInterest; }
     public void setTotalInterest(double totalInterest) { this.totalInterest = totalInterest; }
 
     public double getTotalPayment() { return totalPayment; }
     public void setTotalPayment(double totalPayment) { this.totalPayment = totalPayment; }
 
+    public double getPrepaidPrincipal() { return prepaidPrincipal; }
+    public void setPrepaidPrincipal(double prepaidPrincipal) { this.prepaidPrincipal = prepaidPrincipal; }
+
     public List<AmortizationScheduleItemVO> getSchedule() { return schedule; }
     public void setSchedule(List<AmortizationScheduleItemVO> schedule) { this.schedule = schedule; }
 }
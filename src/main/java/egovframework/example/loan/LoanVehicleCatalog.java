@@ -0,0 +1,101 @@
+package egovframework.example.loan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 차량 카탈로그 스냅샷 (불변)
+ * 트림/옵션을 ID 와 모델 ID 로 색인해 두어 견적 요청마다 DB 를 조회하지 않음.
+ * 재적재 시 새 스냅샷을 만들어 통째로 교체하므로 (copy-on-write) 조회 측은 잠금 없이 사용함.
+ * 보관된 VO 는 여러 요청이 공유하므로 호출 측에서 수정하면 안 됨.
+ */
+public final class LoanVehicleCatalog {
+
+    private final long generation;                                   // 적재 세대 번호
+    private final Map<Integer, LoanVehicleTrimVO> trims;             // 트림 ID → 트림
+    private final Map<Integer, LoanVehicleOptionVO> options;         // 옵션 ID → 옵션
+    private final Map<Integer, List<LoanVehicleTrimVO>> modelTrims;  // 모델 ID → 트림 목록 (가격순)
+    private final Map<Integer, List<LoanVehicleOptionVO>> modelOptions; // 모델 ID → 옵션 목록 (가격순)
+
+    LoanVehicleCatalog(long generation, List<LoanVehicleTrimVO> trimList, List<LoanVehicleOptionVO> optionList) {
+        this.generation = generation;
+        Map<Integer, LoanVehicleTrimVO> trimIndex = new HashMap<>(trimList.size() * 2);
+        Map<Integer, List<LoanVehicleTrimVO>> trimsByModel = new HashMap<>();
+        for (LoanVehicleTrimVO trim : trimList) {
+            // 카탈로그 표기(Diesel 등)를 계산기 연료 코드(diesel 등)로 정규화
+            trim.setFuelType(trim.getFuelType() != null ? trim.getFuelType().trim().toLowerCase(Locale.ROOT) : null);
+            trimIndex.put(trim.getId(), trim);
+            trimsByModel.computeIfAbsent(trim.getModelId(), k -> new ArrayList<>()).add(trim);
+        }
+        Map<Integer, LoanVehicleOptionVO> optionIndex = new HashMap<>(optionList.size() * 2);
+        Map<Integer, List<LoanVehicleOptionVO>> optionsByModel = new HashMap<>();
+        for (LoanVehicleOptionVO option : optionList) {
+            optionIndex.put(option.getId(), option);
+            optionsByModel.computeIfAbsent(option.getModelId(), k -> new ArrayList<>()).add(option);
+        }
+        for (List<LoanVehicleTrimVO> list : trimsByModel.values()) {
+            list.sort((a, b) -> Double.compare(a.getPrice(), b.getPrice()));
+        }
+        for (List<LoanVehicleOptionVO> list : optionsByModel.values()) {
+            list.sort((a, b) -> Double.compare(a.getPrice(), b.getPrice()));
+        }
+        this.trims = Collections.unmodifiableMap(trimIndex);
+        this.options = Collections.unmodifiableMap(optionIndex);
+        this.modelTrims = unmodifiable(trimsByModel);
+        this.modelOptions = unmodifiable(optionsByModel);
+    }
+
+    /**
+     * 빈 카탈로그 (최초 적재 전)
+     */
+    static LoanVehicleCatalog empty() {
+        return new LoanVehicleCatalog(0, Collections.<LoanVehicleTrimVO>emptyList(),
+                Collections.<LoanVehicleOptionVO>emptyList());
+    }
+
+    /**
+     * 트림 조회 (없으면 null)
+     */
+    public LoanVehicleTrimVO getTrim(int trimId) {
+        return trims.get(trimId);
+    }
+
+    /**
+     * 옵션 조회 (없으면 null)
+     */
+    public LoanVehicleOptionVO getOption(int optionId) {
+        return options.get(optionId);
+    }
+
+    /**
+     * 모델별 트림 목록 (가격순, 없으면 빈 목록)
+     */
+    public List<LoanVehicleTrimVO> getTrims(int modelId) {
+        List<LoanVehicleTrimVO> list = modelTrims.get(modelId);
+        return list != null ? list : Collections.<LoanVehicleTrimVO>emptyList();
+    }
+
+    /**
+     * 모델별 옵션 목록 (가격순, 없으면 빈 목록)
+     */
+    public List<LoanVehicleOptionVO> getOptions(int modelId) {
+        List<LoanVehicleOptionVO> list = modelOptions.get(modelId);
+        return list != null ? list : Collections.<LoanVehicleOptionVO>emptyList();
+    }
+
+    public long getGeneration() { return generation; }
+    public int getTrimCount() { return trims.size(); }
+    public int getOptionCount() { return options.size(); }
+
+    private static <T> Map<Integer, List<T>> unmodifiable(Map<Integer, List<T>> source) {
+        Map<Integer, List<T>> result = new HashMap<>(source.size() * 2);
+        for (Map.Entry<Integer, List<T>> entry : source.entrySet()) {
+            result.put(entry.getKey(), Collections.unmodifiableList(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+}
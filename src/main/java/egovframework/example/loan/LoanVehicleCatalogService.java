@@ -0,0 +1,35 @@
+package egovframework.example.loan;
+
+import java.util.List;
+
+/**
+ * 차량 카탈로그 서비스 인터페이스
+ * 차량 테이블(원산지 → 제조사 → 차종 → 모델 → 트림/옵션)을 메모리 스냅샷으로 유지하여
+ * 트림/옵션 ID 만으로 계산기 입력값(차량 가격, 배기량, 연료 종류)을 채움.
+ */
+public interface LoanVehicleCatalogService {
+
+    /**
+     * 현재 카탈로그 스냅샷
+     * @return 카탈로그 (적재 전이면 빈 카탈로그)
+     */
+    LoanVehicleCatalog getCatalog();
+
+    /**
+     * 트림/옵션 기준으로 대출 입력값 설정 (DB 조회 없음)
+     * 차량 가격 = 트림 가격 + 선택 옵션 가격 합계, 배기량/연료 종류는 트림 값.
+     * 대출 원금이 입력되지 않은 경우(0 이하) 차량 가격 - 선수금으로 설정함.
+     * @param input 대출 입력 정보 (선수금, 이자율, 기간 등 입력 완료)
+     * @param trimId 트림 ID
+     * @param optionIds 선택 옵션 ID 목록 (null 이면 옵션 없음)
+     * @return 값이 설정된 input
+     * @throws IllegalArgumentException 없는 트림/옵션이거나 트림의 모델에 속하지 않는 옵션, 중복 옵션인 경우
+     */
+    LoanInputVO applyVehicle(LoanInputVO input, int trimId, List<Integer> optionIds);
+
+    /**
+     * 차량 테이블 재적재 (새 스냅샷으로 교체, 실패 시 기존 스냅샷 유지)
+     * @throws Exception
+     */
+    void reload() throws Exception;
+}
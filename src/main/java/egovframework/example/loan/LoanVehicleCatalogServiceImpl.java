@@ -0,0 +1,123 @@
+package egovframework.example.loan;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import org.springframework.stereotype.Service;
+import egovframework.rte.fdl.cmmn.EgovAbstractServiceImpl;
+
+/**
+ * 차량 카탈로그 서비스 구현 클래스
+ * 기동 시 차량 테이블을 한 번에 읽어 LoanVehicleCatalog 스냅샷을 만들고,
+ * LoanCode.VEHICLE_CATALOG_RELOAD_SECONDS 주기로 재적재하여 AtomicReference 로 교체함
+ * (견적 중인 요청은 기존 스냅샷 사용, 재적재 실패 시 기존 스냅샷 유지).
+ */
+@Service("loanVehicleCatalogService")
+public class LoanVehicleCatalogServiceImpl extends EgovAbstractServiceImpl implements LoanVehicleCatalogService {
+
+    @Resource(name = "loanVehicleMapper")
+    private LoanVehicleMapper loanVehicleMapper;
+
+    // 현재 카탈로그 스냅샷 (적재 전에는 빈 카탈로그)
+    private final AtomicReference<LoanVehicleCatalog> catalog = new AtomicReference<>(LoanVehicleCatalog.empty());
+
+    private ScheduledExecutorService reloadScheduler;
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 차량 테이블이 없어도 직접 입력 견적은 가능하므로 기동은 계속함
+            egovLogger.error("vehicle catalog load failed, starting with empty catalog", e);
+        }
+        reloadScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "loan-vehicle-catalog-reload");
+            t.setDaemon(true);
+            return t;
+        });
+        reloadScheduler.scheduleWithFixedDelay(this::reloadQuietly,
+                LoanCode.VEHICLE_CATALOG_RELOAD_SECONDS, LoanCode.VEHICLE_CATALOG_RELOAD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reloadScheduler != null) {
+            reloadScheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public LoanVehicleCatalog getCatalog() {
+        return catalog.get();
+    }
+
+    @Override
+    public LoanInputVO applyVehicle(LoanInputVO input, int trimId, List<Integer> optionIds) {
+        // 한 견적 안에서는 같은 스냅샷만 사용 (도중 교체되어도 트림/옵션이 섞이지 않음)
+        LoanVehicleCatalog current = catalog.get();
+        LoanVehicleTrimVO trim = current.getTrim(trimId);
+        if (trim == null) {
+            throw new IllegalArgumentException("unknown vehicle trim: " + trimId);
+        }
+
+        double price = trim.getPrice();
+        if (optionIds != null && !optionIds.isEmpty()) {
+            Set<Integer> seen = new HashSet<>(optionIds.size() * 2);
+            for (Integer optionId : optionIds) {
+                if (optionId == null) {
+                    continue;
+                }
+                LoanVehicleOptionVO option = current.getOption(optionId);
+                if (option == null) {
+                    throw new IllegalArgumentException("unknown vehicle option: " + optionId);
+                }
+                if (option.getModelId() != trim.getModelId()) {
+                    throw new IllegalArgumentException("vehicle option " + optionId + " does not belong to model " + trim.getModelId());
+                }
+                if (!seen.add(optionId)) {
+                    throw new IllegalArgumentException("duplicate vehicle option: " + optionId);
+                }
+                price += option.getPrice();
+            }
+        }
+
+        input.setVehiclePrice(price);
+        input.setEngineDisplacement(trim.getEngineDisplacement());
+        input.setFuelType(trim.getFuelType());
+        if (input.getLoanAmount() <= 0) {
+            // 대출 원금 미입력: 차량 가격 - 선수금
+            input.setLoanAmount(Math.max(0, price - input.getDownPayment()));
+        }
+        return input;
+    }
+
+    @Override
+    public void reload() throws Exception {
+        List<LoanVehicleTrimVO> trims = loanVehicleMapper.selectVehicleTrimList();
+        List<LoanVehicleOptionVO> options = loanVehicleMapper.selectVehicleOptionList();
+
+        LoanVehicleCatalog next = new LoanVehicleCatalog(catalog.get().getGeneration() + 1, trims, options);
+        catalog.set(next);
+        egovLogger.info("vehicle catalog loaded: {} trim(s), {} option(s), generation {}",
+                next.getTrimCount(), next.getOptionCount(), next.getGeneration());
+    }
+
+    /**
+     * 주기적 재적재 (스케줄러 전용, 실패 시 기존 스냅샷 유지)
+     */
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (Exception e) {
+            egovLogger.error("vehicle catalog reload failed, keeping previous catalog", e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package egovframework.example.loan;
+
+import java.util.List;
+import egovframework.rte.psl.dataaccess.mapper.Mapper;
+
+/**
+ * 차량 카탈로그 Mapper 인터페이스
+ * 카탈로그 전체를 한 번에 읽어 LoanVehicleCatalogService 의 메모리 스냅샷을 만드는 용도로만 사용함.
+ */
+@Mapper("loanVehicleMapper")
+public interface LoanVehicleMapper {
+
+    /**
+     * 전체 트림 조회 (모델/차종/제조사/원산지 이름 포함)
+     * @return 트림 목록 (ID 순)
+     * @throws Exception
+     */
+    List<LoanVehicleTrimVO> selectVehicleTrimList() throws Exception;
+
+    /**
+     * 전체 옵션 조회
+     * @return 옵션 목록 (ID 순)
+     * @throws Exception
+     */
+    List<LoanVehicleOptionVO> selectVehicleOptionList() throws Exception;
+}
@@ -0,0 +1,24 @@
+package egovframework.example.loan;
+
+/**
+ * 차량 옵션 VO (Value Object)
+ */
+public class LoanVehicleOptionVO {
+    private int id;                    // 옵션 ID
+    private String name;               // 옵션명
+    private double price;              // 옵션 가격
+    private int modelId;               // 적용 모델 ID
+
+    // Getters and Setters
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public double getPrice() { return price; }
+    public void setPrice(double price) { this.price = price; }
+
+    public int getModelId() { return modelId; }
+    public void setModelId(int modelId) { this.modelId = modelId; }
+}
@@ -0,0 +1,49 @@
+package egovframework.example.loan;
+
+/**
+ * 차량 트림 VO (Value Object)
+ * 차량 분류(원산지 → 제조사 → 차종 → 모델) 이름을 함께 보관함.
+ */
+public class LoanVehicleTrimVO {
+    private int id;                    // 트림 ID
+    private String name;               // 트림명
+    private int modelId;               // 모델 ID
+    private String modelName;          // 모델명
+    private String typeName;           // 차종 (Sedan, SUV 등)
+    private String manufacturerName;   // 제조사
+    private String originCode;         // 원산지 코드 (DOMESTIC, IMPORT)
+    private String fuelType;           // 연료 종류 (적재 시 LoanCode.FUEL_TYPE_* 형식으로 정규화)
+    private double price;              // 트림 가격
+    private int engineDisplacement;    // 배기량 (cc)
+
+    // Getters and Setters
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public int getModelId() { return modelId; }
+    public void setModelId(int modelId) { this.modelId = modelId; }
+
+    public String getModelName() { return modelName; }
+    public void setModelName(String modelName) { this.modelName = modelName; }
+
+    public String getTypeName() { return typeName; }
+    public void setTypeName(String typeName) { this.typeName = typeName; }
+
+    public String getManufacturerName() { return manufacturerName; }
+    public void setManufacturerName(String manufacturerName) { this.manufacturerName = manufacturerName; }
+
+    public String getOriginCode() { return originCode; }
+    public void setOriginCode(String originCode) { this.originCode = originCode; }
+
+    public String getFuelType() { return fuelType; }
+    public void setFuelType(String fuelType) { this.fuelType = fuelType; }
+
+    public double getPrice() { return price; }
+    public void setPrice(double price) { this.price = price; }
+
+    public int getEngineDisplacement() { return engineDisplacement; }
+    public void setEngineDisplacement(int engineDisplacement) { this.engineDisplacement = engineDisplacement; }
+}
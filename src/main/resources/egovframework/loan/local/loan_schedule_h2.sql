@@ -0,0 +1,34 @@
+-- 로컬 실행용 스키마 (H2, PostgreSQL 호환 모드) - local 프로파일에서 primary / replica 에 각각 생성
+-- 운영 스키마: database/*.sql
+-- RETURNING 을 쓰는 updateLoanStatusList (대량 승인) 는 H2 미지원
+-- ON CONFLICT (ID) 대상 지정도 H2 미지원 - sqlSessionFactory 에 loanDatabaseIdProvider (context-datasource.xml) 를 연결해야 h2 분기 사용
+-- 월별 파티션/DRAFT 보관 이전은 PostgreSQL 전용이므로 로컬은 단일 테이블 (파티션 관리 사용 안 함)
+CREATE TABLE IF NOT EXISTS LOAN_SCHEDULE (
+    ID                  VARCHAR(36)      NOT NULL PRIMARY KEY,
+    VEHICLE_PRICE       DOUBLE PRECISION NOT NULL,
+    DOWN_PAYMENT        DOUBLE PRECISION NOT NULL,
+    ENGINE_DISPLACEMENT INTEGER          NOT NULL,
+    FUEL_TYPE           VARCHAR(20)      NOT NULL,
+    ENV_CHARGE          DOUBLE PRECISION NOT NULL,
+    LOAN_AMOUNT         DOUBLE PRECISION NOT NULL,
+    INTEREST_RATE       DOUBLE PRECISION NOT NULL,
+    TERM_MONTHS         INTEGER          NOT NULL,
+    START_DATE          TIMESTAMP        NOT NULL,
+    REG_DATE            TIMESTAMP        NOT NULL,
+    STATUS              VARCHAR(20)      NOT NULL
+);
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_REG ON LOAN_SCHEDULE (REG_DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_STATUS_REG ON LOAN_SCHEDULE (STATUS, REG_DATE, ID);
+CREATE INDEX IF NOT EXISTS IDX_LOAN_SCHEDULE_FUEL_REG ON LOAN_SCHEDULE (FUEL_TYPE, REG_DATE, ID);
+
+CREATE TABLE IF NOT EXISTS LOAN_SCHEDULE_SNAPSHOT (
+    ID              VARCHAR(36)  NOT NULL,
+    FORMAT_VERSION  SMALLINT     NOT NULL,
+    RATE_VERSION    VARCHAR(32)  NOT NULL,
+    SNAPSHOT        BYTEA        NOT NULL,
+    CREATED_AT      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT PK_LOAN_SCHEDULE_SNAPSHOT PRIMARY KEY (ID),
+    CONSTRAINT FK_LOAN_SCHEDULE_SNAPSHOT_ID FOREIGN KEY (ID)
+        REFERENCES LOAN_SCHEDULE (ID) ON DELETE CASCADE
+);
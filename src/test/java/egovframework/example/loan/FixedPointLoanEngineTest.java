@@ -0,0 +1,82 @@
+package egovframework.example.loan;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import org.junit.Test;
+
+/**
+ * 고정소수점 엔진 검증
+ * 기대값은 정확한 유리수 계산으로 따로 구한 값이며, 정수 연산만 사용하므로 JVM/플랫폼과 무관하게 같아야 함.
+ * double 계산 경로와 결과가 갈리는 입력(월 이자 경계)을 포함하여 엔진이 double 로 계산하지 않음을 확인함.
+ */
+public class FixedPointLoanEngineTest {
+
+    @Test
+    public void scaledRateRoundsHalfUpAtSixDecimals() {
+        assertEquals(4500000L, FixedPointLoanEngine.toScaledRate(4.5));
+        assertEquals(100000L, FixedPointLoanEngine.toScaledRate(0.1));        // 0.1 의 10진 표기 기준
+        assertEquals(5000000L, FixedPointLoanEngine.toScaledRate(4.9999995)); // 7번째 자리 반올림
+        assertEquals(4999999L, FixedPointLoanEngine.toScaledRate(4.9999994));
+    }
+
+    @Test
+    public void monthlyPaymentIsExactFloor() {
+        assertEquals(892407L, FixedPointLoanEngine.monthlyPayment(30000000L, 4500000L, 36));
+        assertEquals(694308L, FixedPointLoanEngine.monthlyPayment(36000000L, 5900000L, 60));
+        assertEquals(187841L, FixedPointLoanEngine.monthlyPayment(12345678L, 7250000L, 84));
+        assertEquals(1428571L, FixedPointLoanEngine.monthlyPayment(10000000L, 0L, 7)); // 무이자
+    }
+
+    @Test
+    public void monthlyInterestIsExactFloor() {
+        assertEquals(109575L, FixedPointLoanEngine.monthlyInterest(29220093L, 4500000L));
+        // floor(16,104,000 × 0.7 / 1200) = 9394 (double 계산 floor(16104000 × (0.007 / 12)) 는 9393)
+        assertEquals(9394L, FixedPointLoanEngine.monthlyInterest(16104000L, 700000L));
+    }
+
+    @Test
+    public void calculateMatchesExpectedRows() {
+        LoanInputVO input = LoanTestSupport.newLoan(16104000, 0.7, 12, LocalDate.of(2025, 3, 10));
+        input.setEngineDisplacement(1998);
+        LoanSummaryVO summary = FixedPointLoanEngine.calculate(input, LoanRateTable.defaults());
+
+        assertEquals(1347093.0, summary.getMonthlyPayment(), 0);
+        assertEquals(61120.0, summary.getTotalInterest(), 0); // double 경로는 61119
+        assertEquals(16165120.0, summary.getTotalPayment(), 0);
+        assertEquals(519480.0, summary.getAutoTaxAnnual(), 0); // 1998cc × 200원 + 지방교육세 30%
+        assertEquals(43290.0, summary.getAutoTaxMonthly(), 0);
+
+        CompactAmortizationSchedule schedule = (CompactAmortizationSchedule) summary.getSchedule();
+        assertEquals(12, schedule.size());
+        // 회차, 원금, 이자, 잔액
+        long[][] expected = {
+            { 1, 1337699L, 9394L, 14766301L },
+            { 2, 1338480L, 8613L, 13427821L },
+            { 12, 1346312L, 785L, 0L },
+        };
+        for (long[] row : expected) {
+            int index = (int) row[0] - 1;
+            assertEquals(row[0], schedule.getRound(index));
+            assertEquals(row[1], schedule.getPrincipalPayment(index));
+            assertEquals(row[2], schedule.getInterestPayment(index));
+            assertEquals(row[3], schedule.getRemainingBalance(index));
+            assertEquals(43290L, schedule.getMonthlyTax(index));
+        }
+        assertEquals(LocalDate.of(2025, 4, 10).toEpochDay(), schedule.getPaymentEpochDay(0));
+        assertEquals(LocalDate.of(2026, 3, 10).toEpochDay(), schedule.getPaymentEpochDay(11));
+    }
+
+    @Test
+    public void calculateReturnsEmptyScheduleWithoutAmount() {
+        LoanInputVO input = LoanTestSupport.newLoan(0, 4.5, 12, LocalDate.of(2025, 3, 10));
+        LoanSummaryVO summary = FixedPointLoanEngine.calculate(input, LoanRateTable.defaults());
+        assertEquals(0, summary.getSchedule().size());
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void calculateRejectsNaNAmount() {
+        LoanInputVO input = LoanTestSupport.newLoan(Double.NaN, 4.5, 12, LocalDate.of(2025, 3, 10));
+        FixedPointLoanEngine.calculate(input, LoanRateTable.defaults());
+    }
+}
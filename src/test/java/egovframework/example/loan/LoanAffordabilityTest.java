@@ -0,0 +1,103 @@
+package egovframework.example.loan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * 최대 대출 가능 금액 역산 (solveMaxLoanAmount) 검증
+ * 산정 금액으로 만든 전체 스케줄의 모든 회차(마지막 회차 잔액 보정 포함) 월 총 지출액이 목표액 이하인지 확인함.
+ * 기대값은 회차 스케줄을 금액별로 직접 만들어 찾은 최대 원금 (1600cc 휘발유, 월 자동차세 24,266원).
+ */
+public class LoanAffordabilityTest {
+
+    private static LoanCalculatorServiceImpl calculator;
+
+    // 이자율, 기간, 목표액, 최대 원금, 최대 월 총 지출액
+    // 월 납입금(PMT)만 보면 더 큰 원금도 가능하지만 마지막 회차 지출액이 목표를 넘는 경우
+    // (괄호: PMT 기준 최대 원금 → 마지막 회차 포함 최대 지출액)
+    private static final double[][] EXPECTED = {
+        { 9.2, 21, 929485, 17496520, 929485 },   // (17,496,530 → 929,497)
+        { 5.9, 75, 666254, 40187590, 666254 },   // (40,187,623 → 666,302)
+        { 6.0, 54, 1398850, 64909738, 1398850 }, // (64,909,762 → 1,398,879)
+        { 8.0, 26, 1413712, 33067208, 1413712 }, // (33,067,219 → 1,413,724)
+    };
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        calculator = LoanTestSupport.newCalculator();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        calculator.shutdown();
+    }
+
+    private static LoanInputVO input(double interestRate, int termMonths) {
+        LoanInputVO input = new LoanInputVO();
+        input.setInterestRate(interestRate);
+        input.setTermMonths(termMonths);
+        input.setEngineDisplacement(1600);
+        input.setFuelType(LoanCode.FUEL_TYPE_GASOLINE);
+        return input;
+    }
+
+    @Test
+    public void solveMatchesExpectedRows() {
+        for (double[] row : EXPECTED) {
+            LoanInputVO input = input(row[0], (int) row[1]);
+            LoanAffordabilityVO result = calculator.solveMaxLoanAmount(input, row[2]);
+            assertTrue(result.isFeasible());
+            assertEquals(24266.0, result.getMonthlyTax(), 0);
+            assertEquals(row[3], result.getMaxLoanAmount(), 0);
+            assertEquals(row[4], result.getTotalMonthlyOutflow(), 0);
+            assertEquals(row[4], maxOutflow(input, row[3]), 0);
+            assertTrue(maxOutflow(input, row[3] + 1) > row[2]);
+        }
+    }
+
+    @Test
+    public void solvedAmountNeverExceedsTarget() {
+        Random random = new Random(7); // 고정 시드 (재현 가능)
+        int feasible = 0;
+        for (int k = 0; k < 300; k++) {
+            LoanInputVO input = input(3.9 + random.nextInt(61) / 10.0, 12 + random.nextInt(73));
+            double target = 100000 + random.nextInt(1500000);
+            LoanAffordabilityVO result = calculator.solveMaxLoanAmount(input, target);
+            if (!result.isFeasible()) {
+                continue;
+            }
+            feasible++;
+            double outflow = maxOutflow(input, result.getMaxLoanAmount());
+            String message = input.getInterestRate() + "% " + input.getTermMonths() + "m target " + target;
+            assertTrue(message, outflow <= target);
+            assertEquals(message, outflow, result.getTotalMonthlyOutflow(), 0);
+            assertTrue(message, maxOutflow(input, result.getMaxLoanAmount() + 1) > target);
+        }
+        assertTrue(feasible > 250);
+    }
+
+    @Test
+    public void solveIsInfeasibleWhenChargesExceedTarget() {
+        LoanAffordabilityVO result = calculator.solveMaxLoanAmount(input(5.0, 36), 20000);
+        assertFalse(result.isFeasible());
+        assertEquals(0.0, result.getMaxLoanAmount(), 0);
+    }
+
+    /**
+     * 원금으로 만든 전체 스케줄의 최대 월 총 지출액
+     */
+    private static double maxOutflow(LoanInputVO input, double loanAmount) {
+        input.setLoanAmount(loanAmount);
+        double max = 0;
+        for (AmortizationScheduleItemVO item : calculator.calculateEqualPrincipalAndInterest(input).getSchedule()) {
+            max = Math.max(max, item.getTotalMonthlyOutflow());
+        }
+        return max;
+    }
+}
@@ -0,0 +1,110 @@
+package egovframework.example.loan;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * 회차 임의 조회 (calculateRounds) 검증
+ * 체크포인트에서 재계산한 회차가 1회차부터 순차 계산한 값과 원 단위까지 같은지 확인함.
+ * 기대값은 3,000만원 / 연 4.5% / 36개월, 실행일 2025-01-31 (말일 보정, 기본 규칙 MODIFIED_FOLLOWING) 기준으로
+ * 정확한 유리수 계산으로 따로 구한 값 (월 납입금 892,407원, 총 이자 2,126,661원).
+ */
+public class LoanCalculatorRoundsTest {
+
+    private static LoanCalculatorServiceImpl calculator;
+
+    // 회차, 원금, 이자, 잔액, 약정 상환일, 조정 상환일
+    private static final Object[][] EXPECTED = {
+        { 1, 779907L, 112500L, 29220093L, "2025-02-28", "2025-02-28" },
+        { 2, 782832L, 109575L, 28437261L, "2025-03-28", "2025-03-28" },
+        { 11, 809653L, 82754L, 21258338L, "2025-12-28", "2025-12-29" },  // 일요일 → 다음 영업일
+        { 12, 812689L, 79718L, 20445649L, "2026-01-28", "2026-01-28" },  // 체크포인트 직전
+        { 13, 815736L, 76671L, 19629913L, "2026-02-28", "2026-02-27" },  // 토요일, 월이 바뀌므로 이전 영업일
+        { 14, 818795L, 73612L, 18811118L, "2026-03-28", "2026-03-30" },
+        { 35, 885752L, 6655L, 889082L, "2027-12-28", "2027-12-28" },
+        { 36, 889082L, 3334L, 0L, "2028-01-28", "2028-01-31" },           // 마지막 회차 잔액 보정, 설날 연휴 → 다음 영업일
+    };
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        calculator = LoanTestSupport.newCalculator();
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        calculator.shutdown();
+    }
+
+    private static LoanInputVO loan() {
+        return LoanTestSupport.newLoan(30000000, 4.5, 36, LocalDate.of(2025, 1, 31));
+    }
+
+    @Test
+    public void calculateRoundsMatchesExpectedRows() {
+        for (Object[] row : EXPECTED) {
+            int round = (Integer) row[0];
+            List<AmortizationScheduleItemVO> rounds = calculator.calculateRounds(loan(), round, round);
+            assertEquals(1, rounds.size());
+            assertRow(row, rounds.get(0));
+        }
+    }
+
+    @Test
+    public void calculateRoundsAcrossCheckpointMatchesExpectedRows() {
+        List<AmortizationScheduleItemVO> rounds = calculator.calculateRounds(loan(), 11, 14);
+        assertEquals(4, rounds.size());
+        for (int i = 0; i < 4; i++) {
+            assertRow(EXPECTED[i + 2], rounds.get(i));
+        }
+    }
+
+    @Test
+    public void calculateRoundsMatchesSequentialSchedule() {
+        LoanSummaryVO summary = calculator.calculateEqualPrincipalAndInterest(loan());
+        assertEquals(892407.0, summary.getMonthlyPayment(), 0);
+        assertEquals(2126661.0, summary.getTotalInterest(), 0);
+
+        List<AmortizationScheduleItemVO> sequential = summary.getSchedule();
+        assertEquals(36, sequential.size());
+        for (int from = 1; from <= 36; from += 5) {
+            int to = Math.min(36, from + 7);
+            List<AmortizationScheduleItemVO> rounds = calculator.calculateRounds(loan(), from, to);
+            assertEquals(to - from + 1, rounds.size());
+            for (int i = 0; i < rounds.size(); i++) {
+                AmortizationScheduleItemVO expected = sequential.get(from - 1 + i);
+                AmortizationScheduleItemVO actual = rounds.get(i);
+                assertEquals(expected.getRound(), actual.getRound());
+                assertEquals(expected.getPrincipalPayment(), actual.getPrincipalPayment(), 0);
+                assertEquals(expected.getInterestPayment(), actual.getInterestPayment(), 0);
+                assertEquals(expected.getRemainingBalance(), actual.getRemainingBalance(), 0);
+                assertEquals(expected.getPaymentDate(), actual.getPaymentDate());
+                assertEquals(expected.getAdjustedPaymentDate(), actual.getAdjustedPaymentDate());
+            }
+        }
+    }
+
+    @Test
+    public void calculateRoundsClipsOutOfRange() {
+        assertEquals(0, calculator.calculateRounds(loan(), 37, 40).size());
+        assertEquals(2, calculator.calculateRounds(loan(), 35, 99).size());
+    }
+
+    private static void assertRow(Object[] expected, AmortizationScheduleItemVO actual) {
+        assertEquals(((Integer) expected[0]).intValue(), actual.getRound());
+        assertEquals((Long) expected[1], actual.getPrincipalPayment(), 0);
+        assertEquals((Long) expected[2], actual.getInterestPayment(), 0);
+        assertEquals((Long) expected[3], actual.getRemainingBalance(), 0);
+        assertEquals(date((String) expected[4]), actual.getPaymentDate());
+        assertEquals(date((String) expected[5]), actual.getAdjustedPaymentDate());
+    }
+
+    private static Date date(String value) {
+        return LoanTestSupport.toDate(LocalDate.parse(value));
+    }
+}
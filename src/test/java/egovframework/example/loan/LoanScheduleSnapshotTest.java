@@ -0,0 +1,127 @@
+package egovframework.example.loan;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.junit.Test;
+
+/**
+ * 승인 스냅샷 인코딩/디코딩 검증
+ * 형식 버전 1 의 바이트 배열을 고정하고, 복원한 헤더/회차 컬럼이 인코딩 전 값과 정확히 같은지 확인함.
+ */
+public class LoanScheduleSnapshotTest {
+
+    // 2회차 스케줄의 형식 버전 1 인코딩 (헤더 → 컬럼별 직전 값과의 차이 zigzag varint)
+    private static final byte[] TWO_ROUNDS = {
+        0x01, 0x02, 0x01,                                                   // 버전, 회차 수, 플래그 (환경부담금)
+        0x78, 0x0A, 0x06, (byte) 0xC4, 0x09, 0x1C,                          // 60, 5, 3, 610, 14
+        0x02, 0x02,                                                         // 회차 1, 2
+        (byte) 0xC0, (byte) 0xB8, 0x02, 0x3E,                               // 상환일 20000, +31
+        (byte) 0xB0, 0x09, (byte) 0x8F, 0x03,                               // 원금 600, -200
+        0x14, 0x0B,                                                         // 이자 10, -6
+        (byte) 0xA0, 0x06, (byte) 0x9F, 0x06,                               // 잔액 400, -400
+        0x0A, 0x00,                                                         // 자동차세 5, +0
+        0x06, 0x00,                                                         // 환경부담금 3, +0
+    };
+
+    private static LoanSummaryVO twoRounds() {
+        CompactAmortizationSchedule schedule = new CompactAmortizationSchedule(2);
+        schedule.add(1, 20000, 600, 10, 400, 5, 3);
+        schedule.add(2, 20031, 400, 4, 0, 5, 3);
+        LoanSummaryVO summary = new LoanSummaryVO();
+        summary.setAutoTaxAnnual(60);
+        summary.setAutoTaxMonthly(5);
+        summary.setEnvChargeSemiAnnual(18);
+        summary.setEnvChargeMonthly(3);
+        summary.setMonthlyPayment(610);
+        summary.setTotalInterest(14);
+        summary.setSchedule(schedule);
+        return summary;
+    }
+
+    @Test
+    public void encodeMatchesFormatVersion1Bytes() {
+        assertArrayEquals(TWO_ROUNDS, LoanScheduleSnapshot.encode(twoRounds()));
+    }
+
+    @Test
+    public void decodeRestoresHeaderAndRows() {
+        LoanScheduleSnapshot snapshot = LoanScheduleSnapshot.decode(TWO_ROUNDS);
+        assertEquals(LoanScheduleSnapshot.FORMAT_VERSION, snapshot.getFormatVersion());
+        assertEquals(2, snapshot.getRoundCount());
+        assertEquals(TWO_ROUNDS.length, snapshot.getEncodedSize());
+        assertEquals(610L, snapshot.getMonthlyPayment());
+        assertEquals(5L, snapshot.getAutoTaxMonthly());
+        assertEquals(3L, snapshot.getEnvChargeMonthly());
+
+        CompactAmortizationSchedule rounds = snapshot.getSchedule();
+        assertEquals(2, rounds.size());
+        // 회차, 상환일, 원금, 이자, 잔액, 자동차세, 환경부담금
+        long[][] expected = { { 1, 20000, 600, 10, 400, 5, 3 }, { 2, 20031, 400, 4, 0, 5, 3 } };
+        for (int i = 0; i < 2; i++) {
+            assertArrayEquals(expected[i], row(rounds, i));
+        }
+
+        LoanInputVO loan = new LoanInputVO();
+        loan.setEnvChargeSemiAnnual(18);
+        LoanSummaryVO summary = snapshot.toSummary(loan, LoanHolidayCalendar.weekendsOnly());
+        assertEquals(1014.0, summary.getTotalPayment(), 0); // 원금 합계 1,000 + 총 이자 14
+        assertEquals(60.0, summary.getAutoTaxAnnual(), 0);
+        assertEquals(18.0, summary.getEnvChargeSemiAnnual(), 0);
+    }
+
+    @Test
+    public void calculatedScheduleRoundTripsExactly() throws Exception {
+        LoanCalculatorServiceImpl calculator = LoanTestSupport.newCalculator();
+        try {
+            LoanInputVO input = LoanTestSupport.newLoan(36000000, 5.9, 60, LocalDate.of(2025, 1, 31));
+            input.setEngineDisplacement(2199);
+            input.setFuelType(LoanCode.FUEL_TYPE_DIESEL);
+            input.setEnvChargeSemiAnnual(120000);
+            LoanSummaryVO original = calculator.calculateCompact(input);
+            CompactAmortizationSchedule expected = (CompactAmortizationSchedule) original.getSchedule();
+
+            byte[] data = LoanScheduleSnapshot.encode(original);
+            LoanScheduleSnapshot snapshot = LoanScheduleSnapshot.decode(data);
+            CompactAmortizationSchedule actual = snapshot.getSchedule();
+            assertEquals(60, actual.size());
+            for (int i = 0; i < 60; i++) {
+                assertArrayEquals("round " + (i + 1), row(expected, i), row(actual, i));
+            }
+            assertEquals((long) original.getMonthlyPayment(), snapshot.getMonthlyPayment());
+            assertEquals((long) original.getAutoTaxMonthly(), snapshot.getAutoTaxMonthly());
+            assertEquals((long) original.getEnvChargeMonthly(), snapshot.getEnvChargeMonthly());
+
+            LoanSummaryVO restored = snapshot.toSummary(input, LoanHolidayCalendar.weekendsOnly());
+            assertEquals(original.getTotalInterest(), restored.getTotalInterest(), 0);
+            assertEquals(original.getTotalPayment(), restored.getTotalPayment(), 0);
+            assertArrayEquals(data, LoanScheduleSnapshot.encode(restored)); // 다시 인코딩해도 같은 바이트
+        } finally {
+            calculator.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsUnknownVersion() {
+        byte[] data = TWO_ROUNDS.clone();
+        data[0] = 2;
+        LoanScheduleSnapshot.decode(data);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsEmptyData() {
+        LoanScheduleSnapshot.decode(new byte[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getScheduleRejectsTruncatedColumns() {
+        LoanScheduleSnapshot.decode(Arrays.copyOf(TWO_ROUNDS, TWO_ROUNDS.length - 1)).getSchedule();
+    }
+
+    private static long[] row(CompactAmortizationSchedule s, int i) {
+        return new long[] { s.getRound(i), s.getPaymentEpochDay(i), s.getPrincipalPayment(i), s.getInterestPayment(i),
+                s.getRemainingBalance(i), s.getMonthlyTax(i), s.getMonthlyEnvCharge(i) };
+    }
+}
@@ -0,0 +1,68 @@
+package egovframework.example.loan;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 테스트 공통 지원 (Spring 컨텍스트 없이 서비스 구성)
+ */
+final class LoanTestSupport {
+
+    private LoanTestSupport() {
+        // 인스턴스화 방지
+    }
+
+    /**
+     * 세율표/상환일 달력/지표 서비스가 주입된 계산기 서비스 생성 (classpath 의 세율표/공휴일 파일 사용)
+     */
+    static LoanCalculatorServiceImpl newCalculator() throws Exception {
+        LoanRateTableServiceImpl rateTableService = new LoanRateTableServiceImpl();
+        rateTableService.reload();
+        LoanPaymentCalendarServiceImpl paymentCalendarService = new LoanPaymentCalendarServiceImpl();
+        paymentCalendarService.reload();
+
+        LoanCalculatorServiceImpl calculator = new LoanCalculatorServiceImpl();
+        inject(calculator, "loanRateTableService", rateTableService);
+        inject(calculator, "loanPaymentCalendarService", paymentCalendarService);
+        inject(calculator, "loanMetricsService", new LoanMetricsServiceImpl());
+        return calculator;
+    }
+
+    /**
+     * @Resource 필드 주입 (Spring 대신 직접 설정)
+     */
+    static void inject(Object target, String fieldName, Object value) throws Exception {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+
+    /**
+     * 대출 입력 (세금/부담금 없음, 실행일 고정)
+     */
+    static LoanInputVO newLoan(double loanAmount, double interestRate, int termMonths, LocalDate startDate) {
+        LoanInputVO input = new LoanInputVO();
+        input.setVehiclePrice(loanAmount);
+        input.setLoanAmount(loanAmount);
+        input.setInterestRate(interestRate);
+        input.setTermMonths(termMonths);
+        input.setFuelType(LoanCode.FUEL_TYPE_GASOLINE);
+        input.setStartDate(toDate(startDate));
+        return input;
+    }
+
+    static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}